@@ -0,0 +1,66 @@
+package io.cucumber.core.benchmarks;
+
+import io.cucumber.core.feature.CucumberFeature;
+import io.cucumber.core.feature.FeatureParser;
+import io.cucumber.core.io.Resource;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.net.URI;
+import java.util.List;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Arrays.asList;
+
+/**
+ * Generates features with a predictable shape. Each scenario is tagged with
+ * {@code @scenario-<n>} and either {@code @even} or {@code @odd} and has three
+ * steps matching {@link #STEP_PATTERNS}.
+ */
+public final class Features {
+
+    public static final List<String> STEP_PATTERNS = asList(
+        "I have {int} cukes in my belly",
+        "I eat {int} cukes",
+        "I have {int} cukes left"
+    );
+
+    private Features() {
+
+    }
+
+    public static String generate(int scenarios) {
+        StringBuilder source = new StringBuilder();
+        source.append("@generated\n");
+        source.append("Feature: Generated feature\n\n");
+        for (int i = 0; i < scenarios; i++) {
+            int eaten = i % 10;
+            source.append("  @scenario-").append(i).append(i % 2 == 0 ? " @even" : " @odd").append('\n');
+            source.append("  Scenario: Generated scenario ").append(i).append('\n');
+            source.append("    Given I have 42 cukes in my belly\n");
+            source.append("    When I eat ").append(eaten).append(" cukes\n");
+            source.append("    Then I have ").append(42 - eaten).append(" cukes left\n\n");
+        }
+        return source.toString();
+    }
+
+    public static Resource resource(String path, String source) {
+        URI uri = URI.create("file:" + path);
+        byte[] bytes = source.getBytes(UTF_8);
+        return new Resource() {
+            @Override
+            public URI getPath() {
+                return uri;
+            }
+
+            @Override
+            public InputStream getInputStream() {
+                return new ByteArrayInputStream(bytes);
+            }
+        };
+    }
+
+    public static CucumberFeature parse(String path, String source) {
+        return FeatureParser.parseResource(resource(path, source));
+    }
+}
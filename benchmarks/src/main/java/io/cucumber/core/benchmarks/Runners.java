@@ -0,0 +1,85 @@
+package io.cucumber.core.benchmarks;
+
+import io.cucumber.core.backend.Backend;
+import io.cucumber.core.backend.ObjectFactory;
+import io.cucumber.core.backend.StepDefinition;
+import io.cucumber.core.eventbus.EventBus;
+import io.cucumber.core.runner.Options;
+import io.cucumber.core.runner.Runner;
+import io.cucumber.core.snippets.SnippetType;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.util.List;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+
+/**
+ * Creates runners without a runtime.
+ */
+public final class Runners {
+
+    private Runners() {
+
+    }
+
+    /**
+     * Creates a runner that executes stub step definitions.
+     */
+    public static Runner create(EventBus bus, List<? extends StepDefinition> stepDefinitions) {
+        return create(bus, new StubBackend(stepDefinitions), new SimpleObjectFactory(), emptyList());
+    }
+
+    /**
+     * Creates a runner that loads glue from the glue path with a backend.
+     */
+    public static Runner create(EventBus bus, Backend backend, ObjectFactory objectFactory, List<URI> glue) {
+        return new Runner(
+            bus,
+            singletonList(backend),
+            objectFactory,
+            typeRegistry -> {
+            },
+            new StubOptions(glue)
+        );
+    }
+
+    private static final class StubOptions implements Options {
+        private final List<URI> glue;
+
+        private StubOptions(List<URI> glue) {
+            this.glue = glue;
+        }
+
+        @Override
+        public List<URI> getGlue() {
+            return glue;
+        }
+
+        @Override
+        public boolean isDryRun() {
+            return false;
+        }
+
+        @Override
+        public SnippetType getSnippetType() {
+            return SnippetType.UNDERSCORE;
+        }
+
+        @Override
+        public Class<? extends ObjectFactory> getObjectFactoryClass() {
+            return null;
+        }
+
+        @Override
+        public Path getResultCacheDirectory() {
+            return null;
+        }
+
+        @Override
+        public String getResultCacheKey() {
+            return "";
+        }
+    }
+}
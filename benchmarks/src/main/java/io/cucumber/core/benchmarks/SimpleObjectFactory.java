@@ -0,0 +1,42 @@
+package io.cucumber.core.benchmarks;
+
+import io.cucumber.core.backend.ObjectFactory;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Object factory that creates a new instance of each glue class for each
+ * scenario using the no-args constructor.
+ */
+public final class SimpleObjectFactory implements ObjectFactory {
+    private final Map<Class<?>, Object> instances = new HashMap<>();
+
+    @Override
+    public void start() {
+
+    }
+
+    @Override
+    public void stop() {
+        instances.clear();
+    }
+
+    @Override
+    public boolean addClass(Class<?> glueClass) {
+        return true;
+    }
+
+    @Override
+    public <T> T getInstance(Class<T> glueClass) {
+        return glueClass.cast(instances.computeIfAbsent(glueClass, SimpleObjectFactory::newInstance));
+    }
+
+    private static Object newInstance(Class<?> glueClass) {
+        try {
+            return glueClass.getConstructor().newInstance();
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Could not instantiate " + glueClass, e);
+        }
+    }
+}
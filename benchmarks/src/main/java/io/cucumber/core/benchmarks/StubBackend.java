@@ -0,0 +1,66 @@
+package io.cucumber.core.benchmarks;
+
+import io.cucumber.core.backend.Backend;
+import io.cucumber.core.backend.Glue;
+import io.cucumber.core.backend.StepDefinition;
+import io.cucumber.core.snippets.Snippet;
+
+import java.lang.reflect.Type;
+import java.net.URI;
+import java.text.MessageFormat;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Backend that loads a fixed list of step definitions regardless of the glue
+ * path.
+ */
+public final class StubBackend implements Backend {
+    private final List<? extends StepDefinition> stepDefinitions;
+
+    public StubBackend(List<? extends StepDefinition> stepDefinitions) {
+        this.stepDefinitions = stepDefinitions;
+    }
+
+    @Override
+    public void loadGlue(Glue glue, List<URI> gluePaths) {
+        stepDefinitions.forEach(glue::addStepDefinition);
+    }
+
+    @Override
+    public void buildWorld() {
+
+    }
+
+    @Override
+    public void disposeWorld() {
+
+    }
+
+    @Override
+    public Snippet getSnippet() {
+        return new StubSnippet();
+    }
+
+    private static final class StubSnippet implements Snippet {
+        @Override
+        public MessageFormat template() {
+            return new MessageFormat("{0} {1}");
+        }
+
+        @Override
+        public String tableHint() {
+            return "";
+        }
+
+        @Override
+        public String arguments(Map<String, Type> arguments) {
+            return "";
+        }
+
+        @Override
+        public String escapePattern(String pattern) {
+            return pattern;
+        }
+    }
+}
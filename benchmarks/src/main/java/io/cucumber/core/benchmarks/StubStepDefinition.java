@@ -0,0 +1,79 @@
+package io.cucumber.core.benchmarks;
+
+import io.cucumber.core.backend.ParameterInfo;
+import io.cucumber.core.backend.StepDefinition;
+import io.cucumber.core.backend.TypeResolver;
+
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Step definition that does nothing or sleeps when executed.
+ */
+public final class StubStepDefinition implements StepDefinition {
+    private final String pattern;
+    private final long sleepMillis;
+    private final List<ParameterInfo> parameterInfos;
+
+    public StubStepDefinition(String pattern, Type... types) {
+        this(pattern, 0, types);
+    }
+
+    public StubStepDefinition(String pattern, long sleepMillis, Type... types) {
+        this.pattern = pattern;
+        this.sleepMillis = sleepMillis;
+        this.parameterInfos = Stream.of(types).map(StubParameterInfo::new).collect(Collectors.toList());
+    }
+
+    @Override
+    public String getLocation(boolean detail) {
+        return "{stubbed location" + (detail ? " with details" : "") + "}";
+    }
+
+    @Override
+    public void execute(Object[] args) throws InterruptedException {
+        if (sleepMillis > 0) {
+            Thread.sleep(sleepMillis);
+        }
+    }
+
+    @Override
+    public boolean isDefinedAt(StackTraceElement stackTraceElement) {
+        return false;
+    }
+
+    @Override
+    public List<ParameterInfo> parameterInfos() {
+        return parameterInfos;
+    }
+
+    @Override
+    public String getPattern() {
+        return pattern;
+    }
+
+    private static final class StubParameterInfo implements ParameterInfo {
+        private final Type type;
+
+        private StubParameterInfo(Type type) {
+            this.type = type;
+        }
+
+        @Override
+        public Type getType() {
+            return type;
+        }
+
+        @Override
+        public boolean isTransposed() {
+            return false;
+        }
+
+        @Override
+        public TypeResolver getTypeResolver() {
+            return () -> type;
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package io.cucumber.core.benchmarks;
+
+import io.cucumber.core.backend.StepDefinition;
+import io.cucumber.core.feature.CucumberFeature;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Generates a synthetic suite of features and matching step definitions.
+ * <p>
+ * The suite is reproducible; the same seed produces the same features. Every
+ * fifth scenario is a scenario outline with three examples, every fourth step
+ * definition expects a doc string and each scenario is tagged with one of ten
+ * tags.
+ */
+public final class SuiteGenerator {
+    private static final int TAGS = 10;
+    private static final int OUTLINE_EXAMPLES = 3;
+
+    private final int features;
+    private final int scenarios;
+    private final int stepDefinitions;
+    private final long seed;
+
+    /**
+     * @param features        number of features to generate
+     * @param scenarios       number of scenarios and scenario outlines per feature
+     * @param stepDefinitions number of distinct step definitions
+     * @param seed            seed used to pick steps and tags
+     */
+    public SuiteGenerator(int features, int scenarios, int stepDefinitions, long seed) {
+        if (features < 1 || scenarios < 1 || stepDefinitions < 1) {
+            throw new IllegalArgumentException("features, scenarios and stepDefinitions must be positive");
+        }
+        this.features = features;
+        this.scenarios = scenarios;
+        this.stepDefinitions = stepDefinitions;
+        this.seed = seed;
+    }
+
+    public List<StepDefinition> stepDefinitions(long sleepMillis) {
+        List<StepDefinition> definitions = new ArrayList<>(stepDefinitions);
+        for (int i = 0; i < stepDefinitions; i++) {
+            if (expectsDocString(i)) {
+                definitions.add(new StubStepDefinition("step " + i + " reads:", sleepMillis, String.class));
+            } else {
+                definitions.add(new StubStepDefinition("step " + i + " has {int} cukes", sleepMillis, Integer.class));
+            }
+        }
+        return definitions;
+    }
+
+    public List<CucumberFeature> features() {
+        List<CucumberFeature> generated = new ArrayList<>(features);
+        Random random = new Random(seed);
+        for (int i = 0; i < features; i++) {
+            generated.add(Features.parse(path(i), feature(i, random)));
+        }
+        return generated;
+    }
+
+    /**
+     * Writes the generated features to a directory so they can be inspected
+     * or used by a different runner.
+     */
+    public void writeTo(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        Random random = new Random(seed);
+        for (int i = 0; i < features; i++) {
+            Files.write(directory.resolve(path(i)), feature(i, random).getBytes(UTF_8));
+        }
+    }
+
+    private static String path(int feature) {
+        return "generated-" + feature + ".feature";
+    }
+
+    private static boolean expectsDocString(int stepDefinition) {
+        return stepDefinition % 4 == 3;
+    }
+
+    private String feature(int feature, Random random) {
+        StringBuilder source = new StringBuilder();
+        source.append("@feature-").append(feature).append('\n');
+        source.append("Feature: Generated feature ").append(feature).append("\n\n");
+        for (int i = 0; i < scenarios; i++) {
+            boolean outline = i % 5 == 4;
+            source.append("  @tag-").append(random.nextInt(TAGS)).append('\n');
+            source.append(outline ? "  Scenario Outline: " : "  Scenario: ")
+                .append("Generated scenario ").append(feature).append('-').append(i).append('\n');
+            int steps = 3 + random.nextInt(6);
+            for (int j = 0; j < steps; j++) {
+                String keyword = j == 0 ? "Given" : j == steps - 1 ? "Then" : "When";
+                int stepDefinition = random.nextInt(stepDefinitions);
+                if (expectsDocString(stepDefinition)) {
+                    source.append("    ").append(keyword).append(" step ").append(stepDefinition).append(" reads:\n");
+                    source.append("      \"\"\"\n");
+                    source.append("      A doc string with ").append(outline ? "<cukes>" : "some").append(" cukes\n");
+                    source.append("      \"\"\"\n");
+                } else {
+                    source.append("    ").append(keyword).append(" step ").append(stepDefinition)
+                        .append(" has ").append(outline ? "<cukes>" : String.valueOf(random.nextInt(100))).append(" cukes\n");
+                }
+            }
+            if (outline) {
+                source.append("\n    Examples:\n");
+                source.append("      | cukes |\n");
+                for (int j = 0; j < OUTLINE_EXAMPLES; j++) {
+                    source.append("      | ").append(random.nextInt(100)).append(" |\n");
+                }
+            }
+            source.append('\n');
+        }
+        return source.toString();
+    }
+}
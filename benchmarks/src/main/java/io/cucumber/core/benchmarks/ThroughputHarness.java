@@ -0,0 +1,264 @@
+package io.cucumber.core.benchmarks;
+
+import io.cucumber.core.event.EventHandler;
+import io.cucumber.core.event.EventPublisher;
+import io.cucumber.core.event.TestCaseFinished;
+import io.cucumber.core.event.TestCaseStarted;
+import io.cucumber.core.event.TestRunFinished;
+import io.cucumber.core.event.TestRunStarted;
+import io.cucumber.core.feature.CucumberFeature;
+import io.cucumber.core.options.CommandlineOptionsParser;
+import io.cucumber.core.options.RuntimeOptions;
+import io.cucumber.core.plugin.ConcurrentEventListener;
+import io.cucumber.core.runtime.Runtime;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.ThreadMXBean;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Collections.singletonList;
+
+/**
+ * Runs a suite created by the {@link SuiteGenerator} through {@link Runtime}
+ * and writes the throughput, startup time, peak heap and allocation rate to a
+ * json file.
+ * <p>
+ * Options not understood by the harness are passed to cucumber. E.g:
+ * <pre>
+ * java -cp benchmarks/target/benchmarks.jar io.cucumber.core.benchmarks.ThroughputHarness \
+ *     --features 100 --scenarios 50 --step-definitions 500 --sleep 0 \
+ *     --output target/throughput.json \
+ *     --threads 4 --plugin json:target/cucumber.json
+ * </pre>
+ * <p>
+ * Startup time is measured from building the runtime until the first scenario
+ * starts. Peak heap is the sum of the peak usage of each heap memory pool and
+ * is an upper bound. Allocations are counted on the main thread and on runner
+ * threads while they execute scenarios.
+ */
+public final class ThroughputHarness {
+
+    private int features = 10;
+    private int scenarios = 100;
+    private int stepDefinitions = 100;
+    private long sleepMillis = 0;
+    private long seed = 42;
+    private Path output = Paths.get("target", "throughput.json");
+    private Path writeFeatures;
+    private final List<String> cucumberArgs = new ArrayList<>();
+
+    public static void main(String[] argv) throws IOException {
+        ThroughputHarness harness = new ThroughputHarness();
+        harness.parse(argv);
+        System.exit(harness.run());
+    }
+
+    private void parse(String[] argv) {
+        for (int i = 0; i < argv.length; i++) {
+            String arg = argv[i];
+            switch (arg) {
+                case "--features":
+                    features = Integer.parseInt(argv[++i]);
+                    break;
+                case "--scenarios":
+                    scenarios = Integer.parseInt(argv[++i]);
+                    break;
+                case "--step-definitions":
+                    stepDefinitions = Integer.parseInt(argv[++i]);
+                    break;
+                case "--sleep":
+                    sleepMillis = Long.parseLong(argv[++i]);
+                    break;
+                case "--seed":
+                    seed = Long.parseLong(argv[++i]);
+                    break;
+                case "--output":
+                    output = Paths.get(argv[++i]);
+                    break;
+                case "--write-features":
+                    writeFeatures = Paths.get(argv[++i]);
+                    break;
+                default:
+                    cucumberArgs.add(arg);
+            }
+        }
+    }
+
+    private byte run() throws IOException {
+        SuiteGenerator generator = new SuiteGenerator(features, scenarios, stepDefinitions, seed);
+        if (writeFeatures != null) {
+            generator.writeTo(writeFeatures);
+        }
+        List<CucumberFeature> suite = generator.features();
+        RuntimeOptions runtimeOptions = new CommandlineOptionsParser()
+            .parse(cucumberArgs)
+            .build();
+
+        System.gc();
+        List<MemoryPoolMXBean> heapPools = heapPools();
+        heapPools.forEach(MemoryPoolMXBean::resetPeakUsage);
+        Thread mainThread = Thread.currentThread();
+        Measurements measurements = new Measurements(mainThread);
+        long mainAllocatedBefore = measurements.allocatedBytes(mainThread.getId());
+
+        long buildStarted = System.nanoTime();
+        Runtime runtime = Runtime.builder()
+            .withRuntimeOptions(runtimeOptions)
+            .withFeatureSupplier(() -> suite)
+            .withBackendSupplier(() -> singletonList(new StubBackend(generator.stepDefinitions(sleepMillis))))
+            .withAdditionalPlugins(measurements)
+            .build();
+        runtime.run();
+
+        long mainAllocated = measurements.allocatedBytes(mainThread.getId()) - mainAllocatedBefore;
+        long peakHeap = 0;
+        for (MemoryPoolMXBean pool : heapPools) {
+            peakHeap += pool.getPeakUsage().getUsed();
+        }
+
+        double durationSeconds = (measurements.runFinished - measurements.runStarted) / 1e9;
+        long allocatedBytes = measurements.allocationSupported ? mainAllocated + measurements.runnerAllocatedBytes() : -1;
+        long testCases = measurements.testCases.sum();
+
+        String json = String.format(Locale.ROOT, "{%n" +
+                "  \"javaVersion\": \"%s\",%n" +
+                "  \"threads\": %d,%n" +
+                "  \"features\": %d,%n" +
+                "  \"scenarios\": %d,%n" +
+                "  \"stepDefinitions\": %d,%n" +
+                "  \"sleepMillis\": %d,%n" +
+                "  \"seed\": %d,%n" +
+                "  \"cucumberArgs\": \"%s\",%n" +
+                "  \"testCases\": %d,%n" +
+                "  \"durationMillis\": %.1f,%n" +
+                "  \"scenariosPerSecond\": %.1f,%n" +
+                "  \"startupMillis\": %.1f,%n" +
+                "  \"peakHeapBytes\": %d,%n" +
+                "  \"allocatedBytes\": %d,%n" +
+                "  \"allocationRateBytesPerSecond\": %.0f%n" +
+                "}%n",
+            System.getProperty("java.version"),
+            runtimeOptions.getThreads(),
+            features,
+            scenarios,
+            stepDefinitions,
+            sleepMillis,
+            seed,
+            String.join(" ", cucumberArgs).replace("\\", "\\\\").replace("\"", "\\\""),
+            testCases,
+            durationSeconds * 1e3,
+            durationSeconds > 0 ? testCases / durationSeconds : 0,
+            (measurements.firstTestCaseStarted.get() - buildStarted) / 1e6,
+            peakHeap,
+            allocatedBytes,
+            allocatedBytes >= 0 && durationSeconds > 0 ? allocatedBytes / durationSeconds : -1
+        );
+
+        Path parent = output.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Files.write(output, json.getBytes(UTF_8));
+        System.out.print(json);
+        return runtime.exitStatus();
+    }
+
+    private static List<MemoryPoolMXBean> heapPools() {
+        List<MemoryPoolMXBean> pools = new ArrayList<>();
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                pools.add(pool);
+            }
+        }
+        return pools;
+    }
+
+    private static final class Measurements implements ConcurrentEventListener {
+        private final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        private final boolean allocationSupported = threads instanceof com.sun.management.ThreadMXBean
+            && ((com.sun.management.ThreadMXBean) threads).isThreadAllocatedMemorySupported();
+        private final long mainThreadId;
+        private final Map<Long, long[]> allocatedByThread = new ConcurrentHashMap<>();
+        private final AtomicLong firstTestCaseStarted = new AtomicLong();
+        private final LongAdder testCases = new LongAdder();
+        private volatile long runStarted;
+        private volatile long runFinished;
+
+        private final EventHandler<TestRunStarted> runStartedHandler = new EventHandler<TestRunStarted>() {
+            @Override
+            public void receive(TestRunStarted event) {
+                runStarted = System.nanoTime();
+            }
+        };
+        private final EventHandler<TestCaseStarted> caseStartedHandler = new EventHandler<TestCaseStarted>() {
+            @Override
+            public void receive(TestCaseStarted event) {
+                firstTestCaseStarted.compareAndSet(0, System.nanoTime());
+                long threadId = Thread.currentThread().getId();
+                if (threadId != mainThreadId) {
+                    allocatedByThread.computeIfAbsent(threadId, id -> {
+                        long allocated = allocatedBytes(id);
+                        return new long[]{allocated, allocated};
+                    });
+                }
+            }
+        };
+        private final EventHandler<TestCaseFinished> caseFinishedHandler = new EventHandler<TestCaseFinished>() {
+            @Override
+            public void receive(TestCaseFinished event) {
+                testCases.increment();
+                long threadId = Thread.currentThread().getId();
+                long[] allocated = allocatedByThread.get(threadId);
+                if (allocated != null) {
+                    allocated[1] = allocatedBytes(threadId);
+                }
+            }
+        };
+        private final EventHandler<TestRunFinished> runFinishedHandler = new EventHandler<TestRunFinished>() {
+            @Override
+            public void receive(TestRunFinished event) {
+                runFinished = System.nanoTime();
+            }
+        };
+
+        Measurements(Thread mainThread) {
+            this.mainThreadId = mainThread.getId();
+        }
+
+        @Override
+        public void setEventPublisher(EventPublisher publisher) {
+            publisher.registerHandlerFor(TestRunStarted.class, runStartedHandler);
+            publisher.registerHandlerFor(TestCaseStarted.class, caseStartedHandler);
+            publisher.registerHandlerFor(TestCaseFinished.class, caseFinishedHandler);
+            publisher.registerHandlerFor(TestRunFinished.class, runFinishedHandler);
+        }
+
+        long allocatedBytes(long threadId) {
+            if (!allocationSupported) {
+                return 0;
+            }
+            return ((com.sun.management.ThreadMXBean) threads).getThreadAllocatedBytes(threadId);
+        }
+
+        long runnerAllocatedBytes() {
+            long total = 0;
+            for (long[] allocated : allocatedByThread.values()) {
+                total += allocated[1] - allocated[0];
+            }
+            return total;
+        }
+    }
+}
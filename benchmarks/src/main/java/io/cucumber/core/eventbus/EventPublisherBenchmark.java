@@ -0,0 +1,63 @@
+package io.cucumber.core.eventbus;
+
+import io.cucumber.core.event.Event;
+import io.cucumber.core.event.EventHandler;
+import io.cucumber.core.event.TestRunStarted;
+import io.cucumber.core.runtime.TimeServiceEventBus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventPublisherBenchmark {
+
+    @Param({"1", "10", "100"})
+    public int handlers;
+
+    private EventBus bus;
+    private TestRunStarted event;
+    private int received;
+
+    @Setup
+    public void setup() {
+        bus = new TimeServiceEventBus(Clock.systemUTC());
+        for (int i = 0; i < handlers; i++) {
+            bus.registerHandlerFor(TestRunStarted.class, new EventHandler<TestRunStarted>() {
+                @Override
+                public void receive(TestRunStarted event) {
+                    received++;
+                }
+            });
+        }
+        bus.registerHandlerFor(Event.class, new EventHandler<Event>() {
+            @Override
+            public void receive(Event event) {
+                received++;
+            }
+        });
+        event = new TestRunStarted(Instant.now());
+    }
+
+    @Benchmark
+    public int send() {
+        bus.send(event);
+        return received;
+    }
+}
@@ -0,0 +1,41 @@
+package io.cucumber.core.feature;
+
+import io.cucumber.core.benchmarks.Features;
+import io.cucumber.core.io.Resource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FeatureParserBenchmark {
+
+    @Param({"10", "100", "1000"})
+    public int scenarios;
+
+    private Resource resource;
+
+    @Setup
+    public void setup() {
+        resource = Features.resource("benchmark.feature", Features.generate(scenarios));
+    }
+
+    @Benchmark
+    public CucumberFeature parseResource() {
+        return FeatureParser.parseResource(resource);
+    }
+}
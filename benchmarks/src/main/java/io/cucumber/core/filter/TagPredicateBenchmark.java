@@ -0,0 +1,52 @@
+package io.cucumber.core.filter;
+
+import gherkin.events.PickleEvent;
+import io.cucumber.core.benchmarks.Features;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TagPredicateBenchmark {
+
+    @Param({"@scenario-0", "@even and not @scenario-42", "(@odd or @even) and not (@wip or @slow or @scenario-42)"})
+    public String tagExpression;
+
+    private TagPredicate predicate;
+    private PickleEvent matching;
+    private PickleEvent nonMatching;
+
+    @Setup
+    public void setup() {
+        predicate = new TagPredicate(tagExpression);
+        List<PickleEvent> pickles = Features.parse("benchmark.feature", Features.generate(43)).getPickles();
+        matching = pickles.get(0);
+        nonMatching = pickles.get(42);
+    }
+
+    @Benchmark
+    public boolean matching() {
+        return predicate.apply(matching);
+    }
+
+    @Benchmark
+    public boolean nonMatching() {
+        return predicate.apply(nonMatching);
+    }
+}
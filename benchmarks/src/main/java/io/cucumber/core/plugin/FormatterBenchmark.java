@@ -0,0 +1,93 @@
+package io.cucumber.core.plugin;
+
+import io.cucumber.core.benchmarks.Features;
+import io.cucumber.core.benchmarks.Runners;
+import io.cucumber.core.benchmarks.StubStepDefinition;
+import io.cucumber.core.event.Event;
+import io.cucumber.core.event.TestRunFinished;
+import io.cucumber.core.event.TestRunStarted;
+import io.cucumber.core.event.TestSourceRead;
+import io.cucumber.core.eventbus.EventBus;
+import io.cucumber.core.feature.CucumberFeature;
+import io.cucumber.core.runner.Runner;
+import io.cucumber.core.runtime.TimeServiceEventBus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Replays the events of a recorded test run to a new formatter on each
+ * invocation. This includes writing the report.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FormatterBenchmark {
+
+    @Param({"10", "100", "1000"})
+    public int scenarios;
+
+    private final List<Event> events = new ArrayList<>();
+    private URL junitReport;
+
+    @Setup
+    public void setup() throws IOException {
+        CucumberFeature feature = Features.parse("benchmark.feature", Features.generate(scenarios));
+        List<StubStepDefinition> stepDefinitions = Features.STEP_PATTERNS.stream()
+            .map(pattern -> new StubStepDefinition(pattern, Integer.class))
+            .collect(toList());
+
+        EventBus bus = new TimeServiceEventBus(Clock.systemUTC());
+        bus.registerHandlerFor(Event.class, events::add);
+        Runner runner = Runners.create(bus, stepDefinitions);
+        bus.send(new TestRunStarted(bus.getInstant()));
+        bus.send(new TestSourceRead(bus.getInstant(), feature.getUri().toString(), feature.getSource()));
+        feature.getPickles().forEach(runner::runPickle);
+        bus.send(new TestRunFinished(bus.getInstant()));
+
+        File report = File.createTempFile("cucumber", ".xml");
+        report.deleteOnExit();
+        junitReport = report.toURI().toURL();
+    }
+
+    @Benchmark
+    public StringBuilder json() {
+        StringBuilder out = new StringBuilder();
+        replay(new JSONFormatter(out));
+        return out;
+    }
+
+    @Benchmark
+    public void junit() throws IOException {
+        replay(new JUnitFormatter(junitReport));
+    }
+
+    private void replay(EventListener formatter) {
+        EventBus bus = new TimeServiceEventBus(Clock.systemUTC());
+        formatter.setEventPublisher(bus);
+        for (Event event : events) {
+            bus.send(event);
+        }
+    }
+}
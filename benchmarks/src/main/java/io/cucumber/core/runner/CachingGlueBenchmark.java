@@ -0,0 +1,73 @@
+package io.cucumber.core.runner;
+
+import gherkin.pickles.PickleLocation;
+import gherkin.pickles.PickleStep;
+import io.cucumber.core.benchmarks.StubStepDefinition;
+import io.cucumber.core.runtime.TimeServiceEventBus;
+import io.cucumber.core.stepexpression.TypeRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Clock;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CachingGlueBenchmark {
+
+    @Param({"100", "1000", "5000"})
+    public int stepDefinitions;
+
+    private CachingGlue glue;
+    private PickleStep definedStep;
+    private PickleStep undefinedStep;
+
+    @Setup
+    public void setup() {
+        glue = new CachingGlue(new TimeServiceEventBus(Clock.systemUTC()));
+        for (int i = 0; i < stepDefinitions; i++) {
+            glue.addStepDefinition(new StubStepDefinition("step number " + i + " has {int} cukes", Integer.class));
+        }
+        glue.prepareGlue(new TypeRegistry(Locale.ENGLISH));
+
+        definedStep = step("step number " + stepDefinitions / 2 + " has 42 cukes");
+        undefinedStep = step("a step that is not defined");
+    }
+
+    @Benchmark
+    public Object cachedHit() {
+        return glue.stepDefinitionMatch("file:benchmark.feature", definedStep);
+    }
+
+    @Benchmark
+    public Object uncachedHit() {
+        glue.getStepPatternByStepText().clear();
+        return glue.stepDefinitionMatch("file:benchmark.feature", definedStep);
+    }
+
+    @Benchmark
+    public Object miss() {
+        return glue.stepDefinitionMatch("file:benchmark.feature", undefinedStep);
+    }
+
+    private static PickleStep step(String text) {
+        return new PickleStep(text, emptyList(), singletonList(new PickleLocation(1, 1)));
+    }
+}
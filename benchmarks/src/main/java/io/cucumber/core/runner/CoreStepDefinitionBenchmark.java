@@ -0,0 +1,47 @@
+package io.cucumber.core.runner;
+
+import io.cucumber.core.benchmarks.StubStepDefinition;
+import io.cucumber.core.stepexpression.TypeRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CoreStepDefinitionBenchmark {
+
+    private TypeRegistry typeRegistry;
+    private StubStepDefinition cucumberExpression;
+    private StubStepDefinition regularExpression;
+
+    @Setup
+    public void setup() {
+        typeRegistry = new TypeRegistry(Locale.ENGLISH);
+        cucumberExpression = new StubStepDefinition("I have {int} cukes in my {word}", Integer.class, String.class);
+        regularExpression = new StubStepDefinition("^I have (\\d+) cukes in my (\\w+)$", Integer.class, String.class);
+    }
+
+    @Benchmark
+    public Object cucumberExpression() {
+        return new CoreStepDefinition(cucumberExpression, typeRegistry);
+    }
+
+    @Benchmark
+    public Object regularExpression() {
+        return new CoreStepDefinition(regularExpression, typeRegistry);
+    }
+}
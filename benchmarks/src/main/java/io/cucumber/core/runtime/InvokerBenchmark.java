@@ -0,0 +1,51 @@
+package io.cucumber.core.runtime;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InvokerBenchmark {
+
+    private final Cukes cukes = new Cukes();
+    private Method eat;
+
+    @Setup
+    public void setup() throws NoSuchMethodException {
+        eat = Cukes.class.getMethod("eat", int.class);
+    }
+
+    @Benchmark
+    public Object invokeWithoutTimeout() throws Throwable {
+        return Invoker.invoke(cukes, eat, 0, 42);
+    }
+
+    @Benchmark
+    public Object invokeWithTimeout() throws Throwable {
+        return Invoker.invoke(cukes, eat, 1000, 42);
+    }
+
+    public static class Cukes {
+        private int eaten;
+
+        public int eat(int cukes) {
+            eaten += cukes;
+            return eaten;
+        }
+    }
+}
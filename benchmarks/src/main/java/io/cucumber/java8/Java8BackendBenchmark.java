@@ -0,0 +1,66 @@
+package io.cucumber.java8;
+
+import gherkin.events.PickleEvent;
+import io.cucumber.core.benchmarks.Features;
+import io.cucumber.core.benchmarks.Runners;
+import io.cucumber.core.benchmarks.SimpleObjectFactory;
+import io.cucumber.core.io.MultiLoader;
+import io.cucumber.core.runner.Runner;
+import io.cucumber.core.runtime.TimeServiceEventBus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.net.URI;
+import java.time.Clock;
+import java.util.concurrent.TimeUnit;
+
+import static java.lang.Thread.currentThread;
+import static java.util.Collections.singletonList;
+
+/**
+ * Measures the per-scenario cost of lambda glue. Each scenario instantiates
+ * the glue class, registers its lambdas and executes three steps.
+ * <p>
+ * Run against an earlier version of cucumber-java8 to compare.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class Java8BackendBenchmark {
+
+    @Param({"false", "true"})
+    public boolean rebindGlue;
+
+    private Runner runner;
+    private PickleEvent pickle;
+
+    @Setup
+    public void setup() {
+        SimpleObjectFactory objectFactory = new SimpleObjectFactory();
+        Java8Backend backend = new Java8Backend(objectFactory, objectFactory, new MultiLoader(currentThread().getContextClassLoader()), rebindGlue);
+        runner = Runners.create(
+            new TimeServiceEventBus(Clock.systemUTC()),
+            backend,
+            objectFactory,
+            singletonList(URI.create("classpath:io/cucumber/java8/glue"))
+        );
+        pickle = Features.parse("benchmark.feature", Features.generate(1)).getPickles().get(0);
+    }
+
+    @Benchmark
+    public void runScenario() {
+        runner.runPickle(pickle);
+    }
+}
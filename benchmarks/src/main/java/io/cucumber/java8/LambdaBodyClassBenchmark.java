@@ -0,0 +1,93 @@
+package io.cucumber.java8;
+
+import io.cucumber.core.backend.ParameterInfo;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static net.jodah.typetools.TypeResolver.resolveRawArguments;
+
+/**
+ * Measures the reflection needed to create a lambda step definition, with
+ * and without the {@link LambdaBodyClass} cache. The uncached benchmark
+ * repeats what every step definition did before the cache was added.
+ * <p>
+ * Walking the stack costs more as the stack gets deeper. The {@code depth}
+ * parameter adds frames to approximate a glue class constructed by a
+ * runner.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LambdaBodyClassBenchmark {
+
+    private static final String EXPRESSION = "I have {int} cukes in my {string}";
+
+    @Param({"20", "60"})
+    public int depth;
+
+    private final StepdefBody.A2<Integer, String> body = (cukes, belly) -> {
+    };
+
+    @Benchmark
+    public void uncached(Blackhole blackhole) {
+        atDepth(depth, false, blackhole);
+    }
+
+    @Benchmark
+    public void cached(Blackhole blackhole) {
+        atDepth(depth, true, blackhole);
+    }
+
+    private void atDepth(int remaining, boolean cached, Blackhole blackhole) {
+        if (remaining > 0) {
+            atDepth(remaining - 1, cached, blackhole);
+        } else if (cached) {
+            LambdaBodyClass lambdaBodyClass = LambdaBodyClass.of(body.getClass());
+            StackTraceElement location = lambdaBodyClass.getLocation(1);
+            blackhole.consume(location);
+            blackhole.consume(lambdaBodyClass.getAcceptMethod());
+            blackhole.consume(lambdaBodyClass.getParameterInfos(StepdefBody.A2.class, EXPRESSION, location));
+        } else {
+            StackTraceElement location = new Exception().getStackTrace()[1];
+            blackhole.consume(location);
+            blackhole.consume(getAcceptMethod(body.getClass()));
+            blackhole.consume(fromTypes(location, resolveRawArguments(StepdefBody.A2.class, body.getClass())));
+        }
+    }
+
+    private static Method getAcceptMethod(Class<?> bodyClass) {
+        List<Method> acceptMethods = new ArrayList<>();
+        for (Method method : bodyClass.getDeclaredMethods()) {
+            if (!method.isBridge() && !method.isSynthetic() && "accept".equals(method.getName())) {
+                acceptMethods.add(method);
+            }
+        }
+        return acceptMethods.get(0);
+    }
+
+    private static List<ParameterInfo> fromTypes(StackTraceElement location, Type[] genericParameterTypes) {
+        List<ParameterInfo> result = new ArrayList<>();
+        for (Type type : genericParameterTypes) {
+            result.add(new Java8ParameterInfo(type, new LambdaTypeResolver(type, EXPRESSION, location)));
+        }
+        return result;
+    }
+}
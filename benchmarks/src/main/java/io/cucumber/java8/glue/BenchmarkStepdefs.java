@@ -0,0 +1,31 @@
+package io.cucumber.java8.glue;
+
+import io.cucumber.java8.En;
+
+/**
+ * Lambda glue with the steps of the generated features, a few unused steps
+ * and hooks. The lambdas close over scenario state.
+ */
+public class BenchmarkStepdefs implements En {
+
+    private int cukes;
+
+    public BenchmarkStepdefs() {
+        Before(() -> cukes = 0);
+
+        Given("I have {int} cukes in my belly", (Integer cukes) -> this.cukes = cukes);
+        When("I eat {int} cukes", (Integer eaten) -> this.cukes -= eaten);
+        Then("I have {int} cukes left", (Integer left) -> {
+            if (cukes != left) {
+                throw new AssertionError("Expected " + left + " but was " + cukes);
+            }
+        });
+
+        Given("I have a belly", () -> this.cukes = 0);
+        Given("the following cukes:", (String docString) -> this.cukes = docString.length());
+        When("I wait {int} hour(s)", (Integer hours) -> this.cukes += 0);
+        Then("my belly should growl", () -> this.cukes = -1);
+
+        After(scenario -> cukes = 0);
+    }
+}
@@ -1,56 +1,96 @@
 package io.cucumber.cdi2;
 
+import io.cucumber.core.backend.ContainerScope;
 import io.cucumber.core.backend.ObjectFactory;
+import io.cucumber.core.options.CucumberProperties;
 import org.apiguardian.api.API;
 
+import javax.enterprise.context.RequestScoped;
+import javax.enterprise.context.control.RequestContextController;
 import javax.enterprise.inject.Instance;
 import javax.enterprise.inject.se.SeContainer;
 import javax.enterprise.inject.se.SeContainerInitializer;
 import javax.enterprise.inject.spi.Unmanaged;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.Map;
+import java.util.Set;
 
+import static io.cucumber.cdi2.Constants.CDI2_CONTAINER_PROPERTY_NAME;
+
+/**
+ * CDI SE based implementation of ObjectFactory.
+ * <p>
+ * By default a new container is initialized for each scenario. When
+ * {@value Constants#CDI2_CONTAINER_PROPERTY_NAME} is {@code suite} one
+ * container is reused for all scenarios. In both cases the request context is
+ * active for the duration of a scenario, so {@link RequestScoped} beans and
+ * glue classes that are not beans are created for each scenario.
+ */
 @API(status = API.Status.STABLE)
 public final class Cdi2Factory implements ObjectFactory {
 
-    private SeContainerInitializer initializer;
+    private final boolean reuseContainer;
+    private final Set<Class<?>> beanClasses = new LinkedHashSet<>();
     private SeContainer container;
+    private RequestContextController requestContextController;
+    private final Map<Class<?>, Unmanaged<?>> unmanaged = new HashMap<>();
     private final Map<Class<?>, Unmanaged.UnmanagedInstance<?>> standaloneInstances = new HashMap<>();
 
+    public Cdi2Factory() {
+        this(ContainerScope.parse(CDI2_CONTAINER_PROPERTY_NAME, CucumberProperties.create().get(CDI2_CONTAINER_PROPERTY_NAME)) == ContainerScope.SUITE);
+    }
+
+    Cdi2Factory(boolean reuseContainer) {
+        this.reuseContainer = reuseContainer;
+    }
+
     @Override
     public void start() {
-        container = getInitializer().initialize();
+        if (container == null) {
+            container = SeContainerInitializer.newInstance()
+                .addBeanClasses(beanClasses.toArray(new Class<?>[0]))
+                .initialize();
+            requestContextController = container.select(RequestContextController.class).get();
+        }
+        requestContextController.activate();
     }
 
     @Override
     public void stop() {
-        if (container != null) {
+        for (final Unmanaged.UnmanagedInstance<?> instance : standaloneInstances.values()) {
+            instance.preDestroy();
+            instance.dispose();
+        }
+        standaloneInstances.clear();
+        if (container == null) {
+            return;
+        }
+        // Destroys the request scoped beans of this scenario
+        requestContextController.deactivate();
+        if (!reuseContainer) {
             container.close();
             container = null;
-            initializer = null;
+            // Injection targets belong to the container
+            unmanaged.clear();
         }
-        for (final Unmanaged.UnmanagedInstance<?> unmanaged : standaloneInstances.values()) {
-            unmanaged.preDestroy();
-            unmanaged.dispose();
-        }
-        standaloneInstances.clear();
     }
 
     @Override
     public boolean addClass(final Class<?> clazz) {
-        getInitializer().addBeanClasses(clazz);
+        beanClasses.add(clazz);
         return true;
     }
 
     @Override
     public <T> T getInstance(final Class<T> type) {
-        final Object instance = standaloneInstances.get(type);
+        final Unmanaged.UnmanagedInstance<?> instance = standaloneInstances.get(type);
         if (instance != null) {
-            return type.cast(instance);
+            return type.cast(instance.get());
         }
         final Instance<T> selected = container.select(type);
         if (selected.isUnsatisfied()) {
-            final Unmanaged.UnmanagedInstance<T> value = new Unmanaged<>(container.getBeanManager(), type).newInstance();
+            final Unmanaged.UnmanagedInstance<T> value = getUnmanaged(type).newInstance();
             value.produce();
             value.inject();
             value.postConstruct();
@@ -60,10 +100,9 @@ public final class Cdi2Factory implements ObjectFactory {
         return selected.get();
     }
 
-    private SeContainerInitializer getInitializer() {
-        if (initializer == null) {
-            initializer = SeContainerInitializer.newInstance();
-        }
-        return initializer;
+    @SuppressWarnings("unchecked")
+    private <T> Unmanaged<T> getUnmanaged(final Class<T> type) {
+        // Creating the injection target is the expensive part
+        return (Unmanaged<T>) unmanaged.computeIfAbsent(type, t -> new Unmanaged<>(container.getBeanManager(), t));
     }
 }
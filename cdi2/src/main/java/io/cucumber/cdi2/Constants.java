@@ -0,0 +1,27 @@
+package io.cucumber.cdi2;
+
+import org.apiguardian.api.API;
+
+@API(status = API.Status.EXPERIMENTAL)
+public final class Constants {
+
+    /**
+     * Property name used to select how the CDI SE container is used: {@value}
+     * <p>
+     * Valid values are:
+     * <ul>
+     * <li>{@code scenario} - initialize a new container for each scenario</li>
+     * <li>{@code suite} - initialize one container and reuse it for all
+     * scenarios. When executing in parallel each thread has its own
+     * container. Beans that hold scenario state should be
+     * {@link javax.enterprise.context.RequestScoped}.</li>
+     * </ul>
+     * <p>
+     * Defaults to {@code scenario}.
+     */
+    public static final String CDI2_CONTAINER_PROPERTY_NAME = "cucumber.cdi2.container";
+
+    private Constants() {
+
+    }
+}
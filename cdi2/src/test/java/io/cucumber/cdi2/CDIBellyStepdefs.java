@@ -13,6 +13,10 @@ public class CDIBellyStepdefs {
     @Inject
     private Belly belly;
 
+    public Belly getBelly() {
+        return belly;
+    }
+
     @Then("there are {int} cukes in my belly")
     public void checkCukes(int n) {
         assertEquals(n, belly.getCukes());
@@ -7,6 +7,7 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 
 public class Cdi2FactoryTest {
 
@@ -33,4 +34,30 @@ public class Cdi2FactoryTest {
         assertNotNull(o1);
         assertNotSame(o1, o2);
     }
+
+    @Test
+    public void shouldReuseContainerWhenContainerIsSuiteScoped() {
+        final ObjectFactory factory = new Cdi2Factory(true);
+        factory.addClass(BellyStepdefs.class);
+        factory.addClass(CDIBellyStepdefs.class);
+
+        // Scenario 1
+        factory.start();
+        final BellyStepdefs o1 = factory.getInstance(BellyStepdefs.class);
+        final Belly belly1 = factory.getInstance(CDIBellyStepdefs.class).getBelly();
+        factory.getInstance(RequestScopedBelly.class).setCukes(42);
+        factory.stop();
+
+        // Scenario 2
+        factory.start();
+        final BellyStepdefs o2 = factory.getInstance(BellyStepdefs.class);
+        final Belly belly2 = factory.getInstance(CDIBellyStepdefs.class).getBelly();
+        final int cukes = factory.getInstance(RequestScopedBelly.class).getCukes();
+        factory.stop();
+
+        assertNotNull(o1);
+        assertNotSame(o1, o2);
+        assertSame(belly1, belly2);
+        assertEquals(0, cukes);
+    }
 }
@@ -0,0 +1,41 @@
+package io.cucumber.core.backend;
+
+import io.cucumber.core.exception.CucumberException;
+import org.apiguardian.api.API;
+
+import java.util.Locale;
+
+/**
+ * How long an {@link ObjectFactory} keeps the container of a dependency
+ * injection framework.
+ */
+@API(status = API.Status.EXPERIMENTAL)
+public enum ContainerScope {
+    /**
+     * A new container is created for each scenario.
+     */
+    SCENARIO,
+    /**
+     * One container is created and reused for all scenarios.
+     */
+    SUITE;
+
+    /**
+     * Parses the value of a property that selects the container scope.
+     *
+     * @param propertyName name of the property, used in error messages
+     * @param value        value of the property, may be null
+     * @return the container scope, {@link #SCENARIO} when value is null
+     * @throws CucumberException when value is not {@code scenario} or {@code suite}
+     */
+    public static ContainerScope parse(String propertyName, String value) {
+        if (value == null) {
+            return SCENARIO;
+        }
+        try {
+            return valueOf(value.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new CucumberException(propertyName + " must be one of scenario or suite, but was " + value);
+        }
+    }
+}
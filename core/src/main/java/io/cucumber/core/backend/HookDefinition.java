@@ -22,4 +22,13 @@ public interface HookDefinition {
     boolean matches(Collection<PickleTag> tags);
 
     int getOrder();
+
+    /**
+     * @return the name of the class that declares this hook or null when not
+     * known. Used to detect changes to the glue. Scenarios that use a hook
+     * without a declaring class are not cached.
+     */
+    default String getDeclaringClassName() {
+        return null;
+    }
 }
@@ -27,4 +27,13 @@ public interface StepDefinition extends io.cucumber.core.event.StepDefinition {
      */
     List<ParameterInfo> parameterInfos();
 
+    /**
+     * @return the name of the class that declares this step definition or
+     * null when not known. Used to detect changes to the glue. Scenarios
+     * that use a step definition without a declaring class are not cached.
+     */
+    default String getDeclaringClassName() {
+        return null;
+    }
+
 }
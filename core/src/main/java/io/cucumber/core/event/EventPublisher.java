@@ -15,6 +15,7 @@ public interface EventPublisher {
      * <li>{@link TestSourceRead} - sent for each feature file read, contains the feature file source.
      * <li>{@link SnippetsSuggestedEvent} - sent for each step that could not be matched to a step definition, contains the raw snippets for the step.
      * <li>{@link StepDefinedEvent} - sent for each step definition as it is loaded, contains the StepDefinition
+     * <li>{@link GlueAnalyzedEvent} - sent instead of test case events when the glue is analyzed, contains the undefined and ambiguous steps and unused step definitions.
      * <li>{@link TestCaseStarted} - sent before starting the execution of a Test Case(/Pickle/Scenario), contains the Test Case
      * <li>{@link TestStepStarted} - sent before starting the execution of a Test Step, contains the Test Step
      * <li>{@link EmbedEvent} - calling scenario.embed in a hook triggers this event.
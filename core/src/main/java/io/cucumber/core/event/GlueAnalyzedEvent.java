@@ -0,0 +1,49 @@
+package io.cucumber.core.event;
+
+import org.apiguardian.api.API;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Sent instead of test case events when the glue is analyzed rather than
+ * executed, contains the undefined and ambiguous steps and the unused step
+ * definitions.
+ */
+@API(status = API.Status.EXPERIMENTAL)
+public final class GlueAnalyzedEvent extends TimeStampedEvent {
+    private final Map<String, List<String>> undefinedSteps;
+    private final Map<String, List<String>> ambiguousSteps;
+    private final List<StepDefinition> unusedStepDefinitions;
+
+    public GlueAnalyzedEvent(Instant timeInstant, Map<String, List<String>> undefinedSteps, Map<String, List<String>> ambiguousSteps, List<StepDefinition> unusedStepDefinitions) {
+        super(timeInstant);
+        this.undefinedSteps = Collections.unmodifiableMap(Objects.requireNonNull(undefinedSteps));
+        this.ambiguousSteps = Collections.unmodifiableMap(Objects.requireNonNull(ambiguousSteps));
+        this.unusedStepDefinitions = Collections.unmodifiableList(Objects.requireNonNull(unusedStepDefinitions));
+    }
+
+    /**
+     * @return the locations of undefined steps by step text
+     */
+    public Map<String, List<String>> getUndefinedSteps() {
+        return undefinedSteps;
+    }
+
+    /**
+     * @return the locations of ambiguous steps by step text
+     */
+    public Map<String, List<String>> getAmbiguousSteps() {
+        return ambiguousSteps;
+    }
+
+    /**
+     * @return step definitions that do not match any step
+     */
+    public List<StepDefinition> getUnusedStepDefinitions() {
+        return unusedStepDefinitions;
+    }
+}
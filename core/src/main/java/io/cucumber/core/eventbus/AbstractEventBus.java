@@ -13,4 +13,9 @@ public abstract class AbstractEventBus extends AbstractEventPublisher implements
     public void sendAll(Iterable<Event> queue) {
         super.sendAll(queue);
     }
+
+    @Override
+    public boolean hasHandlerFor(Class<? extends Event> eventType) {
+        return super.hasHandlerFor(eventType);
+    }
 }
@@ -3,13 +3,17 @@ package io.cucumber.core.eventbus;
 import io.cucumber.core.event.Event;
 import io.cucumber.core.event.EventHandler;
 import io.cucumber.core.event.EventPublisher;
+import io.cucumber.core.probe.Probes;
 
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 public abstract class AbstractEventPublisher implements EventPublisher {
+    private static final Map<Class<?>, String> HANDLER_PHASES = new ConcurrentHashMap<>();
+
     protected Map<Class<? extends Event>, List<EventHandler>> handlers = new HashMap<Class<? extends Event>, List<EventHandler>>();
 
     @Override
@@ -30,21 +34,58 @@ public abstract class AbstractEventPublisher implements EventPublisher {
         }
     }
 
+    protected boolean hasHandlerFor(Class<? extends Event> eventType) {
+        return hasHandlers(Event.class) || hasHandlers(eventType);
+    }
+
+    private boolean hasHandlers(Class<? extends Event> eventType) {
+        List<EventHandler> list = handlers.get(eventType);
+        return list != null && !list.isEmpty();
+    }
 
     protected void send(Event event) {
+        long start = Probes.start();
         if (handlers.containsKey(Event.class)) {
             for (EventHandler handler : handlers.get(Event.class)) {
-                //noinspection unchecked: protected by registerHandlerFor
-                handler.receive(event);
+                receive(handler, event);
             }
         }
 
         if (handlers.containsKey(event.getClass())) {
             for (EventHandler handler : handlers.get(event.getClass())) {
-                //noinspection unchecked: protected by registerHandlerFor
-                handler.receive(event);
+                receive(handler, event);
             }
         }
+        Probes.stop("EventPublisher.send", start);
+    }
+
+    private static void receive(EventHandler handler, Event event) {
+        if (!Probes.isEnabled()) {
+            //noinspection unchecked: protected by registerHandlerFor
+            handler.receive(event);
+            return;
+        }
+        long start = Probes.start();
+        //noinspection unchecked: protected by registerHandlerFor
+        handler.receive(event);
+        Probes.stop(HANDLER_PHASES.computeIfAbsent(handler.getClass(), AbstractEventPublisher::handlerPhase), start);
+    }
+
+    /**
+     * Handlers are usually anonymous classes or lambdas declared by a
+     * plugin. Names the phase after the top level class of the handler.
+     */
+    private static String handlerPhase(Class<?> handlerClass) {
+        String name = handlerClass.getName();
+        int lambda = name.indexOf("$$Lambda");
+        if (lambda >= 0) {
+            name = name.substring(0, lambda);
+        }
+        int nested = name.indexOf('$');
+        if (nested >= 0) {
+            name = name.substring(0, nested);
+        }
+        return "EventHandler " + name.substring(name.lastIndexOf('.') + 1);
     }
 
     protected void sendAll(Iterable<Event> events) {
@@ -13,4 +13,14 @@ public interface EventBus extends EventPublisher {
 
     void sendAll(Iterable<Event> queue);
 
+    /**
+     * Used to avoid creating events nobody listens to.
+     *
+     * @param eventType the type of event
+     * @return false if no handler will receive events of this type
+     */
+    default boolean hasHandlerFor(Class<? extends Event> eventType) {
+        return true;
+    }
+
 }
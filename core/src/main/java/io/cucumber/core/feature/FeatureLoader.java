@@ -1,14 +1,28 @@
 package io.cucumber.core.feature;
 
+import io.cucumber.core.exception.CucumberException;
 import io.cucumber.core.io.Resource;
 import io.cucumber.core.io.ResourceLoader;
+import io.cucumber.core.logging.Logger;
+import io.cucumber.core.logging.LoggerFactory;
 
 import java.net.URI;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
 
 public final class FeatureLoader {
 
+    private static final Logger log = LoggerFactory.getLogger(FeatureLoader.class);
     private static final String FEATURE_SUFFIX = ".feature";
     private final ResourceLoader resourceLoader;
 
@@ -36,4 +50,80 @@ public final class FeatureLoader {
         }
     }
 
+    /**
+     * Lazily loads the features on the feature paths.
+     * <p>
+     * Unlike {@link #load(List)} a feature is only parsed when the iterator
+     * reaches it. Features are sorted by uri within each feature path rather
+     * than across all feature paths. Features with a source identical to an
+     * earlier feature are skipped. Only a digest of each source is retained
+     * to recognize duplicates.
+     *
+     * @param featurePaths the feature paths to load features from
+     * @return an iterator over the features
+     */
+    public Iterator<CucumberFeature> iterator(List<URI> featurePaths) {
+        return new FeatureIterator(featurePaths.iterator());
+    }
+
+    private final class FeatureIterator implements Iterator<CucumberFeature> {
+        private final Iterator<URI> featurePaths;
+        private final Map<String, URI> digestToUri = new HashMap<>();
+        private Iterator<Resource> resources = null;
+        private CucumberFeature next;
+
+        FeatureIterator(Iterator<URI> featurePaths) {
+            this.featurePaths = featurePaths;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (next == null) {
+                if (resources != null && resources.hasNext()) {
+                    CucumberFeature feature = FeatureParser.parseResource(resources.next());
+                    URI existingUri = digestToUri.putIfAbsent(digest(feature.getSource()), feature.getUri());
+                    if (existingUri != null) {
+                        log.warn("Duplicate feature ignored. " + feature.getUri() + " was identical to " + existingUri);
+                    } else {
+                        next = feature;
+                    }
+                } else if (featurePaths.hasNext()) {
+                    resources = listResources(featurePaths.next());
+                } else {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public CucumberFeature next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            CucumberFeature feature = next;
+            next = null;
+            return feature;
+        }
+
+        private Iterator<Resource> listResources(URI featurePath) {
+            List<Resource> resources = new ArrayList<>();
+            resourceLoader.resources(featurePath, FEATURE_SUFFIX).forEach(resources::add);
+            if (FeatureIdentifier.isFeature(featurePath) && resources.isEmpty()) {
+                throw new IllegalArgumentException("Feature not found: " + featurePath);
+            }
+            resources.sort(Comparator.comparing(Resource::getPath));
+            return resources.iterator();
+        }
+
+        private String digest(String source) {
+            try {
+                MessageDigest digest = MessageDigest.getInstance("SHA-256");
+                return Base64.getEncoder().encodeToString(digest.digest(source.getBytes(UTF_8)));
+            } catch (NoSuchAlgorithmException e) {
+                throw new CucumberException(e);
+            }
+        }
+    }
+
 }
@@ -10,6 +10,7 @@ import gherkin.pickles.Compiler;
 import gherkin.pickles.Pickle;
 import io.cucumber.core.exception.CucumberException;
 import io.cucumber.core.io.Resource;
+import io.cucumber.core.probe.Probes;
 
 import java.io.IOException;
 import java.net.URI;
@@ -27,8 +28,11 @@ public class FeatureParser {
     public static CucumberFeature parseResource(Resource resource) {
         requireNonNull(resource);
         URI path = resource.getPath();
+        long start = Probes.start();
         String source = read(resource);
+        Probes.stop("FeatureParser.read", start);
 
+        start = Probes.start();
         try {
             Parser<GherkinDocument> parser = new Parser<>(new AstBuilder());
             TokenMatcher matcher = new TokenMatcher();
@@ -37,6 +41,8 @@ public class FeatureParser {
             return new CucumberFeature(gherkinDocument, path, source, pickleEvents);
         } catch (ParserException e) {
             throw new CucumberException("Failed to parse resource at: " + path.toString(), e);
+        } finally {
+            Probes.stop("FeatureParser.parse", start);
         }
     }
 
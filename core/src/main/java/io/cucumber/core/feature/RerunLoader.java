@@ -30,6 +30,21 @@ public class RerunLoader {
             throw new CucumberException("Rerun file did not exist: " + rerunPath);
         }
 
+        return load(resources);
+    }
+
+    /**
+     * Loads the feature paths from a rerun file if it exists.
+     *
+     * @param rerunPath the rerun file
+     * @return the feature paths in the rerun file or an empty list when the
+     * file does not exist
+     */
+    public List<FeatureWithLines> loadIfExists(URI rerunPath) {
+        return load(resourceLoader.resources(rerunPath, null));
+    }
+
+    private static List<FeatureWithLines> load(Iterable<Resource> resources) {
         List<FeatureWithLines> featurePaths = new ArrayList<>();
         for (Resource resource : resources) {
             String source = read(resource);
@@ -0,0 +1,173 @@
+package io.cucumber.core.filter;
+
+import io.cucumber.tagexpressions.TagExpressionParser;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A tag expression compiled against the interned tag vocabulary.
+ * <p>
+ * Expressions are validated by the {@link TagExpressionParser} so invalid
+ * expressions are reported exactly as before. The expression is then
+ * compiled to a tree of predicates on a {@link TagSet} where each tag is a
+ * single bit test.
+ */
+abstract class CompiledTagExpression {
+
+    abstract boolean evaluate(TagSet tags);
+
+    static CompiledTagExpression compile(String tagExpression) {
+        new TagExpressionParser().parse(tagExpression);
+        return new Compiler(tokenize(tagExpression)).compile();
+    }
+
+    private static List<String> tokenize(String tagExpression) {
+        List<String> tokens = new ArrayList<>();
+        StringBuilder token = new StringBuilder();
+        boolean escaped = false;
+        for (char c : tagExpression.toCharArray()) {
+            if (escaped) {
+                token.append(c);
+                escaped = false;
+            } else if (c == '\\') {
+                escaped = true;
+            } else if (Character.isWhitespace(c)) {
+                addToken(tokens, token);
+            } else if (c == '(' || c == ')') {
+                addToken(tokens, token);
+                tokens.add(String.valueOf(c));
+            } else {
+                token.append(c);
+            }
+        }
+        addToken(tokens, token);
+        return tokens;
+    }
+
+    private static void addToken(List<String> tokens, StringBuilder token) {
+        if (token.length() > 0) {
+            tokens.add(token.toString());
+            token.setLength(0);
+        }
+    }
+
+    /**
+     * Recursive descent compiler. Precedence, from low to high, is
+     * {@code or}, {@code and}, {@code not}.
+     */
+    private static final class Compiler {
+        private final List<String> tokens;
+        private int position = 0;
+
+        Compiler(List<String> tokens) {
+            this.tokens = tokens;
+        }
+
+        CompiledTagExpression compile() {
+            if (tokens.isEmpty()) {
+                return new True();
+            }
+            return or();
+        }
+
+        private CompiledTagExpression or() {
+            CompiledTagExpression left = and();
+            while (accept("or")) {
+                left = new Or(left, and());
+            }
+            return left;
+        }
+
+        private CompiledTagExpression and() {
+            CompiledTagExpression left = not();
+            while (accept("and")) {
+                left = new And(left, not());
+            }
+            return left;
+        }
+
+        private CompiledTagExpression not() {
+            if (accept("not")) {
+                return new Not(not());
+            }
+            if (accept("(")) {
+                CompiledTagExpression expression = or();
+                accept(")");
+                return expression;
+            }
+            return new Literal(TagSet.intern(tokens.get(position++)));
+        }
+
+        private boolean accept(String token) {
+            if (position < tokens.size() && tokens.get(position).equals(token)) {
+                position++;
+                return true;
+            }
+            return false;
+        }
+    }
+
+    private static final class True extends CompiledTagExpression {
+        @Override
+        boolean evaluate(TagSet tags) {
+            return true;
+        }
+    }
+
+    private static final class Literal extends CompiledTagExpression {
+        private final int index;
+
+        Literal(int index) {
+            this.index = index;
+        }
+
+        @Override
+        boolean evaluate(TagSet tags) {
+            return tags.contains(index);
+        }
+    }
+
+    private static final class Not extends CompiledTagExpression {
+        private final CompiledTagExpression expression;
+
+        Not(CompiledTagExpression expression) {
+            this.expression = expression;
+        }
+
+        @Override
+        boolean evaluate(TagSet tags) {
+            return !expression.evaluate(tags);
+        }
+    }
+
+    private static final class And extends CompiledTagExpression {
+        private final CompiledTagExpression left;
+        private final CompiledTagExpression right;
+
+        And(CompiledTagExpression left, CompiledTagExpression right) {
+            this.left = left;
+            this.right = right;
+        }
+
+        @Override
+        boolean evaluate(TagSet tags) {
+            return left.evaluate(tags) && right.evaluate(tags);
+        }
+    }
+
+    private static final class Or extends CompiledTagExpression {
+        private final CompiledTagExpression left;
+        private final CompiledTagExpression right;
+
+        Or(CompiledTagExpression left, CompiledTagExpression right) {
+            this.left = left;
+            this.right = right;
+        }
+
+        @Override
+        boolean evaluate(TagSet tags) {
+            return left.evaluate(tags) || right.evaluate(tags);
+        }
+    }
+}
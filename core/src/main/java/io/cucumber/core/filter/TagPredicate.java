@@ -2,8 +2,6 @@ package io.cucumber.core.filter;
 
 import gherkin.events.PickleEvent;
 import gherkin.pickles.PickleTag;
-import io.cucumber.tagexpressions.Expression;
-import io.cucumber.tagexpressions.TagExpressionParser;
 
 import java.util.ArrayList;
 import java.util.Collection;
@@ -13,8 +11,15 @@ import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
 
 
+/**
+ * Matches pickles by tag expression.
+ * <p>
+ * Tag expressions are compiled once against the interned tag vocabulary and
+ * the tags of a pickle are represented as a {@link TagSet}. Matching a
+ * pickle does not compare or copy tag names.
+ */
 public final class TagPredicate implements PicklePredicate {
-    private final List<Expression> expressions = new ArrayList<>();
+    private final List<CompiledTagExpression> expressions = new ArrayList<>();
 
     public TagPredicate(String tagExpression) {
         this(tagExpression.isEmpty() ? emptyList() : singletonList(tagExpression));
@@ -24,9 +29,8 @@ public final class TagPredicate implements PicklePredicate {
         if (tagExpressions == null) {
             return;
         }
-        TagExpressionParser parser = new TagExpressionParser();
         for (String tagExpression : tagExpressions) {
-            expressions.add(parser.parse(tagExpression));
+            expressions.add(CompiledTagExpression.compile(tagExpression));
         }
     }
 
@@ -40,12 +44,9 @@ public final class TagPredicate implements PicklePredicate {
             return true;
         }
 
-        List<String> tags = new ArrayList<>();
-        for (PickleTag pickleTag : pickleTags) {
-            tags.add(pickleTag.getName());
-        }
-        for (Expression expression : expressions) {
-            if (!expression.evaluate(tags)) {
+        TagSet tags = TagSet.of(pickleTags);
+        for (int i = 0; i < expressions.size(); i++) {
+            if (!expressions.get(i).evaluate(tags)) {
                 return false;
             }
         }
@@ -0,0 +1,59 @@
+package io.cucumber.core.filter;
+
+import gherkin.pickles.PickleTag;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The tags of a pickle as a set of bits.
+ * <p>
+ * Each tag name is interned once and assigned a bit. Tag expressions refer
+ * to tags by their bit, so evaluating an expression does not compare or
+ * copy tag names.
+ */
+final class TagSet {
+
+    private static final Map<String, Integer> VOCABULARY = new ConcurrentHashMap<>();
+    private static final TagSet EMPTY = new TagSet(new long[0]);
+
+    private final long[] words;
+
+    private TagSet(long[] words) {
+        this.words = words;
+    }
+
+    static int intern(String tagName) {
+        Integer index = VOCABULARY.get(tagName);
+        if (index != null) {
+            return index;
+        }
+        synchronized (VOCABULARY) {
+            return VOCABULARY.computeIfAbsent(tagName, name -> VOCABULARY.size());
+        }
+    }
+
+    static TagSet of(Collection<PickleTag> pickleTags) {
+        if (pickleTags.isEmpty()) {
+            return EMPTY;
+        }
+        long[] words = new long[0];
+        for (PickleTag pickleTag : pickleTags) {
+            int index = intern(pickleTag.getName());
+            int word = index >>> 6;
+            if (word >= words.length) {
+                long[] grown = new long[word + 1];
+                System.arraycopy(words, 0, grown, 0, words.length);
+                words = grown;
+            }
+            words[word] |= 1L << index;
+        }
+        return new TagSet(words);
+    }
+
+    boolean contains(int index) {
+        int word = index >>> 6;
+        return word < words.length && (words[word] & (1L << index)) != 0;
+    }
+}
@@ -14,6 +14,7 @@ import io.cucumber.core.plugin.JUnitFormatter;
 import io.cucumber.core.plugin.NullSummaryPrinter;
 import io.cucumber.core.plugin.Options;
 import io.cucumber.core.plugin.PrettyFormatter;
+import io.cucumber.core.plugin.ProfileFormatter;
 import io.cucumber.core.plugin.ProgressFormatter;
 import io.cucumber.core.plugin.RerunFormatter;
 import io.cucumber.core.plugin.TestNGFormatter;
@@ -44,6 +45,7 @@ public class PluginOption implements Options.Plugin {
         put("null_summary", NullSummaryPrinter.class);
         put("unused", UnusedStepsSummaryPrinter.class);
         put("timeline", TimelineFormatter.class);
+        put("profile", ProfileFormatter.class);
     }};
 
     // Refuse plugins known to implement the old API
@@ -6,6 +6,7 @@ import io.cucumber.core.order.StandardPickleOrders;
 import io.cucumber.core.snippets.SnippetType;
 
 import java.net.URI;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -35,10 +36,13 @@ public final class RuntimeOptions implements
     private boolean strict = false;
     private boolean monochrome = false;
     private boolean wip = false;
+    private boolean analyze = false;
     private SnippetType snippetType = SnippetType.UNDERSCORE;
     private int threads = 1;
     private PickleOrder pickleOrder = StandardPickleOrders.lexicalUriOrder();
     private int count = 0;
+    private Path resultCacheDirectory;
+    private String resultCacheKey = "";
 
     private final List<Plugin> formatters = new ArrayList<>();
     private final List<Plugin> summaryPrinters = new ArrayList<>();
@@ -95,6 +99,10 @@ public final class RuntimeOptions implements
         return wip;
     }
 
+    public boolean isAnalyze() {
+        return analyze;
+    }
+
     @Override
     public List<URI> getFeaturePaths() {
         return unmodifiableList(new ArrayList<>(featurePaths));
@@ -170,6 +178,16 @@ public final class RuntimeOptions implements
         return objectFactoryClass;
     }
 
+    @Override
+    public Path getResultCacheDirectory() {
+        return resultCacheDirectory;
+    }
+
+    @Override
+    public String getResultCacheKey() {
+        return resultCacheKey;
+    }
+
     public int getThreads() {
         return threads;
     }
@@ -194,6 +212,14 @@ public final class RuntimeOptions implements
         this.strict = strict;
     }
 
+    void setResultCacheDirectory(Path resultCacheDirectory) {
+        this.resultCacheDirectory = resultCacheDirectory;
+    }
+
+    void setResultCacheKey(String resultCacheKey) {
+        this.resultCacheKey = resultCacheKey;
+    }
+
     void setThreads(int threads) {
         this.threads = threads;
     }
@@ -202,6 +228,10 @@ public final class RuntimeOptions implements
         this.wip = wip;
     }
 
+    void setAnalyze(boolean analyze) {
+        this.analyze = analyze;
+    }
+
     void setObjectFactoryClass(Class<? extends ObjectFactory> objectFactoryClass) {
         this.objectFactoryClass = objectFactoryClass;
     }
@@ -8,6 +8,7 @@ import io.cucumber.core.order.PickleOrder;
 import io.cucumber.core.plugin.Options;
 
 import java.net.URI;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -31,8 +32,12 @@ public final class RuntimeOptionsBuilder {
     private Boolean parsedMonochrome = null;
     private SnippetType parsedSnippetType = null;
     private Boolean parsedWip = null;
+    private Boolean parsedAnalyze = null;
     private PickleOrder parsedPickleOrder = null;
     private Integer parsedCount = null;
+    private Path parsedResultCacheDirectory = null;
+    private boolean parsedNoResultCache = false;
+    private String parsedResultCacheKey = null;
     private Class<? extends ObjectFactory> parsedObjectFactoryClass = null;
 
     public RuntimeOptionsBuilder addFeature(FeatureWithLines featureWithLines) {
@@ -104,6 +109,10 @@ public final class RuntimeOptionsBuilder {
             runtimeOptions.setWip(this.parsedWip);
         }
 
+        if (this.parsedAnalyze != null) {
+            runtimeOptions.setAnalyze(this.parsedAnalyze);
+        }
+
         if (this.parsedPickleOrder != null) {
             runtimeOptions.setPickleOrder(this.parsedPickleOrder);
         }
@@ -112,6 +121,18 @@ public final class RuntimeOptionsBuilder {
             runtimeOptions.setCount(this.parsedCount);
         }
 
+        if (this.parsedResultCacheDirectory != null) {
+            runtimeOptions.setResultCacheDirectory(this.parsedResultCacheDirectory);
+        }
+
+        if (this.parsedNoResultCache) {
+            runtimeOptions.setResultCacheDirectory(null);
+        }
+
+        if (this.parsedResultCacheKey != null) {
+            runtimeOptions.setResultCacheKey(this.parsedResultCacheKey);
+        }
+
         if (this.parsedIsRerun || !this.parsedFeaturePaths.isEmpty()) {
             runtimeOptions.setFeaturePaths(Collections.<URI>emptyList());
             runtimeOptions.setLineFilters(Collections.<URI, Set<Integer>>emptyMap());
@@ -171,6 +192,23 @@ public final class RuntimeOptionsBuilder {
         return this;
     }
 
+    public RuntimeOptionsBuilder setResultCacheDirectory(Path resultCacheDirectory) {
+        this.parsedResultCacheDirectory = resultCacheDirectory;
+        this.parsedNoResultCache = false;
+        return this;
+    }
+
+    public RuntimeOptionsBuilder setNoResultCache() {
+        this.parsedResultCacheDirectory = null;
+        this.parsedNoResultCache = true;
+        return this;
+    }
+
+    public RuntimeOptionsBuilder setResultCacheKey(String resultCacheKey) {
+        this.parsedResultCacheKey = resultCacheKey;
+        return this;
+    }
+
     public RuntimeOptionsBuilder setSnippetType(SnippetType snippetType) {
         this.parsedSnippetType = snippetType;
         return this;
@@ -195,6 +233,11 @@ public final class RuntimeOptionsBuilder {
         return this;
     }
 
+    public RuntimeOptionsBuilder setAnalyze(boolean analyze) {
+        this.parsedAnalyze = analyze;
+        return this;
+    }
+
     public RuntimeOptionsBuilder addDefaultSummaryPrinterIfNotPresent() {
         parsedPluginData.addDefaultSummaryPrinterIfNotPresent();
         return this;
@@ -19,10 +19,15 @@ import java.io.BufferedReader;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.net.URI;
+import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Random;
 import java.util.ResourceBundle;
+import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -37,6 +42,7 @@ final class RuntimeOptionsParser {
 
     static final String VERSION = ResourceBundle.getBundle("io.cucumber.core.version").getString("cucumber-jvm.version");
     private static final Pattern RANDOM_AND_SEED_PATTERN = Pattern.compile("random(?::(\\d+))?");
+    private static final String FAILED_FIRST_PREFIX = "failed-first:";
 
     // IMPORTANT! Make sure USAGE.txt is always uptodate if this class changes.
     private static final String USAGE_RESOURCE = "/io/cucumber/core/options/USAGE.txt";
@@ -98,6 +104,8 @@ final class RuntimeOptionsParser {
                 parsedOptions.addNameFilter(pattern);
             } else if (arg.equals("--wip") || arg.equals("-w")) {
                 parsedOptions.setWip(true);
+            } else if (arg.equals("--no-analyze") || arg.equals("--analyze")) {
+                parsedOptions.setAnalyze(!arg.startsWith("--no-"));
             } else if (arg.equals("--order")) {
                 parsedOptions.setPickleOrder(parsePickleOrder(args.remove(0)));
             } else if (arg.equals("--count")) {
@@ -106,6 +114,12 @@ final class RuntimeOptionsParser {
                     throw new CucumberException("--count must be > 0");
                 }
                 parsedOptions.setCount(count);
+            } else if (arg.equals("--cache")) {
+                parsedOptions.setResultCacheDirectory(Paths.get(args.remove(0)));
+            } else if (arg.equals("--no-cache")) {
+                parsedOptions.setNoResultCache();
+            } else if (arg.equals("--cache-key")) {
+                parsedOptions.setResultCacheKey(args.remove(0));
             } else if (arg.equals("--object-factory")) {
                 String objectFactoryClassName = args.remove(0);
                 parsedOptions.setObjectFactoryClass(parseObjectFactory(objectFactoryClassName));
@@ -126,12 +140,21 @@ final class RuntimeOptionsParser {
         return parsedOptions;
     }
 
-    private static PickleOrder parsePickleOrder(String argument) {
+    private PickleOrder parsePickleOrder(String argument) {
 
         if ("reverse".equals(argument)) {
             return StandardPickleOrders.reverseLexicalUriOrder();
         }
 
+        if ("recently-changed".equals(argument)) {
+            return StandardPickleOrders.recentlyChangedFirst();
+        }
+
+        if (argument.startsWith(FAILED_FIRST_PREFIX)) {
+            URI rerunFile = FeaturePath.parse(argument.substring(FAILED_FIRST_PREFIX.length()));
+            return StandardPickleOrders.failedFirst(loadFailures(rerunFile), StandardPickleOrders.recentlyChangedFirst());
+        }
+
         Matcher matcher = RANDOM_AND_SEED_PATTERN.matcher(argument);
         if (matcher.matches()) {
             long seed = Math.abs(new Random().nextLong());
@@ -145,7 +168,15 @@ final class RuntimeOptionsParser {
             return StandardPickleOrders.random(seed);
         }
 
-        throw new CucumberException("Invalid order. Must be either reverse, random or random:<long>");
+        throw new CucumberException("Invalid order. Must be either reverse, random, random:<long>, recently-changed or failed-first:<rerun file>");
+    }
+
+    private Map<URI, Set<Integer>> loadFailures(URI rerunFile) {
+        Map<URI, Set<Integer>> failures = new HashMap<>();
+        for (FeatureWithLines featureWithLines : rerunLoader.loadIfExists(rerunFile)) {
+            failures.computeIfAbsent(featureWithLines.uri(), uri -> new HashSet<>()).addAll(featureWithLines.lines());
+        }
+        return failures;
     }
 
     private static void printUsage() {
@@ -1,14 +1,31 @@
 package io.cucumber.core.order;
 
 import gherkin.events.PickleEvent;
+import gherkin.pickles.PickleLocation;
+import io.cucumber.core.io.Classpath;
+import io.cucumber.core.logging.Logger;
+import io.cucumber.core.logging.LoggerFactory;
 
+import java.io.IOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Random;
 
 public final class StandardPickleOrders {
 
+    private static final Logger log = LoggerFactory.getLogger(StandardPickleOrders.class);
+
     private StandardPickleOrders() {
 
     }
@@ -44,6 +61,125 @@ public final class StandardPickleOrders {
         };
     }
 
+    /**
+     * Orders pickles that failed in a previous run before other pickles.
+     * Failed and other pickles are each ordered by {@code then}.
+     *
+     * @param failures the lines of failed pickles by feature uri, e.g. as
+     *                 written by the rerun formatter. A feature without lines
+     *                 failed entirely.
+     * @param then     the order of failed and other pickles
+     * @return an order that puts failed pickles first
+     */
+    public static PickleOrder failedFirst(final Map<URI, ? extends Collection<Integer>> failures, final PickleOrder then) {
+        return new PickleOrder() {
+            @Override
+            public List<PickleEvent> orderPickleEvents(List<PickleEvent> pickleEvents) {
+                List<PickleEvent> ordered = then.orderPickleEvents(pickleEvents);
+                List<PickleEvent> failed = new ArrayList<>();
+                List<PickleEvent> others = new ArrayList<>();
+                for (PickleEvent pickleEvent : ordered) {
+                    if (hasFailed(failures, pickleEvent)) {
+                        failed.add(pickleEvent);
+                    } else {
+                        others.add(pickleEvent);
+                    }
+                }
+                failed.addAll(others);
+                return failed;
+            }
+        };
+    }
+
+    /**
+     * Orders pickles from feature files that were modified most recently
+     * first. Pickles from features that were modified at the same time, or
+     * that are not files, are ordered by uri.
+     * <p>
+     * Features on the classpath are ordered by the modification time of the
+     * file they were loaded from. Features in a jar are not files, a warning
+     * is logged when any are ordered.
+     *
+     * @return an order that puts recently changed features first
+     */
+    public static PickleOrder recentlyChangedFirst() {
+        return new PickleOrder() {
+            @Override
+            public List<PickleEvent> orderPickleEvents(List<PickleEvent> pickleEvents) {
+                Map<String, Long> lastModifiedByUri = new HashMap<>();
+                for (PickleEvent pickleEvent : pickleEvents) {
+                    lastModifiedByUri.computeIfAbsent(pickleEvent.uri, StandardPickleOrders::lastModified);
+                }
+                lastModifiedByUri.entrySet().stream()
+                    .filter(entry -> entry.getValue() == Long.MIN_VALUE)
+                    .map(Map.Entry::getKey)
+                    .findFirst()
+                    .ifPresent(uri -> log.warn("Recently changed features can only be ordered first when they are files. " +
+                        "Features that are not files, e.g. " + uri + ", are ordered last."));
+                Comparator<PickleEvent> recentlyChanged = Comparator.comparingLong(
+                    (PickleEvent pickleEvent) -> lastModifiedByUri.get(pickleEvent.uri)
+                ).reversed();
+                Collections.sort(pickleEvents, recentlyChanged.thenComparing(new PickleUriComparator()));
+                return pickleEvents;
+            }
+        };
+    }
+
+    private static boolean hasFailed(Map<URI, ? extends Collection<Integer>> failures, PickleEvent pickleEvent) {
+        Collection<Integer> lines = failures.get(URI.create(pickleEvent.uri));
+        if (lines == null) {
+            return false;
+        }
+        if (lines.isEmpty()) {
+            // All pickles in the feature failed
+            return true;
+        }
+        for (PickleLocation location : pickleEvent.pickle.getLocations()) {
+            if (lines.contains(location.getLine())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static long lastModified(String uri) {
+        Path path = toPath(URI.create(uri));
+        if (path == null) {
+            return Long.MIN_VALUE;
+        }
+        try {
+            return Files.getLastModifiedTime(path).toMillis();
+        } catch (IOException e) {
+            return Long.MIN_VALUE;
+        }
+    }
+
+    private static Path toPath(URI featureUri) {
+        if ("file".equals(featureUri.getScheme())) {
+            return Paths.get(featureUri.getSchemeSpecificPart());
+        }
+        if (!Classpath.CLASSPATH_SCHEME.equals(featureUri.getScheme())) {
+            return null;
+        }
+        String resourceName = featureUri.getSchemeSpecificPart();
+        if (resourceName.startsWith("/")) {
+            resourceName = resourceName.substring(1);
+        }
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        if (classLoader == null) {
+            classLoader = StandardPickleOrders.class.getClassLoader();
+        }
+        URL resource = classLoader.getResource(resourceName);
+        if (resource == null || !"file".equals(resource.getProtocol())) {
+            return null;
+        }
+        try {
+            return Paths.get(resource.toURI());
+        } catch (URISyntaxException e) {
+            return null;
+        }
+    }
+
     private static class PickleUriComparator implements Comparator<PickleEvent> {
 
         @Override
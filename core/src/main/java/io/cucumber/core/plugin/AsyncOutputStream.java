@@ -0,0 +1,240 @@
+package io.cucumber.core.plugin;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * Buffers output and writes it to the underlying stream on a background
+ * thread.
+ * <p>
+ * Writes are copied into large buffers on the calling thread. Full buffers
+ * are handed off to a writer thread. Memory use is bounded; when all buffers
+ * are in flight the caller waits for the writer to catch up.
+ * <p>
+ * Because formatters flush after every write, {@link #flush()} does not
+ * wait for the underlying stream. Use {@link #drain()} to wait until all
+ * output has been written. When the JVM shuts down before the stream was
+ * closed, pending output is written and the stream is closed so the
+ * underlying stream can complete its output.
+ */
+final class AsyncOutputStream extends OutputStream {
+    private static final int BUFFER_SIZE = 256 * 1024;
+    private static final int MAX_BUFFERS = 8;
+    private static final Chunk END = new Chunk(null, 0, null);
+
+    private final OutputStream out;
+    private final BlockingQueue<Chunk> pending = new LinkedBlockingQueue<>();
+    private final BlockingQueue<byte[]> free = new LinkedBlockingQueue<>();
+    private final Thread writer;
+    private final Thread shutdownHook;
+    private volatile Throwable failure;
+
+    private int allocated;
+    private byte[] buffer;
+    private int position;
+    private boolean closed;
+
+    AsyncOutputStream(OutputStream out) {
+        this.out = out;
+        this.writer = new Thread(this::writeChunks, "cucumber-output-writer");
+        this.writer.setDaemon(true);
+        this.writer.start();
+        this.shutdownHook = new Thread(this::closeQuietly, "cucumber-output-close");
+        Runtime.getRuntime().addShutdownHook(shutdownHook);
+    }
+
+    @Override
+    public synchronized void write(int b) throws IOException {
+        ensureOpen();
+        if (buffer == null || position == buffer.length) {
+            handOff();
+        }
+        buffer[position++] = (byte) b;
+    }
+
+    @Override
+    public synchronized void write(byte[] bytes, int offset, int length) throws IOException {
+        ensureOpen();
+        while (length > 0) {
+            if (buffer == null || position == buffer.length) {
+                handOff();
+            }
+            int count = Math.min(length, buffer.length - position);
+            System.arraycopy(bytes, offset, buffer, position, count);
+            position += count;
+            offset += count;
+            length -= count;
+        }
+    }
+
+    /**
+     * Does not wait for the underlying stream.
+     *
+     * @throws IOException if a previous write failed
+     */
+    @Override
+    public void flush() throws IOException {
+        throwIfFailed();
+    }
+
+    /**
+     * Waits until all buffered output has been written to and flushed by
+     * the underlying stream.
+     *
+     * @throws IOException if writing failed
+     */
+    synchronized void drain() throws IOException {
+        if (closed) {
+            return;
+        }
+        if (buffer != null && position > 0) {
+            pending.add(new Chunk(buffer, position, null));
+            buffer = null;
+            position = 0;
+        }
+        CountDownLatch written = new CountDownLatch(1);
+        pending.add(new Chunk(null, 0, written));
+        try {
+            written.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while draining output");
+        }
+        throwIfFailed();
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        try {
+            drain();
+        } finally {
+            closed = true;
+            pending.add(END);
+            try {
+                writer.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            removeShutdownHook();
+            out.close();
+        }
+    }
+
+    private void handOff() throws IOException {
+        if (buffer != null && position > 0) {
+            pending.add(new Chunk(buffer, position, null));
+        }
+        buffer = acquireBuffer();
+        position = 0;
+    }
+
+    private byte[] acquireBuffer() throws IOException {
+        byte[] recycled = free.poll();
+        if (recycled != null) {
+            return recycled;
+        }
+        if (allocated < MAX_BUFFERS) {
+            allocated++;
+            return new byte[BUFFER_SIZE];
+        }
+        try {
+            return free.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for output buffer");
+        }
+    }
+
+    private void writeChunks() {
+        try {
+            while (true) {
+                Chunk chunk = pending.take();
+                if (chunk == END) {
+                    return;
+                }
+                if (chunk.bytes != null) {
+                    writeQuietly(chunk);
+                    free.add(chunk.bytes);
+                }
+                if (chunk.written != null) {
+                    flushQuietly();
+                    chunk.written.countDown();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void writeQuietly(Chunk chunk) {
+        if (failure != null) {
+            return;
+        }
+        try {
+            out.write(chunk.bytes, 0, chunk.length);
+        } catch (Throwable t) {
+            // Keep the writer alive so drain and close do not wait forever
+            failure = t;
+        }
+    }
+
+    private void flushQuietly() {
+        if (failure != null) {
+            return;
+        }
+        try {
+            out.flush();
+        } catch (Throwable t) {
+            failure = t;
+        }
+    }
+
+    private void closeQuietly() {
+        try {
+            close();
+        } catch (IOException ignored) {
+            // Nothing left to report to
+        }
+    }
+
+    private void removeShutdownHook() {
+        try {
+            Runtime.getRuntime().removeShutdownHook(shutdownHook);
+        } catch (IllegalStateException ignored) {
+            // Already shutting down
+        }
+    }
+
+    private void ensureOpen() throws IOException {
+        if (closed) {
+            throw new IOException("Stream closed");
+        }
+        throwIfFailed();
+    }
+
+    private void throwIfFailed() throws IOException {
+        Throwable failure = this.failure;
+        if (failure != null) {
+            throw new IOException("Failed to write output", failure);
+        }
+    }
+
+    private static final class Chunk {
+        private final byte[] bytes;
+        private final int length;
+        private final CountDownLatch written;
+
+        private Chunk(byte[] bytes, int length, CountDownLatch written) {
+            this.bytes = bytes;
+            this.length = length;
+            this.written = written;
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package io.cucumber.core.plugin;
 
 import io.cucumber.core.event.Event;
+import io.cucumber.core.event.GlueAnalyzedEvent;
 import io.cucumber.core.event.SnippetsSuggestedEvent;
 import io.cucumber.core.event.StepDefinedEvent;
 import io.cucumber.core.event.TestCaseEvent;
@@ -27,6 +28,7 @@ import static java.util.Arrays.asList;
  * <li>TestSourceRead
  * <li>SnippetsSuggestedEvent
  * <li>TestCaseEvent
+ * <li>GlueAnalyzedEvent
  * <li>TestRunFinished
  * </ol>
  * <p>
@@ -64,6 +66,7 @@ final class CanonicalEventOrder implements Comparator<Event> {
             SnippetsSuggestedEvent.class,
             StepDefinedEvent.class,
             TestCaseEvent.class,
+            GlueAnalyzedEvent.class,
             TestRunFinished.class
         );
 
@@ -2,10 +2,13 @@ package io.cucumber.core.plugin;
 
 import io.cucumber.core.event.EventHandler;
 import io.cucumber.core.event.EventPublisher;
+import io.cucumber.core.event.GlueAnalyzedEvent;
+import io.cucumber.core.event.StepDefinition;
 import io.cucumber.core.event.TestRunFinished;
 
 import java.io.PrintStream;
 import java.util.List;
+import java.util.Map;
 
 public final class DefaultSummaryPrinter implements SummaryPrinter, ColorAware, StrictAware, EventListener {
 
@@ -13,12 +16,22 @@ public final class DefaultSummaryPrinter implements SummaryPrinter, ColorAware,
     private final UndefinedStepsTracker undefinedStepsTracker = new UndefinedStepsTracker();
 
     private final PrintStream out;
+    private Formats formats = new AnsiFormats();
+    private GlueAnalyzedEvent analysis;
 
     public DefaultSummaryPrinter() {
-        this.out = System.out;
+        this(System.out);
+    }
+
+    DefaultSummaryPrinter(PrintStream out) {
+        this.out = out;
     }
 
     private void print() {
+        if (analysis != null) {
+            printAnalysis();
+            return;
+        }
         out.println();
         printStats();
         out.println();
@@ -49,10 +62,38 @@ public final class DefaultSummaryPrinter implements SummaryPrinter, ColorAware,
         }
     }
 
+    private void printAnalysis() {
+        out.println();
+        printSteps("Undefined steps", formats.get("undefined"), analysis.getUndefinedSteps());
+        printSteps("Ambiguous steps", formats.get("ambiguous"), analysis.getAmbiguousSteps());
+        List<StepDefinition> unused = analysis.getUnusedStepDefinitions();
+        Format format = formats.get("unused");
+        out.println(format.text(unused.size() + " Unused step definitions"));
+        for (StepDefinition stepDefinition : unused) {
+            out.println("  " + format.text(stepDefinition.getPattern()) + " # " + stepDefinition.getLocation(false));
+        }
+    }
+
+    private void printSteps(String title, Format format, Map<String, List<String>> steps) {
+        out.println(format.text(steps.size() + " " + title));
+        for (Map.Entry<String, List<String>> step : steps.entrySet()) {
+            out.println("  " + format.text(step.getKey()));
+            for (String location : step.getValue()) {
+                out.println("    " + location);
+            }
+        }
+    }
+
     @Override
     public void setEventPublisher(EventPublisher publisher) {
         stats.setEventPublisher(publisher);
         undefinedStepsTracker.setEventPublisher(publisher);
+        publisher.registerHandlerFor(GlueAnalyzedEvent.class, new EventHandler<GlueAnalyzedEvent>() {
+            @Override
+            public void receive(GlueAnalyzedEvent event) {
+                analysis = event;
+            }
+        });
         publisher.registerHandlerFor(TestRunFinished.class, new EventHandler<TestRunFinished>() {
             @Override
             public void receive(TestRunFinished event) {
@@ -64,6 +105,11 @@ public final class DefaultSummaryPrinter implements SummaryPrinter, ColorAware,
     @Override
     public void setMonochrome(boolean monochrome) {
         stats.setMonochrome(monochrome);
+        if (monochrome) {
+            formats = new MonochromeFormats();
+        } else {
+            formats = new AnsiFormats();
+        }
     }
 
     @Override
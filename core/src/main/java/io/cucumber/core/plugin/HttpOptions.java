@@ -0,0 +1,138 @@
+package io.cucumber.core.plugin;
+
+import io.cucumber.core.exception.CucumberException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Options for uploading a report over http. Parsed from the words that
+ * follow the url in a plugin argument. E.g:
+ * <pre>
+ * json:https://example.com/report -X POST -H 'Authorization: Bearer 123' --compressed --retry 3
+ * </pre>
+ * Supported options:
+ * <ul>
+ * <li>{@code -X METHOD} - request method. Defaults to PUT.</li>
+ * <li>{@code -H 'NAME: VALUE'} - adds a request header. May be repeated.</li>
+ * <li>{@code --compressed} - sends the body gzip compressed.</li>
+ * <li>{@code --connect-timeout SECONDS} - connect timeout. Defaults to no timeout.</li>
+ * <li>{@code --max-time SECONDS} - maximum time an upload attempt may take, from connecting until
+ * the response is received. Defaults to no limit.</li>
+ * <li>{@code --retry COUNT} - number of retries after a failed upload. Defaults to 0.</li>
+ * </ul>
+ */
+final class HttpOptions {
+    private static final Pattern WORDS_PATTERN = Pattern.compile("[^\\s']+|'([^']*)'");
+    private static final Pattern HEADER_PATTERN = Pattern.compile("([^:]+):\\s*(.*)");
+
+    private String method = "PUT";
+    private final Map<String, String> headers = new LinkedHashMap<>();
+    private boolean compressed = false;
+    private Duration connectTimeout = Duration.ZERO;
+    private Duration maxTime = Duration.ZERO;
+    private int retries = 0;
+
+    static HttpOptions defaults() {
+        return new HttpOptions();
+    }
+
+    /**
+     * Splits a plugin argument into the url and its http options.
+     *
+     * @param argument the plugin argument
+     * @return the words of the argument, the first being the url
+     */
+    static List<String> splitWords(String argument) {
+        List<String> words = new ArrayList<>();
+        Matcher matcher = WORDS_PATTERN.matcher(argument);
+        while (matcher.find()) {
+            words.add(matcher.group(1) != null ? matcher.group(1) : matcher.group());
+        }
+        return words;
+    }
+
+    static HttpOptions parse(List<String> args) {
+        HttpOptions options = new HttpOptions();
+        List<String> remaining = new ArrayList<>(args);
+        while (!remaining.isEmpty()) {
+            String arg = remaining.remove(0).trim();
+            if (arg.equals("-X") || arg.equals("--request")) {
+                options.method = nextArg(arg, remaining);
+            } else if (arg.equals("-H") || arg.equals("--header")) {
+                String header = nextArg(arg, remaining);
+                Matcher matcher = HEADER_PATTERN.matcher(header);
+                if (!matcher.matches()) {
+                    throw new CucumberException("Invalid header " + header + ". Expected NAME: VALUE");
+                }
+                options.headers.put(matcher.group(1).trim(), matcher.group(2));
+            } else if (arg.equals("--compressed")) {
+                options.compressed = true;
+            } else if (arg.equals("--connect-timeout")) {
+                options.connectTimeout = Duration.ofSeconds(parseNonNegative(arg, nextArg(arg, remaining)));
+            } else if (arg.equals("--max-time")) {
+                options.maxTime = Duration.ofSeconds(parseNonNegative(arg, nextArg(arg, remaining)));
+            } else if (arg.equals("--retry")) {
+                options.retries = parseNonNegative(arg, nextArg(arg, remaining));
+            } else {
+                throw new CucumberException("Unknown http option: " + arg);
+            }
+        }
+        return options;
+    }
+
+    private static String nextArg(String option, List<String> remaining) {
+        if (remaining.isEmpty()) {
+            throw new CucumberException("Missing value for http option " + option);
+        }
+        return remaining.remove(0);
+    }
+
+    private static int parseNonNegative(String option, String value) {
+        try {
+            int parsed = Integer.parseInt(value);
+            if (parsed >= 0) {
+                return parsed;
+            }
+        } catch (NumberFormatException ignored) {
+            // Reported below
+        }
+        throw new CucumberException("Invalid value for http option " + option + ": " + value);
+    }
+
+    String getMethod() {
+        return method;
+    }
+
+    Map<String, String> getHeaders() {
+        return Collections.unmodifiableMap(headers);
+    }
+
+    boolean isCompressed() {
+        return compressed;
+    }
+
+    /**
+     * @return the connect timeout, zero if there is none
+     */
+    Duration getConnectTimeout() {
+        return connectTimeout;
+    }
+
+    /**
+     * @return the maximum duration of an upload attempt, zero if there is none
+     */
+    Duration getMaxTime() {
+        return maxTime;
+    }
+
+    int getRetries() {
+        return retries;
+    }
+}
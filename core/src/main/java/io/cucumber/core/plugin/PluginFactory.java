@@ -11,6 +11,8 @@ import java.net.MalformedURLException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
 
 import static java.util.Arrays.asList;
 
@@ -19,12 +21,19 @@ import static java.util.Arrays.asList;
  * <p>
  * The String is of the form name[:output] where name is either a fully qualified class name or one of the built-in
  * short names. The output is optional for some plugins (and mandatory for some).
+ * <p>
+ * When the output is a http or https url it may be followed by {@link HttpOptions}.
+ * <p>
+ * Output to files and urls is buffered and written on a background thread. It is
+ * drained when the test run finishes.
  *
  * @see Plugin for specific requirements
  */
 public final class PluginFactory {
     private final Class[] CTOR_PARAMETERS = new Class[]{String.class, Appendable.class, URI.class, URL.class, File.class};
 
+    private final List<AsyncOutputStream> asyncOutputs = new ArrayList<>();
+
     private String defaultOutFormatter = null;
 
     private Appendable defaultOut = new PrintStream(System.out) {
@@ -57,6 +66,19 @@ public final class PluginFactory {
         }
     }
 
+    /**
+     * Writes all output buffered for plugins that write to a file or url.
+     */
+    void drainOutputs() {
+        for (AsyncOutputStream out : asyncOutputs) {
+            try {
+                out.drain();
+            } catch (IOException e) {
+                throw new CucumberException(e);
+            }
+        }
+    }
+
     private <T extends Plugin> T instantiate(String pluginString, Class<T> pluginClass, String argument) throws IOException, URISyntaxException {
         Constructor<T> single = findSingleArgConstructor(pluginClass);
         Constructor<T> empty = findEmptyConstructor(pluginClass);
@@ -106,11 +128,22 @@ public final class PluginFactory {
             return arg;
         }
         if (ctorArgClass.equals(Appendable.class)) {
-            return new UTF8OutputStreamWriter(new URLOutputStream(toURL(arg)));
+            AsyncOutputStream out = new AsyncOutputStream(createURLOutputStream(arg));
+            asyncOutputs.add(out);
+            return new UTF8OutputStreamWriter(out);
         }
         return null;
     }
 
+    private static URLOutputStream createURLOutputStream(String arg) throws IOException {
+        if (!arg.matches("^(http|https):.*")) {
+            return new URLOutputStream(toURL(arg));
+        }
+        List<String> words = HttpOptions.splitWords(arg);
+        HttpOptions options = HttpOptions.parse(words.subList(1, words.size()));
+        return new URLOutputStream(toURL(words.get(0)), options);
+    }
+
     private <T> Constructor<T> findSingleArgConstructor(Class<T> pluginClass) {
         Constructor<T> constructor = null;
         for (Class ctorArgClass : CTOR_PARAMETERS) {
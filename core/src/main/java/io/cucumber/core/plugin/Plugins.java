@@ -3,6 +3,7 @@ package io.cucumber.core.plugin;
 import io.cucumber.core.event.Event;
 import io.cucumber.core.event.EventHandler;
 import io.cucumber.core.event.EventPublisher;
+import io.cucumber.core.event.TestRunFinished;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -90,6 +91,7 @@ public final class Plugins {
                 ((EventListener) plugin).setEventPublisher(eventPublisher);
             }
        }
+       drainOutputsOnTestRunFinished(eventPublisher);
     }
 
     public void setSerialEventBusOnEventListenerPlugins(EventPublisher eventPublisher) {
@@ -101,6 +103,17 @@ public final class Plugins {
                 ((EventListener) plugin).setEventPublisher(orderedEventPublisher);
             }
         }
+        drainOutputsOnTestRunFinished(eventPublisher);
+    }
+
+    private void drainOutputsOnTestRunFinished(EventPublisher eventPublisher) {
+        // Registered last so all plugins have written their output.
+        eventPublisher.registerHandlerFor(TestRunFinished.class, new EventHandler<TestRunFinished>() {
+            @Override
+            public void receive(TestRunFinished event) {
+                pluginFactory.drainOutputs();
+            }
+        });
     }
 
 }
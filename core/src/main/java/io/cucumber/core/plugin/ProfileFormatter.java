@@ -0,0 +1,144 @@
+package io.cucumber.core.plugin;
+
+import io.cucumber.core.event.EventHandler;
+import io.cucumber.core.event.EventPublisher;
+import io.cucumber.core.event.TestRunFinished;
+import io.cucumber.core.event.TestRunStarted;
+import io.cucumber.core.probe.ProbeListener;
+import io.cucumber.core.probe.Probes;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Formatter to measure the overhead of cucumber itself. Prints the total, mean
+ * and 99th percentile duration of each phase measured by {@link Probes}.
+ * <p>
+ * The {@code Runner.runTestCase} phase includes the execution of glue code and
+ * gives an indication of the time spent outside of cucumber.
+ */
+public final class ProfileFormatter implements ConcurrentEventListener, ProbeListener {
+
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+    private final NiceAppendable out;
+
+    private final EventHandler<TestRunStarted> runStartedHandler = new EventHandler<TestRunStarted>() {
+        @Override
+        public void receive(TestRunStarted event) {
+            timers.clear();
+        }
+    };
+    private final EventHandler<TestRunFinished> runFinishedHandler = new EventHandler<TestRunFinished>() {
+        @Override
+        public void receive(TestRunFinished event) {
+            finishReport();
+        }
+    };
+
+    @SuppressWarnings("WeakerAccess") // Used by PluginFactory
+    public ProfileFormatter(Appendable out) {
+        this.out = new NiceAppendable(out);
+    }
+
+    @Override
+    public void setEventPublisher(EventPublisher publisher) {
+        publisher.registerHandlerFor(TestRunStarted.class, runStartedHandler);
+        publisher.registerHandlerFor(TestRunFinished.class, runFinishedHandler);
+        Probes.addListener(this);
+    }
+
+    @Override
+    public void record(String phase, long duration) {
+        timers.computeIfAbsent(phase, p -> new Timer()).record(duration);
+    }
+
+    void finishReport() {
+        Probes.removeListener(this);
+        List<Map.Entry<String, Timer>> entries = new ArrayList<>(timers.entrySet());
+        entries.sort(Comparator.comparing((Map.Entry<String, Timer> entry) -> entry.getValue().total()).reversed());
+
+        out.println(String.format(Locale.ROOT, "%-50s %10s %12s %12s %12s", "Phase", "Count", "Total (ms)", "Mean (us)", "p99 (us)"));
+        for (Map.Entry<String, Timer> entry : entries) {
+            Timer timer = entry.getValue();
+            long count = timer.count();
+            out.println(String.format(Locale.ROOT, "%-50s %10d %12.1f %12.1f %12.1f",
+                entry.getKey(),
+                count,
+                timer.total() / 1e6,
+                count == 0 ? 0 : timer.total() / 1e3 / count,
+                timer.percentile(0.99) / 1e3
+            ));
+        }
+        out.close();
+    }
+
+    /**
+     * Records durations in a log-linear histogram. Values are approximated to
+     * within 1/16th of their magnitude.
+     */
+    static final class Timer {
+        private static final int SUB_BUCKET_BITS = 4;
+        private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+        private static final int BUCKETS = SUB_BUCKETS + (63 - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+        private final LongAdder count = new LongAdder();
+        private final LongAdder total = new LongAdder();
+        private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+
+        void record(long duration) {
+            long value = Math.max(0, duration);
+            count.increment();
+            total.add(value);
+            buckets.incrementAndGet(bucketOf(value));
+        }
+
+        long count() {
+            return count.sum();
+        }
+
+        long total() {
+            return total.sum();
+        }
+
+        long percentile(double percentile) {
+            long count = count();
+            if (count == 0) {
+                return 0;
+            }
+            long rank = (long) Math.ceil(percentile * count);
+            long seen = 0;
+            for (int bucket = 0; bucket < BUCKETS; bucket++) {
+                seen += buckets.get(bucket);
+                if (seen >= rank) {
+                    return upperBoundOf(bucket);
+                }
+            }
+            return upperBoundOf(BUCKETS - 1);
+        }
+
+        private static int bucketOf(long value) {
+            if (value < SUB_BUCKETS) {
+                return (int) value;
+            }
+            int exponent = 63 - Long.numberOfLeadingZeros(value);
+            int shift = exponent - SUB_BUCKET_BITS;
+            int subBucket = (int) ((value >>> shift) & (SUB_BUCKETS - 1));
+            return SUB_BUCKETS + shift * SUB_BUCKETS + subBucket;
+        }
+
+        private static long upperBoundOf(int bucket) {
+            if (bucket < SUB_BUCKETS) {
+                return bucket;
+            }
+            int shift = (bucket - SUB_BUCKETS) / SUB_BUCKETS;
+            int subBucket = (bucket - SUB_BUCKETS) % SUB_BUCKETS;
+            return ((long) (SUB_BUCKETS + subBucket + 1) << shift) - 1;
+        }
+    }
+}
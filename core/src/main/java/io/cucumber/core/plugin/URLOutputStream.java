@@ -2,18 +2,26 @@ package io.cucumber.core.plugin;
 
 import gherkin.deps.com.google.gson.Gson;
 
+import java.io.BufferedOutputStream;
 import java.io.BufferedReader;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.InterruptedIOException;
 import java.io.OutputStream;
 import java.net.HttpURLConnection;
+import java.net.SocketTimeoutException;
 import java.net.URL;
-import java.util.Collections;
+import java.nio.file.Files;
+import java.time.Duration;
 import java.util.Map;
+import java.util.Timer;
+import java.util.TimerTask;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
+import java.util.zip.GZIPOutputStream;
 
 import static java.nio.charset.StandardCharsets.UTF_8;
 
@@ -21,40 +29,62 @@ import static java.nio.charset.StandardCharsets.UTF_8;
 /**
  * A stream that can write to both file and http URLs. If it's a file URL, writes with a {@link java.io.FileOutputStream},
  * if it's a http or https URL, writes with a HTTP PUT (by default) or with the specified method.
+ * <p>
+ * Files with a {@value #GZIP_EXTENSION} extension are written through a buffered {@link GZIPOutputStream}.
+ * <p>
+ * Http uploads are spooled to a temporary file first and sent when the stream is closed. This avoids
+ * buffering the whole report in memory and allows the upload to be retried after a failure.
+ *
+ * @see HttpOptions
  */
 class URLOutputStream extends OutputStream {
+    static final String GZIP_EXTENSION = ".gz";
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final long RETRY_DELAY_MILLIS = 500;
+
     private final URL url;
     private final String method;
     private final int expectedResponseCode;
+    private final HttpOptions options;
     private final OutputStream out;
-    private final HttpURLConnection urlConnection;
+    private final File spool;
 
     URLOutputStream(URL url) throws IOException {
-        this(url, "PUT", Collections.<String, String>emptyMap(), 200);
+        this(url, HttpOptions.defaults());
+    }
+
+    URLOutputStream(URL url, HttpOptions options) throws IOException {
+        this(url, options, 200);
     }
 
-    private URLOutputStream(URL url, String method, Map<String, String> headers, int expectedResponseCode) throws IOException {
+    private URLOutputStream(URL url, HttpOptions options, int expectedResponseCode) throws IOException {
         this.url = url;
-        this.method = method;
+        this.method = options.getMethod();
+        this.options = options;
         this.expectedResponseCode = expectedResponseCode;
         if (url.getProtocol().equals("file")) {
             File file = new File(url.getFile());
             ensureParentDirExists(file);
-            out = new FileOutputStream(file);
-            urlConnection = null;
+            out = createFileOutputStream(file);
+            spool = null;
         } else if (url.getProtocol().startsWith("http")) {
-            urlConnection = (HttpURLConnection) url.openConnection();
-            urlConnection.setRequestMethod(method);
-            urlConnection.setDoOutput(true);
-            for (Map.Entry<String, String> header : headers.entrySet()) {
-                urlConnection.setRequestProperty(header.getKey(), header.getValue());
-            }
-            out = urlConnection.getOutputStream();
+            spool = File.createTempFile("cucumber", ".upload");
+            spool.deleteOnExit();
+            OutputStream spoolOut = new BufferedOutputStream(new FileOutputStream(spool), BUFFER_SIZE);
+            out = options.isCompressed() ? new GZIPOutputStream(spoolOut, BUFFER_SIZE) : spoolOut;
         } else {
             throw new IllegalArgumentException("URL Scheme must be one of file,http,https. " + url.toExternalForm());
         }
     }
 
+    private static OutputStream createFileOutputStream(File file) throws IOException {
+        OutputStream fileOut = new FileOutputStream(file);
+        if (!file.getName().endsWith(GZIP_EXTENSION)) {
+            return fileOut;
+        }
+        return new GZIPOutputStream(new BufferedOutputStream(fileOut, BUFFER_SIZE), BUFFER_SIZE);
+    }
+
     private void ensureParentDirExists(File file) throws IOException {
         if (file.getParentFile() != null && !file.getParentFile().isDirectory()) {
             boolean ok = file.getParentFile().mkdirs() || file.getParentFile().isDirectory();
@@ -86,33 +116,117 @@ class URLOutputStream extends OutputStream {
 
     @Override
     public void close() throws IOException {
+        out.close();
+        if (spool == null) {
+            return;
+        }
         try {
-            if (urlConnection == null) {
-                return;
-            }
+            upload();
+        } finally {
+            spool.delete();
+        }
+    }
 
-            int responseCode = urlConnection.getResponseCode();
+    private void upload() throws IOException {
+        IOException lastFailure = null;
+        for (int attempt = 0; attempt <= options.getRetries(); attempt++) {
+            if (attempt > 0) {
+                waitBeforeRetry(attempt);
+            }
+            HttpURLConnection urlConnection = (HttpURLConnection) url.openConnection();
+            int responseCode;
+            try {
+                responseCode = send(urlConnection);
+            } catch (IOException e) {
+                lastFailure = e;
+                continue;
+            }
             if (responseCode == expectedResponseCode) {
                 return;
             }
+            IOException failure = createFailure(urlConnection, responseCode);
+            // Client errors won't go away by trying again
+            if (responseCode < 500) {
+                throw failure;
+            }
+            lastFailure = failure;
+        }
+        throw lastFailure;
+    }
 
-            try {
-                urlConnection.getInputStream().close();
-                throw new IOException(String.format("Expected response code: %d. Got: %d", expectedResponseCode, responseCode));
-            } catch (IOException expected) {
-                InputStream errorStream = urlConnection.getErrorStream();
-                if (errorStream != null) {
-                    throw createResponseException(responseCode, expected, errorStream);
-                } else {
-                    throw expected;
-                }
+    private int send(HttpURLConnection urlConnection) throws IOException {
+        urlConnection.setRequestMethod(method);
+        urlConnection.setDoOutput(true);
+        urlConnection.setConnectTimeout((int) options.getConnectTimeout().toMillis());
+        urlConnection.setFixedLengthStreamingMode(spool.length());
+        for (Map.Entry<String, String> header : options.getHeaders().entrySet()) {
+            urlConnection.setRequestProperty(header.getKey(), header.getValue());
+        }
+        if (options.isCompressed()) {
+            urlConnection.setRequestProperty("Content-Encoding", "gzip");
+        }
+        Duration maxTime = options.getMaxTime();
+        if (maxTime.isZero()) {
+            return transfer(urlConnection);
+        }
+        // Http url connection only has per read timeouts. Writes can block
+        // indefinitely, so the connection is closed when the time runs out.
+        urlConnection.setReadTimeout((int) maxTime.toMillis());
+        AtomicBoolean expired = new AtomicBoolean();
+        Timer deadline = new Timer("cucumber-upload-deadline", true);
+        deadline.schedule(new TimerTask() {
+            @Override
+            public void run() {
+                expired.set(true);
+                urlConnection.disconnect();
             }
+        }, maxTime.toMillis());
+        try {
+            return transfer(urlConnection);
+        } catch (IOException e) {
+            if (!expired.get()) {
+                throw e;
+            }
+            SocketTimeoutException timeout = new SocketTimeoutException(
+                String.format("%s %s did not complete within %d seconds", method, url, maxTime.getSeconds()));
+            timeout.initCause(e);
+            throw timeout;
         } finally {
-            out.close();
+            deadline.cancel();
+        }
+    }
+
+    private int transfer(HttpURLConnection urlConnection) throws IOException {
+        try (OutputStream body = urlConnection.getOutputStream()) {
+            Files.copy(spool.toPath(), body);
+        }
+        return urlConnection.getResponseCode();
+    }
+
+    private static void waitBeforeRetry(int attempt) throws InterruptedIOException {
+        try {
+            Thread.sleep(RETRY_DELAY_MILLIS * attempt);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting to retry upload");
+        }
+    }
+
+    private IOException createFailure(HttpURLConnection urlConnection, int responseCode) throws IOException {
+        try {
+            urlConnection.getInputStream().close();
+            return new IOException(String.format("Expected response code: %d. Got: %d", expectedResponseCode, responseCode));
+        } catch (IOException expected) {
+            InputStream errorStream = urlConnection.getErrorStream();
+            if (errorStream != null) {
+                return createResponseException(urlConnection, responseCode, expected, errorStream);
+            } else {
+                return expected;
+            }
         }
     }
 
-    private ResponseException createResponseException(int responseCode, IOException expected, InputStream errorStream) throws IOException {
+    private ResponseException createResponseException(HttpURLConnection urlConnection, int responseCode, IOException expected, InputStream errorStream) throws IOException {
         try (BufferedReader br = new BufferedReader(new InputStreamReader(errorStream, UTF_8))) {
             String responseBody = br.lines().collect(Collectors.joining(System.lineSeparator()));
             String contentType = urlConnection.getHeaderField("Content-Type");
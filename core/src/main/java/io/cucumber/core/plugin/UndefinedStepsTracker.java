@@ -18,11 +18,13 @@ import gherkin.ast.Step;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 final class UndefinedStepsTracker implements EventListener {
-    private final List<String> snippets = new ArrayList<>();
+    private final Set<String> snippets = new LinkedHashSet<>();
     private final IGherkinDialectProvider dialectProvider = new GherkinDialectProvider();
     private final Map<String, String> pathToSourceMap = new HashMap<>();
     private final Map<String, FeatureStepMap> pathToStepMap = new HashMap<>();
@@ -52,17 +54,14 @@ final class UndefinedStepsTracker implements EventListener {
     }
 
     List<String> getSnippets() {
-        return snippets;
+        return new ArrayList<>(snippets);
     }
 
     void handleSnippetsSuggested(String uri, List<SnippetsSuggestedEvent.Location> stepLocations, List<String> snippets) {
         hasUndefinedSteps = true;
         String keyword = givenWhenThenKeyword(uri, stepLocations);
         for (String rawSnippet : snippets) {
-            String snippet = rawSnippet.replace("**KEYWORD**", keyword);
-            if (!this.snippets.contains(snippet)) {
-                this.snippets.add(snippet);
-            }
+            this.snippets.add(rawSnippet.replace("**KEYWORD**", keyword));
         }
     }
 
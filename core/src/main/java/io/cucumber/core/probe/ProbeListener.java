@@ -0,0 +1,15 @@
+package io.cucumber.core.probe;
+
+/**
+ * Receives the duration of a phase measured by a {@link Probes probe}.
+ * <p>
+ * May be called concurrently from multiple threads.
+ */
+public interface ProbeListener {
+
+    /**
+     * @param phase    name of the measured phase
+     * @param duration duration in nanoseconds
+     */
+    void record(String phase, long duration);
+}
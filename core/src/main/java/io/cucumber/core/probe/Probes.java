@@ -0,0 +1,65 @@
+package io.cucumber.core.probe;
+
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Measures the time spent in cucumber itself, e.g. creating test cases or
+ * dispatching events.
+ * <p>
+ * Probes are disabled until a {@link ProbeListener} is added. While
+ * disabled a probe costs a single volatile read.
+ * <pre>
+ * long start = Probes.start();
+ * ...
+ * Probes.stop("Runner.prepareGlue", start);
+ * </pre>
+ */
+public final class Probes {
+
+    private static final long DISABLED = Long.MIN_VALUE;
+    private static final CopyOnWriteArrayList<ProbeListener> listeners = new CopyOnWriteArrayList<>();
+    private static volatile boolean enabled;
+
+    private Probes() {
+
+    }
+
+    public static synchronized void addListener(ProbeListener listener) {
+        listeners.add(listener);
+        enabled = true;
+    }
+
+    public static synchronized void removeListener(ProbeListener listener) {
+        listeners.remove(listener);
+        enabled = !listeners.isEmpty();
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Starts measuring a phase.
+     *
+     * @return the start time to pass to {@link #stop(String, long)}
+     */
+    public static long start() {
+        return enabled ? System.nanoTime() : DISABLED;
+    }
+
+    /**
+     * Stops measuring a phase and reports its duration to all listeners.
+     *
+     * @param phase name of the phase
+     * @param start the start time returned by {@link #start()}
+     */
+    public static void stop(String phase, long start) {
+        if (start == DISABLED) {
+            return;
+        }
+        long duration = System.nanoTime() - start;
+        for (ProbeListener listener : listeners) {
+            listener.record(phase, duration);
+        }
+    }
+}
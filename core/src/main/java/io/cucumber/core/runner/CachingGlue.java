@@ -11,6 +11,7 @@ import io.cucumber.core.backend.ParameterTypeDefinition;
 import io.cucumber.core.backend.StepDefinition;
 import io.cucumber.core.event.StepDefinedEvent;
 import io.cucumber.core.eventbus.EventBus;
+import io.cucumber.core.probe.Probes;
 import io.cucumber.core.stepexpression.Argument;
 import io.cucumber.core.stepexpression.TypeRegistry;
 import io.cucumber.cucumberexpressions.ParameterByTypeTransformer;
@@ -46,6 +47,16 @@ final class CachingGlue implements Glue {
 
     private final EventBus bus;
 
+    /*
+     * Incremented whenever the hook definitions differ from those seen at the
+     * previous version. Allows the runner to cache the hooks that apply to a
+     * set of tags until the hooks change. Scenario scoped hooks are removed
+     * and added again for every scenario, so the definitions are compared by
+     * identity rather than counting additions and removals.
+     */
+    private int hooksVersion;
+    private List<List<HookDefinition>> hooksAtVersion = emptyHooks();
+
 
     CachingGlue(EventBus bus) {
         this.bus = bus;
@@ -105,6 +116,43 @@ final class CachingGlue implements Glue {
         defaultDataTableCellTransformers.add(defaultDataTableCellTransformer);
     }
 
+    int getHooksVersion() {
+        if (!sameHooks(beforeHooks, hooksAtVersion.get(0))
+            || !sameHooks(beforeStepHooks, hooksAtVersion.get(1))
+            || !sameHooks(afterStepHooks, hooksAtVersion.get(2))
+            || !sameHooks(afterHooks, hooksAtVersion.get(3))) {
+            hooksAtVersion = Arrays.asList(
+                new ArrayList<>(beforeHooks),
+                new ArrayList<>(beforeStepHooks),
+                new ArrayList<>(afterStepHooks),
+                new ArrayList<>(afterHooks)
+            );
+            hooksVersion++;
+        }
+        return hooksVersion;
+    }
+
+    private static List<List<HookDefinition>> emptyHooks() {
+        return Arrays.asList(
+            Collections.emptyList(),
+            Collections.emptyList(),
+            Collections.emptyList(),
+            Collections.emptyList()
+        );
+    }
+
+    private static boolean sameHooks(List<HookDefinition> hooks, List<HookDefinition> previous) {
+        if (hooks.size() != previous.size()) {
+            return false;
+        }
+        for (int i = 0; i < hooks.size(); i++) {
+            if (hooks.get(i) != previous.get(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     Collection<HookDefinition> getBeforeHooks() {
         return beforeHooks;
     }
@@ -194,11 +242,16 @@ final class CachingGlue implements Glue {
     }
 
     PickleStepDefinitionMatch stepDefinitionMatch(String featurePath, PickleStep step) {
-        PickleStepDefinitionMatch cachedMatch = cachedStepDefinitionMatch(featurePath, step);
-        if (cachedMatch != null) {
-            return cachedMatch;
+        long start = Probes.start();
+        try {
+            PickleStepDefinitionMatch cachedMatch = cachedStepDefinitionMatch(featurePath, step);
+            if (cachedMatch != null) {
+                return cachedMatch;
+            }
+            return findStepDefinitionMatch(featurePath, step);
+        } finally {
+            Probes.stop("CachingGlue.stepDefinitionMatch", start);
         }
-        return findStepDefinitionMatch(featurePath, step);
     }
 
 
@@ -0,0 +1,80 @@
+package io.cucumber.core.runner;
+
+import io.cucumber.core.backend.StepDefinition;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static java.util.Collections.unmodifiableList;
+import static java.util.Collections.unmodifiableMap;
+
+/**
+ * The undefined, ambiguous and unused step definitions found by the
+ * {@link GlueAnalyzer}.
+ */
+public final class GlueAnalysis {
+
+    private final Collection<StepDefinition> stepDefinitions;
+    private final Set<StepDefinition> used = Collections.newSetFromMap(new IdentityHashMap<>());
+    private final Map<String, List<String>> undefinedSteps = new LinkedHashMap<>();
+    private final Map<String, List<String>> ambiguousSteps = new LinkedHashMap<>();
+
+    GlueAnalysis(Collection<StepDefinition> stepDefinitions) {
+        this.stepDefinitions = new ArrayList<>(stepDefinitions);
+    }
+
+    void addUndefined(String stepText, List<String> stepLocations) {
+        undefinedSteps.computeIfAbsent(stepText, text -> new ArrayList<>()).addAll(stepLocations);
+    }
+
+    void addAmbiguous(String stepText, List<String> stepLocations, List<StepDefinition> matches) {
+        ambiguousSteps.computeIfAbsent(stepText, text -> new ArrayList<>()).addAll(stepLocations);
+        used.addAll(matches);
+    }
+
+    void addUsed(StepDefinition stepDefinition) {
+        used.add(stepDefinition);
+    }
+
+    /**
+     * @return the locations of undefined steps by step text
+     */
+    public Map<String, List<String>> getUndefinedSteps() {
+        return unmodifiableMap(undefinedSteps);
+    }
+
+    /**
+     * @return the locations of ambiguous steps by step text
+     */
+    public Map<String, List<String>> getAmbiguousSteps() {
+        return unmodifiableMap(ambiguousSteps);
+    }
+
+    /**
+     * @return step definitions that do not match any step
+     */
+    public List<StepDefinition> getUnusedStepDefinitions() {
+        List<StepDefinition> unused = new ArrayList<>();
+        for (StepDefinition stepDefinition : stepDefinitions) {
+            if (!used.contains(stepDefinition)) {
+                unused.add(stepDefinition);
+            }
+        }
+        return unmodifiableList(unused);
+    }
+
+    /**
+     * @param strict true if undefined steps are errors
+     * @return true if there are ambiguous steps, or undefined steps in strict
+     * mode
+     */
+    public boolean hasErrors(boolean strict) {
+        return !ambiguousSteps.isEmpty() || (strict && !undefinedSteps.isEmpty());
+    }
+}
@@ -0,0 +1,148 @@
+package io.cucumber.core.runner;
+
+import gherkin.events.PickleEvent;
+import gherkin.pickles.PickleStep;
+import gherkin.pickles.PickleString;
+import gherkin.pickles.PickleTable;
+import io.cucumber.core.api.TypeRegistryConfigurer;
+import io.cucumber.core.backend.Backend;
+import io.cucumber.core.eventbus.EventBus;
+import io.cucumber.core.logging.Logger;
+import io.cucumber.core.logging.LoggerFactory;
+import io.cucumber.core.stepexpression.TypeRegistry;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Finds undefined, ambiguous and unused step definitions without executing
+ * any pickles.
+ * <p>
+ * Unlike a dry run the glue is loaded once and the object factory is never
+ * started. Step definitions are compiled once per locale and each unique
+ * step is matched against them in parallel. Hooks are not executed.
+ * <p>
+ * Glue that is only registered when the world is built, e.g. lambda step
+ * definitions, is not analyzed.
+ */
+public final class GlueAnalyzer {
+
+    private static final Logger log = LoggerFactory.getLogger(GlueAnalyzer.class);
+
+    private final CachingGlue glue;
+    private final TypeRegistryConfigurer typeRegistryConfigurer;
+
+    public GlueAnalyzer(EventBus bus, Collection<? extends Backend> backends, TypeRegistryConfigurer typeRegistryConfigurer, Options runnerOptions) {
+        this.glue = new CachingGlue(bus);
+        this.typeRegistryConfigurer = typeRegistryConfigurer;
+        List<URI> gluePaths = runnerOptions.getGlue();
+        log.debug("Loading glue from " + gluePaths);
+        for (Backend backend : backends) {
+            log.debug("Loading glue for backend " + backend.getClass().getName());
+            backend.loadGlue(this.glue, gluePaths);
+        }
+    }
+
+    public GlueAnalysis analyze(List<PickleEvent> pickleEvents) {
+        Map<Locale, Map<String, UniqueStep>> stepsByLocale = new LinkedHashMap<>();
+        for (PickleEvent pickleEvent : pickleEvents) {
+            Map<String, UniqueStep> steps = stepsByLocale.computeIfAbsent(localeOf(pickleEvent), locale -> new LinkedHashMap<>());
+            for (PickleStep step : pickleEvent.pickle.getSteps()) {
+                steps.computeIfAbsent(keyOf(step), key -> new UniqueStep(step)).addLocation(pickleEvent.uri, step);
+            }
+        }
+
+        GlueAnalysis analysis = new GlueAnalysis(glue.getStepDefinitions());
+        for (Map.Entry<Locale, Map<String, UniqueStep>> entry : stepsByLocale.entrySet()) {
+            List<CoreStepDefinition> stepDefinitions = prepareStepDefinitions(entry.getKey());
+            List<StepMatches> matches = entry.getValue().values()
+                .parallelStream()
+                .map(step -> step.match(stepDefinitions))
+                .collect(Collectors.toList());
+            for (StepMatches stepMatches : matches) {
+                stepMatches.addTo(analysis);
+            }
+        }
+        return analysis;
+    }
+
+    private List<CoreStepDefinition> prepareStepDefinitions(Locale locale) {
+        TypeRegistry typeRegistry = new TypeRegistry(locale);
+        typeRegistryConfigurer.configureTypeRegistry(typeRegistry);
+        glue.getStepDefinitionsByPattern().clear();
+        glue.prepareGlue(typeRegistry);
+        return new ArrayList<>(glue.getStepDefinitionsByPattern().values());
+    }
+
+    private Locale localeOf(PickleEvent pickleEvent) {
+        Locale locale = typeRegistryConfigurer.locale();
+        return locale != null ? locale : new Locale(pickleEvent.pickle.getLanguage());
+    }
+
+    private static String keyOf(PickleStep step) {
+        // Doc strings and data tables are matched against the last parameter
+        if (step.getArgument().isEmpty()) {
+            return step.getText();
+        }
+        if (step.getArgument().get(0) instanceof PickleString) {
+            return step.getText() + "\n\"\"\"";
+        }
+        if (step.getArgument().get(0) instanceof PickleTable) {
+            return step.getText() + "\n|";
+        }
+        return step.getText();
+    }
+
+    private static final class UniqueStep {
+        private final PickleStep step;
+        private final List<String> locations = new ArrayList<>();
+
+        UniqueStep(PickleStep step) {
+            this.step = step;
+        }
+
+        void addLocation(String uri, PickleStep step) {
+            int line = step.getLocations().get(step.getLocations().size() - 1).getLine();
+            locations.add(uri + ":" + line);
+        }
+
+        StepMatches match(List<CoreStepDefinition> stepDefinitions) {
+            List<CoreStepDefinition> matches = new ArrayList<>();
+            for (CoreStepDefinition stepDefinition : stepDefinitions) {
+                if (stepDefinition.matchedArguments(step) != null) {
+                    matches.add(stepDefinition);
+                }
+            }
+            return new StepMatches(this, matches);
+        }
+    }
+
+    private static final class StepMatches {
+        private final UniqueStep step;
+        private final List<CoreStepDefinition> matches;
+
+        StepMatches(UniqueStep step, List<CoreStepDefinition> matches) {
+            this.step = step;
+            this.matches = matches;
+        }
+
+        void addTo(GlueAnalysis analysis) {
+            String text = step.step.getText();
+            if (matches.isEmpty()) {
+                analysis.addUndefined(text, step.locations);
+            } else if (matches.size() > 1) {
+                analysis.addAmbiguous(text, step.locations, matches.stream()
+                    .map(CoreStepDefinition::getStepDefinition)
+                    .collect(Collectors.toList()));
+            } else {
+                analysis.addUsed(matches.get(0).getStepDefinition());
+            }
+        }
+    }
+}
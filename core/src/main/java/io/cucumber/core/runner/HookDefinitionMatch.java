@@ -25,4 +25,9 @@ final class HookDefinitionMatch implements StepDefinitionMatch {
         return hookDefinition.getLocation(false);
     }
 
+    @Override
+    public String getDeclaringClassName() {
+        return hookDefinition.getDeclaringClassName();
+    }
+
 }
@@ -4,6 +4,7 @@ import io.cucumber.core.backend.ObjectFactory;
 import io.cucumber.core.snippets.SnippetType;
 
 import java.net.URI;
+import java.nio.file.Path;
 import java.util.List;
 
 public interface Options {
@@ -14,4 +15,8 @@ public interface Options {
     SnippetType getSnippetType();
 
     Class<? extends ObjectFactory> getObjectFactoryClass();
+
+    Path getResultCacheDirectory();
+
+    String getResultCacheKey();
 }
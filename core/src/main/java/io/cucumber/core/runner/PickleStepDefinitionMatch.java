@@ -79,6 +79,11 @@ class PickleStepDefinitionMatch extends Match implements StepDefinitionMatch {
         // Do nothing
     }
 
+    @Override
+    public String getDeclaringClassName() {
+        return stepDefinition.getDeclaringClassName();
+    }
+
     private CucumberException arityMismatch(int parameterCount) {
         List<String> arguments = createArgumentsForErrorMessage();
         return new CucumberException(String.format(
@@ -0,0 +1,194 @@
+package io.cucumber.core.runner;
+
+import gherkin.events.PickleEvent;
+import gherkin.pickles.Argument;
+import gherkin.pickles.PickleCell;
+import gherkin.pickles.PickleRow;
+import gherkin.pickles.PickleStep;
+import gherkin.pickles.PickleString;
+import gherkin.pickles.PickleTable;
+import gherkin.pickles.PickleTag;
+import io.cucumber.core.api.TypeRegistryConfigurer;
+import io.cucumber.core.exception.CucumberException;
+import io.cucumber.core.logging.Logger;
+import io.cucumber.core.logging.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Remembers which test cases passed in a previous run.
+ * <p>
+ * A test case is identified by a fingerprint of its inputs: the pickle, its
+ * steps and arguments, the code location and bytecode of the classes that
+ * declare the matched step definitions and hooks, the bytecode of the
+ * {@link TypeRegistryConfigurer} and a user supplied key. When a test case
+ * passes an empty file named after its fingerprint is written to the cache
+ * directory.
+ * <p>
+ * Changes to classes other than the glue, e.g. the system under test, are
+ * not detected. The user supplied key can be used to invalidate the cache
+ * when these change.
+ * <p>
+ * Test cases that use a step definition or hook that does not provide its
+ * declaring class are not cached, because changes to that glue could not
+ * be detected.
+ */
+final class ResultCache {
+
+    private static final Logger log = LoggerFactory.getLogger(ResultCache.class);
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+    private static final AtomicBoolean loggedNotCacheable = new AtomicBoolean();
+
+    private final Path directory;
+    private final String key;
+    private final TypeRegistryConfigurer typeRegistryConfigurer;
+    private final Map<String, String> bytecodeDigests = new HashMap<>();
+
+    ResultCache(Path directory, String key, TypeRegistryConfigurer typeRegistryConfigurer) {
+        this.directory = directory;
+        this.key = key;
+        this.typeRegistryConfigurer = typeRegistryConfigurer;
+    }
+
+    /**
+     * @return the fingerprint of the test case or null when the test case
+     * can not be cached
+     */
+    String fingerprint(PickleEvent pickleEvent, TestCase testCase) {
+        Fingerprint fingerprint = new Fingerprint();
+        fingerprint.add(key);
+        fingerprint.add(bytecodeDigest(typeRegistryConfigurer.getClass().getName()));
+        fingerprint.add(pickleEvent.uri);
+        fingerprint.add(pickleEvent.pickle.getName());
+        fingerprint.add(pickleEvent.pickle.getLanguage());
+        for (PickleTag tag : pickleEvent.pickle.getTags()) {
+            fingerprint.add(tag.getName());
+        }
+        for (PickleStep step : pickleEvent.pickle.getSteps()) {
+            fingerprint.add(step.getText());
+            for (Argument argument : step.getArgument()) {
+                addArgument(fingerprint, argument);
+            }
+        }
+        for (io.cucumber.core.event.TestStep step : testCase.getTestSteps()) {
+            TestStep testStep = (TestStep) step;
+            fingerprint.add(testStep instanceof HookTestStep ? ((HookTestStep) testStep).getHookType().name() : "STEP");
+            fingerprint.add(testStep.getCodeLocation());
+            String declaringClassName = testStep.getDeclaringClassName();
+            if (declaringClassName == null) {
+                logNotCacheable(testStep.getCodeLocation());
+                return null;
+            }
+            fingerprint.add(declaringClassName);
+            fingerprint.add(bytecodeDigest(declaringClassName));
+        }
+        return fingerprint.toHexString();
+    }
+
+    private static void logNotCacheable(String codeLocation) {
+        // Undefined and ambiguous steps have no location and never pass
+        if (codeLocation == null || !loggedNotCacheable.compareAndSet(false, true)) {
+            return;
+        }
+        log.warn("The result cache does not cache scenarios that use " + codeLocation + ". " +
+            "The step definition or hook does not provide its declaring class so changes to it can not be detected.");
+    }
+
+    private static void addArgument(Fingerprint fingerprint, Argument argument) {
+        if (argument instanceof PickleString) {
+            fingerprint.add(((PickleString) argument).getContent());
+        } else if (argument instanceof PickleTable) {
+            for (PickleRow row : ((PickleTable) argument).getRows()) {
+                for (PickleCell cell : row.getCells()) {
+                    fingerprint.add(cell.getValue());
+                }
+                fingerprint.add("|");
+            }
+        }
+    }
+
+    boolean hasPassed(String fingerprint) {
+        return Files.exists(directory.resolve(fingerprint));
+    }
+
+    void recordPassed(String fingerprint) {
+        try {
+            Files.createDirectories(directory);
+            Files.createFile(directory.resolve(fingerprint));
+        } catch (FileAlreadyExistsException e) {
+            // Recorded by another runner
+        } catch (IOException e) {
+            log.warn("Could not write to result cache " + directory, e);
+        }
+    }
+
+    private String bytecodeDigest(String className) {
+        return bytecodeDigests.computeIfAbsent(className, ResultCache::readBytecodeDigest);
+    }
+
+    private static String readBytecodeDigest(String className) {
+        // Lambdas are defined by the bytecode of their enclosing class
+        int lambda = className.indexOf("$$Lambda$");
+        String resourceName = (lambda < 0 ? className : className.substring(0, lambda)).replace('.', '/') + ".class";
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        if (classLoader == null) {
+            classLoader = ResultCache.class.getClassLoader();
+        }
+        try (InputStream bytecode = classLoader.getResourceAsStream(resourceName)) {
+            if (bytecode == null) {
+                // Not loaded from a class file, e.g. a generated class
+                return className;
+            }
+            Fingerprint fingerprint = new Fingerprint();
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = bytecode.read(buffer)) != -1) {
+                fingerprint.digest.update(buffer, 0, read);
+            }
+            return fingerprint.toHexString();
+        } catch (IOException e) {
+            throw new CucumberException("Could not read bytecode of " + className, e);
+        }
+    }
+
+    private static final class Fingerprint {
+        private final MessageDigest digest = sha256();
+
+        void add(String value) {
+            if (value != null) {
+                digest.update(value.getBytes(UTF_8));
+            }
+            // Separates values so their boundaries are part of the fingerprint
+            digest.update((byte) 0);
+        }
+
+        String toHexString() {
+            byte[] bytes = digest.digest();
+            char[] chars = new char[bytes.length * 2];
+            for (int i = 0; i < bytes.length; i++) {
+                chars[i * 2] = HEX[(bytes[i] >> 4) & 0xF];
+                chars[i * 2 + 1] = HEX[bytes[i] & 0xF];
+            }
+            return new String(chars);
+        }
+
+        private static MessageDigest sha256() {
+            try {
+                return MessageDigest.getInstance("SHA-256");
+            } catch (NoSuchAlgorithmException e) {
+                throw new CucumberException(e);
+            }
+        }
+    }
+}
@@ -2,27 +2,38 @@ package io.cucumber.core.runner;
 
 import gherkin.events.PickleEvent;
 import gherkin.pickles.PickleStep;
+import gherkin.pickles.PickleString;
+import gherkin.pickles.PickleTable;
 import gherkin.pickles.PickleTag;
 import io.cucumber.core.api.TypeRegistryConfigurer;
 import io.cucumber.core.backend.Backend;
 import io.cucumber.core.backend.HookDefinition;
 import io.cucumber.core.backend.ObjectFactory;
 import io.cucumber.core.event.HookType;
+import io.cucumber.core.event.Result;
 import io.cucumber.core.event.SnippetsSuggestedEvent;
+import io.cucumber.core.event.Status;
 import io.cucumber.core.eventbus.EventBus;
 import io.cucumber.core.logging.Logger;
 import io.cucumber.core.logging.LoggerFactory;
+import io.cucumber.core.probe.Probes;
 import io.cucumber.core.snippets.SnippetGenerator;
 import io.cucumber.core.stepexpression.TypeRegistry;
 
 import java.net.URI;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import static java.util.Collections.emptyList;
+import static java.util.Collections.unmodifiableList;
 
 public final class Runner {
 
@@ -34,6 +45,11 @@ public final class Runner {
     private final Options runnerOptions;
     private final ObjectFactory objectFactory;
     private final TypeRegistryConfigurer typeRegistryConfigurer;
+    private final ResultCache resultCache;
+    private final Map<Set<String>, HookPlan> hookPlansByTags = new HashMap<>();
+    private int hookPlansVersion = -1;
+    private final Map<String, List<String>> snippetsByStep = new HashMap<>();
+    private TypeRegistry typeRegistry;
     private List<SnippetGenerator> snippetGenerators;
 
     public Runner(EventBus bus, Collection<? extends Backend> backends, ObjectFactory objectFactory, TypeRegistryConfigurer typeRegistryConfigurer, Options runnerOptions) {
@@ -43,11 +59,14 @@ public final class Runner {
         this.glue = new CachingGlue(bus);
         this.objectFactory = objectFactory;
         this.typeRegistryConfigurer = typeRegistryConfigurer;
+        this.resultCache = createResultCache(runnerOptions, typeRegistryConfigurer);
         List<URI> gluePaths = runnerOptions.getGlue();
         log.debug("Loading glue from " + gluePaths);
         for (Backend backend : backends) {
             log.debug("Loading glue for backend " + backend.getClass().getName());
+            long start = Probes.start();
             backend.loadGlue(this.glue, gluePaths);
+            Probes.stop("Backend.loadGlue", start);
         }
     }
 
@@ -57,18 +76,57 @@ public final class Runner {
 
     public void runPickle(PickleEvent pickle) {
         try {
-            TypeRegistry typeRegistry = createTypeRegistryForPickle(pickle);
-            snippetGenerators = createSnippetGeneratorsForPickle(typeRegistry);
+            long start = Probes.start();
+            typeRegistry = createTypeRegistryForPickle(pickle);
+            // Created when the first snippet is generated
+            snippetGenerators = null;
+            Probes.stop("Runner.createTypeRegistry", start);
 
+            start = Probes.start();
             buildBackendWorlds(); // Java8 step definitions will be added to the glue here
+            Probes.stop("Runner.buildBackendWorlds", start);
 
+            start = Probes.start();
             glue.prepareGlue(typeRegistry);
+            Probes.stop("Runner.prepareGlue", start);
 
+            start = Probes.start();
             TestCase testCase = createTestCaseForPickle(pickle);
-            testCase.run(bus);
+            Probes.stop("Runner.createTestCase", start);
+
+            start = Probes.start();
+            runTestCase(pickle, testCase);
+            Probes.stop("Runner.runTestCase", start);
         } finally {
+            long start = Probes.start();
             glue.removeScenarioScopedGlue();
             disposeBackendWorlds();
+            Probes.stop("Runner.disposeBackendWorlds", start);
+        }
+    }
+
+    private static ResultCache createResultCache(Options runnerOptions, TypeRegistryConfigurer typeRegistryConfigurer) {
+        Path directory = runnerOptions.getResultCacheDirectory();
+        if (directory == null || runnerOptions.isDryRun()) {
+            return null;
+        }
+        return new ResultCache(directory, runnerOptions.getResultCacheKey(), typeRegistryConfigurer);
+    }
+
+    private void runTestCase(PickleEvent pickle, TestCase testCase) {
+        String fingerprint = resultCache == null ? null : resultCache.fingerprint(pickle, testCase);
+        if (fingerprint == null) {
+            testCase.run(bus);
+            return;
+        }
+        if (resultCache.hasPassed(fingerprint)) {
+            log.debug("Using cached result for " + testCase.getScenarioDesignation());
+            testCase.runFromCache(bus);
+            return;
+        }
+        Result result = testCase.run(bus);
+        if (result.getStatus().is(Status.PASSED)) {
+            resultCache.recordPassed(fingerprint);
         }
     }
 
@@ -79,12 +137,16 @@ public final class Runner {
             .collect(Collectors.toList());
     }
 
-    private TypeRegistry createTypeRegistryForPickle(PickleEvent pickle) {
+    private Locale localeForPickle(PickleEvent pickle) {
         Locale locale = typeRegistryConfigurer.locale();
         if(locale == null){
             locale = new Locale(pickle.pickle.getLanguage());
         }
-        TypeRegistry typeRegistry = new TypeRegistry(locale);
+        return locale;
+    }
+
+    private TypeRegistry createTypeRegistryForPickle(PickleEvent pickle) {
+        TypeRegistry typeRegistry = new TypeRegistry(localeForPickle(pickle));
         typeRegistryConfigurer.configureTypeRegistry(typeRegistry);
         return typeRegistry;
     }
@@ -94,27 +156,24 @@ public final class Runner {
             return new TestCase(emptyList(), emptyList(), emptyList(), pickleEvent, runnerOptions.isDryRun());
         }
 
-        List<PickleStepTestStep> testSteps = createTestStepsForPickleSteps(pickleEvent);
-        List<HookTestStep> beforeHooks = createTestStepsForBeforeHooks(pickleEvent.pickle.getTags());
-        List<HookTestStep> afterHooks = createTestStepsForAfterHooks(pickleEvent.pickle.getTags());
-        return new TestCase(testSteps, beforeHooks, afterHooks, pickleEvent, runnerOptions.isDryRun());
+        HookPlan hookPlan = hookPlanFor(pickleEvent.pickle.getTags());
+        List<PickleStepTestStep> testSteps = createTestStepsForPickleSteps(pickleEvent, hookPlan);
+        return new TestCase(testSteps, hookPlan.beforeHooks, hookPlan.afterHooks, pickleEvent, runnerOptions.isDryRun());
     }
 
-    private List<PickleStepTestStep> createTestStepsForPickleSteps(PickleEvent pickleEvent) {
-        List<PickleStepTestStep> testSteps = new ArrayList<>();
+    private List<PickleStepTestStep> createTestStepsForPickleSteps(PickleEvent pickleEvent, HookPlan hookPlan) {
+        List<PickleStepTestStep> testSteps = new ArrayList<>(pickleEvent.pickle.getSteps().size());
 
         for (PickleStep step : pickleEvent.pickle.getSteps()) {
             PickleStepDefinitionMatch match;
             try {
                 match = glue.stepDefinitionMatch(pickleEvent.uri, step);
                 if (match == null) {
-                    List<String> snippets = new ArrayList<>();
-                    for (SnippetGenerator snippetGenerator : snippetGenerators) {
-                        List<String> snippet = snippetGenerator.getSnippet(step, "**KEYWORD**", runnerOptions.getSnippetType());
-                        snippets.addAll(snippet);
-                    }
-                    if (!snippets.isEmpty()) {
-                        bus.send(new SnippetsSuggestedEvent(bus.getInstant(), pickleEvent.uri, locations(step), snippets));
+                    if (bus.hasHandlerFor(SnippetsSuggestedEvent.class)) {
+                        List<String> snippets = snippetsFor(pickleEvent, step);
+                        if (!snippets.isEmpty()) {
+                            bus.send(new SnippetsSuggestedEvent(bus.getInstant(), pickleEvent.uri, locations(step), snippets));
+                        }
                     }
                     match = new UndefinedPickleStepDefinitionMatch(step);
                 }
@@ -124,46 +183,85 @@ public final class Runner {
                 match = new FailedPickleStepInstantiationMatch(pickleEvent.uri, step, t);
             }
 
-
-            List<HookTestStep> afterStepHookSteps = createAfterStepHooks(pickleEvent.pickle.getTags());
-            List<HookTestStep> beforeStepHookSteps = createBeforeStepHooks(pickleEvent.pickle.getTags());
-            testSteps.add(new PickleStepTestStep(pickleEvent.uri, step, beforeStepHookSteps, afterStepHookSteps, match));
+            testSteps.add(new PickleStepTestStep(pickleEvent.uri, step, hookPlan.beforeStepHooks, hookPlan.afterStepHooks, match));
         }
 
         return testSteps;
     }
 
+    private List<String> snippetsFor(PickleEvent pickleEvent, PickleStep step) {
+        // Snippets only depend on the step text, the shape of the argument
+        // and the parameter types of the locale.
+        String key = localeForPickle(pickleEvent) + "\n" + argumentShape(step) + "\n" + step.getText();
+        return snippetsByStep.computeIfAbsent(key, k -> generateSnippets(step));
+    }
+
+    private static String argumentShape(PickleStep step) {
+        if (step.getArgument().isEmpty()) {
+            return "";
+        }
+        if (step.getArgument().get(0) instanceof PickleString) {
+            return "\"\"\"";
+        }
+        if (step.getArgument().get(0) instanceof PickleTable) {
+            return "|";
+        }
+        return "";
+    }
+
+    private List<String> generateSnippets(PickleStep step) {
+        if (snippetGenerators == null) {
+            snippetGenerators = createSnippetGeneratorsForPickle(typeRegistry);
+        }
+        List<String> snippets = new ArrayList<>();
+        for (SnippetGenerator snippetGenerator : snippetGenerators) {
+            List<String> snippet = snippetGenerator.getSnippet(step, "**KEYWORD**", runnerOptions.getSnippetType());
+            snippets.addAll(snippet);
+        }
+        return snippets.isEmpty() ? emptyList() : unmodifiableList(snippets);
+    }
+
     private List<SnippetsSuggestedEvent.Location> locations(PickleStep step) {
         return step.getLocations().stream()
             .map(p -> new SnippetsSuggestedEvent.Location(p.getLine(), p.getLine()))
             .collect(Collectors.toList());
     }
 
-    private List<HookTestStep> createTestStepsForBeforeHooks(List<PickleTag> tags) {
-        return createTestStepsForHooks(tags, glue.getBeforeHooks(), HookType.BEFORE);
-    }
-
-    private List<HookTestStep> createTestStepsForAfterHooks(List<PickleTag> tags) {
-        return createTestStepsForHooks(tags, glue.getAfterHooks(), HookType.AFTER);
+    /**
+     * Returns the hooks that apply to pickles with the given tags. Hooks only
+     * match on tag names so the plan is computed once per distinct set of tag
+     * names and reused for all steps and pickles with the same tags until the
+     * hooks in the glue change.
+     */
+    private HookPlan hookPlanFor(List<PickleTag> tags) {
+        if (hookPlansVersion != glue.getHooksVersion()) {
+            hookPlansByTags.clear();
+            hookPlansVersion = glue.getHooksVersion();
+        }
+        Set<String> tagNames = new HashSet<>();
+        for (PickleTag tag : tags) {
+            tagNames.add(tag.getName());
+        }
+        return hookPlansByTags.computeIfAbsent(tagNames, key -> new HookPlan(
+            createTestStepsForHooks(tags, glue.getBeforeHooks(), HookType.BEFORE),
+            createTestStepsForHooks(tags, glue.getBeforeStepHooks(), HookType.BEFORE_STEP),
+            createTestStepsForHooks(tags, glue.getAfterStepHooks(), HookType.AFTER_STEP),
+            createTestStepsForHooks(tags, glue.getAfterHooks(), HookType.AFTER)
+        ));
     }
 
     private List<HookTestStep> createTestStepsForHooks(List<PickleTag> tags, Collection<HookDefinition> hooks, HookType hookType) {
-        return hooks.stream()
+        List<HookTestStep> testSteps = hooks.stream()
             .filter(hook -> hook.matches(tags))
             .map(hook -> new HookTestStep(hookType, new HookDefinitionMatch(hook)))
             .collect(Collectors.toList());
-    }
-
-    private List<HookTestStep> createAfterStepHooks(List<PickleTag> tags) {
-        return createTestStepsForHooks(tags, glue.getAfterStepHooks(), HookType.AFTER_STEP);
-    }
-
-    private List<HookTestStep> createBeforeStepHooks(List<PickleTag> tags) {
-        return createTestStepsForHooks(tags, glue.getBeforeStepHooks(), HookType.BEFORE_STEP);
+        return testSteps.isEmpty() ? emptyList() : unmodifiableList(testSteps);
     }
 
     private void buildBackendWorlds() {
+        long start = Probes.start();
         objectFactory.start();
+        Probes.stop("ObjectFactory.start", start);
         for (Backend backend : backends) {
             backend.buildWorld();
         }
@@ -173,6 +271,22 @@ public final class Runner {
         for (Backend backend : backends) {
             backend.disposeWorld();
         }
+        long start = Probes.start();
         objectFactory.stop();
+        Probes.stop("ObjectFactory.stop", start);
+    }
+
+    private static final class HookPlan {
+        private final List<HookTestStep> beforeHooks;
+        private final List<HookTestStep> beforeStepHooks;
+        private final List<HookTestStep> afterStepHooks;
+        private final List<HookTestStep> afterHooks;
+
+        HookPlan(List<HookTestStep> beforeHooks, List<HookTestStep> beforeStepHooks, List<HookTestStep> afterStepHooks, List<HookTestStep> afterHooks) {
+            this.beforeHooks = beforeHooks;
+            this.beforeStepHooks = beforeStepHooks;
+            this.afterStepHooks = afterStepHooks;
+            this.afterHooks = afterHooks;
+        }
     }
 }
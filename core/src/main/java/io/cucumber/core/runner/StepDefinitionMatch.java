@@ -9,4 +9,6 @@ interface StepDefinitionMatch {
 
     String getCodeLocation();
 
+    String getDeclaringClassName();
+
 }
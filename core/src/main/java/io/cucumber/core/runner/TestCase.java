@@ -1,9 +1,12 @@
 package io.cucumber.core.runner;
 
 import io.cucumber.core.event.Result;
+import io.cucumber.core.event.Status;
 import io.cucumber.core.event.TestStep;
 import io.cucumber.core.event.TestCaseFinished;
 import io.cucumber.core.event.TestCaseStarted;
+import io.cucumber.core.event.TestStepFinished;
+import io.cucumber.core.event.TestStepStarted;
 import gherkin.events.PickleEvent;
 import gherkin.pickles.PickleTag;
 import io.cucumber.core.eventbus.EventBus;
@@ -34,7 +37,7 @@ final class TestCase implements io.cucumber.core.event.TestCase {
         this.dryRun = dryRun;
     }
 
-    void run(EventBus bus) {
+    Result run(EventBus bus) {
         boolean skipNextStep = this.dryRun;
         Instant startTimeInstant = bus.getInstant();
         bus.send(new TestCaseStarted(startTimeInstant, this));
@@ -53,7 +56,23 @@ final class TestCase implements io.cucumber.core.event.TestCase {
         }
 
         Instant stopTimeInstant = bus.getInstant();
-        bus.send(new TestCaseFinished(stopTimeInstant, this, new Result(scenario.getStatus(), Duration.between(startTimeInstant, stopTimeInstant), scenario.getError())));
+        Result result = new Result(scenario.getStatus(), Duration.between(startTimeInstant, stopTimeInstant), scenario.getError());
+        bus.send(new TestCaseFinished(stopTimeInstant, this, result));
+        return result;
+    }
+
+    /**
+     * Reports this test case and its steps as passed without executing them.
+     * Used when the result of an identical test case was cached.
+     */
+    void runFromCache(EventBus bus) {
+        Result passed = new Result(Status.PASSED, Duration.ZERO, null);
+        bus.send(new TestCaseStarted(bus.getInstant(), this));
+        for (TestStep testStep : getTestSteps()) {
+            bus.send(new TestStepStarted(bus.getInstant(), this, testStep));
+            bus.send(new TestStepFinished(bus.getInstant(), this, testStep, passed));
+        }
+        bus.send(new TestCaseFinished(bus.getInstant(), this, passed));
     }
 
     @Override
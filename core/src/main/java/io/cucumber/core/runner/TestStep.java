@@ -36,6 +36,10 @@ abstract class TestStep implements io.cucumber.core.event.TestStep {
         return stepDefinitionMatch.getCodeLocation();
     }
 
+    String getDeclaringClassName() {
+        return stepDefinitionMatch.getDeclaringClassName();
+    }
+
     /**
      * Runs a test step.
      *
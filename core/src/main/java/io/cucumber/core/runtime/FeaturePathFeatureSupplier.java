@@ -7,14 +7,18 @@ import io.cucumber.core.feature.FeatureLoader;
 import io.cucumber.core.feature.Options;
 
 import java.net.URI;
+import java.util.Iterator;
 import java.util.List;
 
 import static java.util.stream.Collectors.joining;
 
 /**
  * Supplies a list of features found on the the feature path provided to RuntimeOptions.
+ * <p>
+ * Features can also be iterated lazily. Each feature is then parsed when the
+ * iterator reaches it.
  */
-public final class FeaturePathFeatureSupplier implements FeatureSupplier {
+public final class FeaturePathFeatureSupplier implements FeatureSupplier, Iterable<CucumberFeature> {
 
     private static final Logger log = LoggerFactory.getLogger(FeaturePathFeatureSupplier.class);
 
@@ -43,4 +47,11 @@ public final class FeaturePathFeatureSupplier implements FeatureSupplier {
 
         return cucumberFeatures;
     }
+
+    @Override
+    public Iterator<CucumberFeature> iterator() {
+        List<URI> featurePaths = featureOptions.getFeaturePaths();
+        log.debug("Lazily loading features from " + featurePaths.stream().map(URI::toString).collect(joining(", ")));
+        return featureLoader.iterator(featurePaths);
+    }
 }
@@ -4,6 +4,7 @@ import gherkin.events.PickleEvent;
 import io.cucumber.core.backend.ObjectFactoryServiceLoader;
 import io.cucumber.core.event.EventHandler;
 import io.cucumber.core.event.EventPublisher;
+import io.cucumber.core.event.GlueAnalyzedEvent;
 import io.cucumber.core.event.Result;
 import io.cucumber.core.event.Status;
 import io.cucumber.core.event.TestCaseFinished;
@@ -28,6 +29,8 @@ import io.cucumber.core.plugin.ConcurrentEventListener;
 import io.cucumber.core.plugin.Plugin;
 import io.cucumber.core.plugin.PluginFactory;
 import io.cucumber.core.plugin.Plugins;
+import io.cucumber.core.runner.GlueAnalysis;
+import io.cucumber.core.runner.GlueAnalyzer;
 
 import java.time.Clock;
 import java.util.ArrayList;
@@ -42,6 +45,7 @@ import java.util.concurrent.Future;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 
 import static java.util.Collections.emptyList;
 import static java.util.Collections.max;
@@ -63,6 +67,7 @@ public final class Runtime {
     private final FeatureSupplier featureSupplier;
     private final ExecutorService executor;
     private final PickleOrder pickleOrder;
+    private final Supplier<GlueAnalyzer> glueAnalyzerSupplier;
 
     private Runtime(final ExitStatus exitStatus,
                     final EventBus bus,
@@ -70,7 +75,8 @@ public final class Runtime {
                     final RunnerSupplier runnerSupplier,
                     final FeatureSupplier featureSupplier,
                     final ExecutorService executor,
-                    final PickleOrder pickleOrder) {
+                    final PickleOrder pickleOrder,
+                    final Supplier<GlueAnalyzer> glueAnalyzerSupplier) {
         this.filters = filters;
         this.bus = bus;
         this.runnerSupplier = runnerSupplier;
@@ -78,6 +84,7 @@ public final class Runtime {
         this.executor = executor;
         this.exitStatus = exitStatus;
         this.pickleOrder = pickleOrder;
+        this.glueAnalyzerSupplier = glueAnalyzerSupplier;
     }
 
     public void run() {
@@ -99,6 +106,12 @@ public final class Runtime {
         final List<PickleEvent> orderedEvents = pickleOrder.orderPickleEvents(filteredEvents);
         final List<PickleEvent> limitedEvents = filters.limitPickleEvents(orderedEvents);
 
+        if (glueAnalyzerSupplier != null) {
+            analyze(limitedEvents);
+            bus.send(new TestRunFinished(bus.getInstant()));
+            return;
+        }
+
         final List<Future<?>> executingPickles = new ArrayList<>();
         for (final PickleEvent pickleEvent : limitedEvents) {
             executingPickles.add(executor.submit(new Runnable() {
@@ -132,6 +145,18 @@ public final class Runtime {
         bus.send(new TestRunFinished(bus.getInstant()));
     }
 
+    private void analyze(List<PickleEvent> pickleEvents) {
+        executor.shutdown();
+        GlueAnalysis analysis = glueAnalyzerSupplier.get().analyze(pickleEvents);
+        exitStatus.setAnalysis(analysis);
+        bus.send(new GlueAnalyzedEvent(
+            bus.getInstant(),
+            analysis.getUndefinedSteps(),
+            analysis.getAmbiguousSteps(),
+            new ArrayList<>(analysis.getUnusedStepDefinitions())
+        ));
+    }
+
     public byte exitStatus() {
         return exitStatus.exitStatus();
     }
@@ -237,7 +262,11 @@ public final class Runtime {
             final Filters filters = new Filters(runtimeOptions);
             final PickleOrder pickleOrder = runtimeOptions.getPickleOrder();
 
-            return new Runtime(exitStatus, eventBus, filters, runnerSupplier, featureSupplier, executor, pickleOrder);
+            final Supplier<GlueAnalyzer> glueAnalyzerSupplier = runtimeOptions.isAnalyze()
+                ? () -> new GlueAnalyzer(eventBus, backendSupplier.get(), typeRegistryConfigurerSupplier.get(), runtimeOptions)
+                : null;
+
+            return new Runtime(exitStatus, eventBus, filters, runnerSupplier, featureSupplier, executor, pickleOrder, glueAnalyzerSupplier);
         }
     }
 
@@ -296,6 +325,7 @@ public final class Runtime {
 
         private final List<Result> results = new ArrayList<>();
         private final RuntimeOptions runtimeOptions;
+        private GlueAnalysis analysis;
 
         private final EventHandler<TestCaseFinished> testCaseFinishedHandler = new EventHandler<TestCaseFinished>() {
             @Override
@@ -313,7 +343,15 @@ public final class Runtime {
             publisher.registerHandlerFor(TestCaseFinished.class, testCaseFinishedHandler);
         }
 
+        void setAnalysis(GlueAnalysis analysis) {
+            this.analysis = analysis;
+        }
+
         byte exitStatus() {
+            if (analysis != null) {
+                return analysis.hasErrors(runtimeOptions.isStrict()) ? ERRORS : DEFAULT;
+            }
+
             if (results.isEmpty()) {
                 return DEFAULT;
             }
@@ -4,6 +4,7 @@ import io.cucumber.core.event.Event;
 import io.cucumber.core.event.EventHandler;
 import io.cucumber.core.eventbus.AbstractEventBus;
 import io.cucumber.core.eventbus.EventBus;
+import io.cucumber.core.probe.Probes;
 import io.cucumber.core.runner.Options;
 import io.cucumber.core.runner.Runner;
 
@@ -67,6 +68,11 @@ public final class ThreadLocalRunnerSupplier implements RunnerSupplier {
             parent.send(event);
         }
 
+        @Override
+        public boolean hasHandlerFor(final Class<? extends Event> eventType) {
+            return super.hasHandlerFor(eventType) || parent.hasHandlerFor(eventType);
+        }
+
         @Override
         public Instant getInstant() {
             return parent.getInstant();
@@ -90,8 +96,12 @@ public final class ThreadLocalRunnerSupplier implements RunnerSupplier {
         }
 
         @Override
-        public synchronized void send(final Event event) {
-            delegate.send(event);
+        public void send(final Event event) {
+            long start = Probes.start();
+            synchronized (this) {
+                Probes.stop("SynchronizedEventBus.awaitLock", start);
+                delegate.send(event);
+            }
         }
 
         @Override
@@ -99,6 +109,11 @@ public final class ThreadLocalRunnerSupplier implements RunnerSupplier {
             delegate.sendAll(events);
         }
 
+        @Override
+        public synchronized boolean hasHandlerFor(final Class<? extends Event> eventType) {
+            return delegate.hasHandlerFor(eventType);
+        }
+
         @Override
         public synchronized <T extends Event> void registerHandlerFor(Class<T> eventType, EventHandler<T> handler) {
             delegate.registerHandlerFor(eventType, handler);
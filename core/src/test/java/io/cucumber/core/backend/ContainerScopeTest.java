@@ -0,0 +1,31 @@
+package io.cucumber.core.backend;
+
+import io.cucumber.core.exception.CucumberException;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+public class ContainerScopeTest {
+
+    @Test
+    public void defaults_to_scenario() {
+        assertEquals(ContainerScope.SCENARIO, ContainerScope.parse("cucumber.test.container", null));
+    }
+
+    @Test
+    public void parses_case_insensitive() {
+        assertEquals(ContainerScope.SCENARIO, ContainerScope.parse("cucumber.test.container", "scenario"));
+        assertEquals(ContainerScope.SUITE, ContainerScope.parse("cucumber.test.container", "Suite"));
+    }
+
+    @Test
+    public void fails_on_unknown_scope() {
+        try {
+            ContainerScope.parse("cucumber.test.container", "thread");
+            fail();
+        } catch (CucumberException e) {
+            assertEquals("cucumber.test.container must be one of scenario or suite, but was thread", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package io.cucumber.core.feature;
+
+import io.cucumber.core.io.Resource;
+import io.cucumber.core.io.ResourceLoader;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class FeatureLoaderTest {
+
+    @Test
+    public void iterator_ignores_duplicate_features() throws IOException {
+        URI featurePath = URI.create("file:path");
+        Resource resource1 = createResourceMock(URI.create("file:path/a.feature"), "Feature: foo");
+        Resource resource2 = createResourceMock(URI.create("file:path/b.feature"), "Feature: foo");
+        Resource resource3 = createResourceMock(URI.create("file:path/c.feature"), "Feature: bar");
+        ResourceLoader resourceLoader = mock(ResourceLoader.class);
+        when(resourceLoader.resources(featurePath, ".feature")).thenReturn(asList(resource3, resource2, resource1));
+
+        Iterator<CucumberFeature> iterator = new FeatureLoader(resourceLoader).iterator(singletonList(featurePath));
+        List<URI> uris = new ArrayList<>();
+        iterator.forEachRemaining(feature -> uris.add(feature.getUri()));
+
+        assertEquals(asList(URI.create("file:path/a.feature"), URI.create("file:path/c.feature")), uris);
+    }
+
+    private static Resource createResourceMock(URI featurePath, String source) throws IOException {
+        Resource resource = mock(Resource.class);
+        when(resource.getPath()).thenReturn(featurePath);
+        when(resource.getInputStream()).thenReturn(new ByteArrayInputStream(source.getBytes(UTF_8)));
+        return resource;
+    }
+
+}
@@ -0,0 +1,73 @@
+package io.cucumber.core.filter;
+
+import gherkin.pickles.PickleLocation;
+import gherkin.pickles.PickleTag;
+import io.cucumber.tagexpressions.Expression;
+import io.cucumber.tagexpressions.TagExpressionParser;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+public class CompiledTagExpressionTest {
+
+    private static final List<String> TAGS = asList("@a", "@b", "@c");
+    private static final List<String> EXPRESSIONS = asList(
+        "@a",
+        "not @a",
+        "@a and @b",
+        "@a or @b",
+        "@a or @b and @c",
+        "(@a or @b) and @c",
+        "not @a and @b",
+        "not (@a or @b)",
+        "not not @a",
+        "@a and not @b or @c",
+        "@a or not @b and not @c"
+    );
+
+    @Test
+    public void evaluates_like_the_tag_expression_parser() {
+        TagExpressionParser parser = new TagExpressionParser();
+        for (String tagExpression : EXPRESSIONS) {
+            Expression expected = parser.parse(tagExpression);
+            CompiledTagExpression compiled = CompiledTagExpression.compile(tagExpression);
+            for (int combination = 0; combination < 1 << TAGS.size(); combination++) {
+                List<String> tagNames = new ArrayList<>();
+                List<PickleTag> pickleTags = new ArrayList<>();
+                for (int i = 0; i < TAGS.size(); i++) {
+                    if ((combination & (1 << i)) != 0) {
+                        tagNames.add(TAGS.get(i));
+                        pickleTags.add(new PickleTag(mock(PickleLocation.class), TAGS.get(i)));
+                    }
+                }
+                assertEquals(tagExpression + " with " + tagNames,
+                    expected.evaluate(tagNames),
+                    compiled.evaluate(TagSet.of(pickleTags)));
+            }
+        }
+    }
+
+    @Test
+    public void distinguishes_tags_beyond_a_single_word() {
+        List<PickleTag> pickleTags = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            pickleTags.add(new PickleTag(mock(PickleLocation.class), "@many-" + i));
+        }
+        TagSet tags = TagSet.of(pickleTags);
+
+        assertTrue(CompiledTagExpression.compile("@many-99").evaluate(tags));
+        assertFalse(CompiledTagExpression.compile("@many-100").evaluate(tags));
+    }
+
+    @Test(expected = RuntimeException.class)
+    public void rejects_invalid_expressions() {
+        CompiledTagExpression.compile("@a and");
+    }
+}
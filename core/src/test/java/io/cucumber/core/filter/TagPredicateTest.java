@@ -7,6 +7,7 @@ import gherkin.pickles.PickleStep;
 import gherkin.pickles.PickleTag;
 import org.junit.Test;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
@@ -133,6 +134,16 @@ public class TagPredicateTest {
         assertFalse(predicate.apply(pickleEvent));
     }
 
+    @Test
+    public void tag_predicate_matches_changed_tags_of_same_list() {
+        List<PickleTag> tags = new ArrayList<>(asList(FOO_TAG));
+        TagPredicate predicate = new TagPredicate(asList(FOO_TAG_VALUE));
+
+        assertTrue(predicate.apply(tags));
+        tags.set(0, BAR_TAG);
+        assertFalse(predicate.apply(tags));
+    }
+
     private PickleEvent createPickleWithTags(List<PickleTag> tags) {
         return new PickleEvent("uri", new Pickle(NAME, LANGUAGE, NO_STEPS, tags, asList(MOCK_LOCATION)));
     }
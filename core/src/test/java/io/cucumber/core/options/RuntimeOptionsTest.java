@@ -1,6 +1,8 @@
 package io.cucumber.core.options;
 
 import gherkin.events.PickleEvent;
+import gherkin.pickles.Pickle;
+import gherkin.pickles.PickleLocation;
 import io.cucumber.core.plugin.EventListener;
 import io.cucumber.core.event.EventPublisher;
 import io.cucumber.core.plugin.ColorAware;
@@ -27,6 +29,7 @@ import org.mockito.junit.MockitoRule;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.net.URI;
+import java.nio.file.Paths;
 import java.time.Clock;
 import java.util.*;
 import java.util.regex.Pattern;
@@ -43,6 +46,7 @@ import static org.hamcrest.collection.IsIterableContainingInOrder.contains;
 import static org.hamcrest.collection.IsMapContaining.hasEntry;
 import static org.hamcrest.core.IsCollectionContaining.hasItem;
 import static org.hamcrest.core.StringStartsWith.startsWith;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
@@ -661,10 +665,39 @@ public class RuntimeOptionsTest {
             .orderPickleEvents(Arrays.asList(a, b, c)), contains(c, a, b));
     }
 
+    @Test
+    public void ensure_ordertype_failed_first_is_used() throws Exception {
+        mockFileResource(resourceLoader, "file:path/rerun.txt", "file:path/b.feature:5\n");
+        RuntimeOptions options = new CommandlineOptionsParser(resourceLoader)
+            .parse("--order", "failed-first:file:path/rerun.txt")
+            .build();
+        PickleEvent a = createPickleEvent("file:path/a.feature", 5);
+        PickleEvent b = createPickleEvent("file:path/b.feature", 3);
+        PickleEvent c = createPickleEvent("file:path/b.feature", 5);
+        assertThat(options.getPickleOrder()
+            .orderPickleEvents(new ArrayList<>(asList(a, b, c))), contains(c, a, b));
+    }
+
+    @Test
+    public void ensure_ordertype_failed_first_without_rerun_file_is_used() {
+        RuntimeOptions options = new CommandlineOptionsParser(resourceLoader)
+            .parse("--order", "failed-first:file:path/rerun.txt")
+            .build();
+        PickleEvent a = createPickleEvent("file:path/a.feature", 5);
+        PickleEvent b = createPickleEvent("file:path/b.feature", 3);
+        assertThat(options.getPickleOrder()
+            .orderPickleEvents(new ArrayList<>(asList(b, a))), contains(a, b));
+    }
+
+    private static PickleEvent createPickleEvent(String uri, int line) {
+        List<PickleLocation> locations = singletonList(new PickleLocation(line, 1));
+        return new PickleEvent(uri, new Pickle("name", "en", Collections.emptyList(), Collections.emptyList(), locations));
+    }
+
     @Test
     public void ensure_invalid_ordertype_is_not_allowed() {
         expectedException.expect(CucumberException.class);
-        expectedException.expectMessage("Invalid order. Must be either reverse, random or random:<long>");
+        expectedException.expectMessage("Invalid order. Must be either reverse, random, random:<long>, recently-changed or failed-first:<rerun file>");
         new CommandlineOptionsParser()
             .parse("--order", "invalid")
             .build();
@@ -679,6 +712,26 @@ public class RuntimeOptionsTest {
             .build();
     }
 
+    @Test
+    public void sets_result_cache_directory_and_key() {
+        RuntimeOptions options = new CommandlineOptionsParser()
+            .parse("--cache", "target/cucumber-cache", "--cache-key", "staging")
+            .build();
+        assertThat(options.getResultCacheDirectory(), is(Paths.get("target/cucumber-cache")));
+        assertThat(options.getResultCacheKey(), is("staging"));
+    }
+
+    @Test
+    public void no_cache_overrides_result_cache_directory() {
+        RuntimeOptions options = new CommandlineOptionsParser()
+            .parse("--cache", "target/cucumber-cache")
+            .build();
+        new CommandlineOptionsParser()
+            .parse("--no-cache")
+            .build(options);
+        assertNull(options.getResultCacheDirectory());
+    }
+
     @Test
     public void loads_no_features_when_rerun_file_contains_carriage_return() throws Exception {
         String rerunPath = "file:path/rerun.txt";
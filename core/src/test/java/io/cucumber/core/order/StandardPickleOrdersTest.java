@@ -0,0 +1,96 @@
+package io.cucumber.core.order;
+
+import gherkin.events.PickleEvent;
+import gherkin.pickles.Pickle;
+import gherkin.pickles.PickleLocation;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptySet;
+import static java.util.Collections.singleton;
+import static java.util.Collections.singletonList;
+import static org.hamcrest.collection.IsIterableContainingInOrder.contains;
+import static org.junit.Assert.assertThat;
+
+public class StandardPickleOrdersTest {
+
+    @Rule
+    public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void recently_changed_features_are_ordered_first() throws IOException {
+        File older = temporaryFolder.newFile("a.feature");
+        File newer = temporaryFolder.newFile("b.feature");
+        Files.setLastModifiedTime(older.toPath(), FileTime.fromMillis(1_000_000));
+        Files.setLastModifiedTime(newer.toPath(), FileTime.fromMillis(2_000_000));
+
+        PickleEvent a = createPickleEvent(older.toURI().toString(), 3);
+        PickleEvent b = createPickleEvent(newer.toURI().toString(), 3);
+        PickleEvent c = createPickleEvent("classpath:c.feature", 3);
+
+        assertThat(StandardPickleOrders.recentlyChangedFirst()
+            .orderPickleEvents(new ArrayList<>(asList(c, a, b))), contains(b, a, c));
+    }
+
+    @Test
+    public void recently_changed_classpath_features_are_ordered_first() throws IOException {
+        File older = temporaryFolder.newFile("a.feature");
+        File newer = temporaryFolder.newFile("b.feature");
+        Files.setLastModifiedTime(older.toPath(), FileTime.fromMillis(1_000_000));
+        Files.setLastModifiedTime(newer.toPath(), FileTime.fromMillis(2_000_000));
+
+        PickleEvent a = createPickleEvent("classpath:a.feature", 3);
+        PickleEvent b = createPickleEvent("classpath:b.feature", 3);
+        PickleEvent c = createPickleEvent("classpath:c.feature", 3);
+
+        Thread thread = Thread.currentThread();
+        ClassLoader original = thread.getContextClassLoader();
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[]{temporaryFolder.getRoot().toURI().toURL()}, null)) {
+            thread.setContextClassLoader(classLoader);
+            assertThat(StandardPickleOrders.recentlyChangedFirst()
+                .orderPickleEvents(new ArrayList<>(asList(c, a, b))), contains(b, a, c));
+        } finally {
+            thread.setContextClassLoader(original);
+        }
+    }
+
+    @Test
+    public void failed_pickles_are_ordered_first() {
+        PickleEvent a = createPickleEvent("file:path/a.feature", 3);
+        PickleEvent b = createPickleEvent("file:path/b.feature", 3);
+        PickleEvent c = createPickleEvent("file:path/c.feature", 7);
+        Map<URI, Set<Integer>> failures = Collections.singletonMap(URI.create("file:path/c.feature"), singleton(7));
+
+        assertThat(StandardPickleOrders.failedFirst(failures, StandardPickleOrders.lexicalUriOrder())
+            .orderPickleEvents(new ArrayList<>(asList(b, c, a))), contains(c, a, b));
+    }
+
+    @Test
+    public void features_without_lines_failed_entirely() {
+        PickleEvent a = createPickleEvent("file:path/a.feature", 3);
+        PickleEvent b = createPickleEvent("file:path/b.feature", 3);
+        PickleEvent c = createPickleEvent("file:path/b.feature", 7);
+        Map<URI, Set<Integer>> failures = Collections.singletonMap(URI.create("file:path/b.feature"), emptySet());
+
+        assertThat(StandardPickleOrders.failedFirst(failures, StandardPickleOrders.lexicalUriOrder())
+            .orderPickleEvents(new ArrayList<>(asList(c, b, a))), contains(c, b, a));
+    }
+
+    private static PickleEvent createPickleEvent(String uri, int line) {
+        return new PickleEvent(uri, new Pickle("name", "en", Collections.emptyList(), Collections.emptyList(), singletonList(new PickleLocation(line, 1))));
+    }
+}
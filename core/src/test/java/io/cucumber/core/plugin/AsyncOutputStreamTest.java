@@ -0,0 +1,89 @@
+package io.cucumber.core.plugin;
+
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class AsyncOutputStreamTest {
+
+    @Test
+    public void writes_output_on_close() throws IOException {
+        ByteArrayOutputStream target = new ByteArrayOutputStream();
+        Writer w = TestUTF8OutputStreamWriter.create(new AsyncOutputStream(target));
+        w.write("Hellesøy");
+        w.close();
+        assertEquals("Hellesøy", new String(target.toByteArray(), UTF_8));
+    }
+
+    @Test
+    public void writes_output_on_drain() throws IOException {
+        ByteArrayOutputStream target = new ByteArrayOutputStream();
+        AsyncOutputStream out = new AsyncOutputStream(target);
+        out.write("Hellesøy".getBytes(UTF_8));
+        out.drain();
+        assertEquals("Hellesøy", new String(target.toByteArray(), UTF_8));
+        out.close();
+    }
+
+    @Test
+    public void writes_output_larger_then_buffers() throws IOException {
+        ByteArrayOutputStream target = new ByteArrayOutputStream();
+        AsyncOutputStream out = new AsyncOutputStream(target);
+        byte[] line = "0123456789abcdef".getBytes(UTF_8);
+        int lines = 256 * 1024;
+        for (int i = 0; i < lines; i++) {
+            out.write(line);
+        }
+        out.close();
+        assertEquals(lines * line.length, target.size());
+    }
+
+    @Test
+    public void reports_failure_to_write() throws IOException {
+        AsyncOutputStream out = new AsyncOutputStream(new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException("disk full");
+            }
+        });
+        out.write(1);
+        try {
+            out.drain();
+            fail();
+        } catch (IOException expected) {
+            assertTrue(expected.getCause().getMessage().contains("disk full"));
+        }
+    }
+
+    @Test
+    public void reports_unchecked_failure_to_write() throws IOException {
+        AsyncOutputStream out = new AsyncOutputStream(new OutputStream() {
+            @Override
+            public void write(int b) {
+                throw new IllegalStateException("connection reset");
+            }
+        });
+        out.write(1);
+        try {
+            out.drain();
+            fail();
+        } catch (IOException expected) {
+            assertTrue(expected.getCause().getMessage().contains("connection reset"));
+        }
+        try {
+            out.close();
+            fail();
+        } catch (IOException expected) {
+            assertTrue(expected.getCause().getMessage().contains("connection reset"));
+        }
+    }
+
+}
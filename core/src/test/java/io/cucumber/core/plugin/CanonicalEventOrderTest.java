@@ -1,6 +1,7 @@
 package io.cucumber.core.plugin;
 
 import io.cucumber.core.event.Event;
+import io.cucumber.core.event.GlueAnalyzedEvent;
 import io.cucumber.core.event.SnippetsSuggestedEvent;
 import io.cucumber.core.event.TestCase;
 import io.cucumber.core.event.TestCaseStarted;
@@ -44,6 +45,7 @@ public class CanonicalEventOrderTest {
     private Event feature1Case2Started = createTestCaseEvent("feature1", 9);
     private Event feature1Case3Started = createTestCaseEvent("feature1", 11);
     private Event feature2Case1Started = createTestCaseEvent("feature2", 1);
+    private Event glueAnalyzed = new GlueAnalyzedEvent(getInstant(), Collections.emptyMap(), Collections.emptyMap(), Collections.emptyList());
     private Event runFinished = new TestRunFinished(getInstant());
 
     @Test
@@ -106,6 +108,16 @@ public class CanonicalEventOrderTest {
 
     }
 
+    @Test
+    public void verifyGlueAnalyzedSortedCorrectly() {
+        assertThat(comparator.compare(glueAnalyzed, runStarted)).isEqualTo(GREATER_THAN);
+        assertThat(comparator.compare(glueAnalyzed, testRead)).isEqualTo(GREATER_THAN);
+        assertThat(comparator.compare(glueAnalyzed, suggested)).isEqualTo(GREATER_THAN);
+        assertThat(comparator.compare(glueAnalyzed, feature1Case1Started)).isEqualTo(GREATER_THAN);
+        assertThat(comparator.compare(glueAnalyzed, glueAnalyzed)).isEqualTo(EQUAL_TO);
+        assertThat(comparator.compare(glueAnalyzed, runFinished)).isEqualTo(LESS_THAN);
+    }
+
     @Test
     public void verifyTestRunFinishedSortedCorrectly() {
         assertThat(comparator.compare(runFinished, runStarted)).isEqualTo(GREATER_THAN);
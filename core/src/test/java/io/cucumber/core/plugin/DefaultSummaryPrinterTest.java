@@ -0,0 +1,60 @@
+package io.cucumber.core.plugin;
+
+import io.cucumber.core.event.GlueAnalyzedEvent;
+import io.cucumber.core.event.StepDefinition;
+import io.cucumber.core.event.TestRunFinished;
+import io.cucumber.core.runtime.TimeServiceEventBus;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.time.Clock;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static java.util.Collections.singletonMap;
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class DefaultSummaryPrinterTest {
+
+    @Test
+    public void prints_glue_analysis_instead_of_stats() throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DefaultSummaryPrinter summaryPrinter = new DefaultSummaryPrinter(new PrintStream(bytes, true, "UTF-8"));
+        summaryPrinter.setMonochrome(true);
+        TimeServiceEventBus bus = new TimeServiceEventBus(Clock.systemUTC());
+        summaryPrinter.setEventPublisher(bus);
+
+        Map<String, List<String>> undefined = singletonMap("undefined step", asList("file:a.feature:2", "file:b.feature:2"));
+        Map<String, List<String>> ambiguous = Collections.emptyMap();
+        List<StepDefinition> unused = singletonList(mockStepDef("com.example.Steps.unused()", "unused step"));
+        bus.send(new GlueAnalyzedEvent(bus.getInstant(), undefined, ambiguous, unused));
+        bus.send(new TestRunFinished(bus.getInstant()));
+
+        String lineSeparator = System.lineSeparator();
+        assertEquals(String.join(lineSeparator,
+            "",
+            "1 Undefined steps",
+            "  undefined step",
+            "    file:a.feature:2",
+            "    file:b.feature:2",
+            "0 Ambiguous steps",
+            "1 Unused step definitions",
+            "  unused step # com.example.Steps.unused()",
+            ""
+        ), new String(bytes.toByteArray(), UTF_8));
+    }
+
+    private static StepDefinition mockStepDef(String location, String pattern) {
+        StepDefinition stepDefinition = mock(StepDefinition.class);
+        when(stepDefinition.getLocation(false)).thenReturn(location);
+        when(stepDefinition.getPattern()).thenReturn(pattern);
+        return stepDefinition;
+    }
+}
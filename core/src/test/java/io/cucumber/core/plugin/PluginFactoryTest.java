@@ -139,6 +139,16 @@ public class PluginFactoryTest {
         assertEquals(new URL("http://halp/"), plugin.out);
     }
 
+    @Test
+    public void fails_to_instantiate_plugin_with_unknown_http_option() {
+        try {
+            fc.create(parse("json:http://localhost:9873/report --bogus"));
+            fail();
+        } catch (CucumberException e) {
+            assertEquals("Unknown http option: --bogus", e.getMessage());
+        }
+    }
+
     @Test
     public void instantiates_custom_uri_plugin_with_ws() throws IOException, URISyntaxException {
         WantsUri plugin = (WantsUri) fc.create(parse("io.cucumber.core.plugin.PluginFactoryTest$WantsUri:ws://halp/"));
@@ -0,0 +1,58 @@
+package io.cucumber.core.plugin;
+
+import io.cucumber.core.event.TestRunFinished;
+import io.cucumber.core.event.TestRunStarted;
+import io.cucumber.core.eventbus.EventBus;
+import io.cucumber.core.probe.Probes;
+import io.cucumber.core.runner.ClockStub;
+import io.cucumber.core.runtime.TimeServiceEventBus;
+import org.junit.Test;
+
+import static java.time.Duration.ZERO;
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.not;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThat;
+
+public class ProfileFormatterTest {
+
+    @Test
+    public void prints_phases_measured_during_test_run() {
+        StringBuilder out = new StringBuilder();
+        ProfileFormatter formatter = new ProfileFormatter(out);
+        EventBus bus = new TimeServiceEventBus(new ClockStub(ZERO));
+        formatter.setEventPublisher(bus);
+
+        bus.send(new TestRunStarted(bus.getInstant()));
+        formatter.record("Runner.prepareGlue", 2_000_000);
+        formatter.record("Runner.prepareGlue", 4_000_000);
+        bus.send(new TestRunFinished(bus.getInstant()));
+
+        assertThat(out.toString(), containsString("Runner.prepareGlue"));
+        assertThat(out.toString(), containsString("         2          6.0       3000.0"));
+    }
+
+    @Test
+    public void stops_listening_to_probes_after_test_run() {
+        StringBuilder out = new StringBuilder();
+        ProfileFormatter formatter = new ProfileFormatter(out);
+        EventBus bus = new TimeServiceEventBus(new ClockStub(ZERO));
+        formatter.setEventPublisher(bus);
+        bus.send(new TestRunFinished(bus.getInstant()));
+
+        Probes.stop("Runner.prepareGlue", Probes.start());
+
+        assertThat(out.toString(), not(containsString("Runner.prepareGlue")));
+    }
+
+    @Test
+    public void approximates_percentiles() {
+        ProfileFormatter.Timer timer = new ProfileFormatter.Timer();
+        for (int i = 1; i <= 100; i++) {
+            timer.record(i * 1000);
+        }
+        assertEquals(100, timer.count());
+        long p99 = timer.percentile(0.99);
+        assertEquals(true, p99 >= 99_000 && p99 <= 99_000 + 99_000 / 16);
+    }
+}
@@ -5,6 +5,7 @@ import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
 import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
@@ -29,7 +30,9 @@ import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executors;
 import java.util.concurrent.LinkedBlockingDeque;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
+import java.util.zip.GZIPInputStream;
 
 import org.junit.After;
 import org.junit.Before;
@@ -98,6 +101,17 @@ public class URLOutputStreamTest {
         assertEquals("Hellesøy", read(tmp));
     }
 
+    @Test
+    public void can_write_gzip_compressed_file() throws IOException {
+        File tmp = File.createTempFile("cucumber-jvm", "tmp.gz");
+        Writer w = TestUTF8OutputStreamWriter.create(new URLOutputStream(tmp.toURI().toURL()));
+        w.write("Hellesøy");
+        w.close();
+        try (BufferedReader br = new BufferedReader(new InputStreamReader(new GZIPInputStream(new FileInputStream(tmp)), StandardCharsets.UTF_8))) {
+            assertEquals("Hellesøy", br.readLine());
+        }
+    }
+
     @Test
     public void can_http_put() throws IOException, InterruptedException {
         final BlockingQueue<String> data = new LinkedBlockingDeque<String>();
@@ -117,6 +131,98 @@ public class URLOutputStreamTest {
         assertEquals("Hellesøy", data.poll(1000, TimeUnit.MILLISECONDS));
     }
 
+    @Test
+    public void can_http_post_with_headers() throws IOException, InterruptedException {
+        final BlockingQueue<String> data = new LinkedBlockingDeque<String>();
+        Rest r = new Rest(webbit);
+        r.POST("/.cucumber/stepdefs.json", new HttpHandler() {
+            @Override
+            public void handleHttpRequest(HttpRequest req, HttpResponse res, HttpControl ctl) {
+                data.offer(req.header("Authorization") + " " + req.body());
+                res.end();
+            }
+        });
+
+        HttpOptions options = HttpOptions.parse(HttpOptions.splitWords("-X POST -H 'Authorization: Bearer 123'"));
+        Writer w = TestUTF8OutputStreamWriter.create(new URLOutputStream(CUCUMBER_STEPDEFS, options));
+        w.write("Hellesøy");
+        w.close();
+        assertEquals("Bearer 123 Hellesøy", data.poll(1000, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void can_http_put_compressed() throws IOException, InterruptedException {
+        final BlockingQueue<byte[]> data = new LinkedBlockingDeque<byte[]>();
+        final BlockingQueue<String> encoding = new LinkedBlockingDeque<String>();
+        Rest r = new Rest(webbit);
+        r.PUT("/.cucumber/stepdefs.json", new HttpHandler() {
+            @Override
+            public void handleHttpRequest(HttpRequest req, HttpResponse res, HttpControl ctl) {
+                encoding.offer(req.header("Content-Encoding"));
+                data.offer(req.bodyAsBytes());
+                res.end();
+            }
+        });
+
+        HttpOptions options = HttpOptions.parse(HttpOptions.splitWords("--compressed"));
+        Writer w = TestUTF8OutputStreamWriter.create(new URLOutputStream(CUCUMBER_STEPDEFS, options));
+        w.write("Hellesøy");
+        w.close();
+        assertEquals("gzip", encoding.poll(1000, TimeUnit.MILLISECONDS));
+        byte[] body = data.poll(1000, TimeUnit.MILLISECONDS);
+        try (BufferedReader br = new BufferedReader(new InputStreamReader(new GZIPInputStream(new ByteArrayInputStream(body)), StandardCharsets.UTF_8))) {
+            assertEquals("Hellesøy", br.readLine());
+        }
+    }
+
+    @Test
+    public void retries_http_put_after_server_error() throws IOException, InterruptedException {
+        final BlockingQueue<String> data = new LinkedBlockingDeque<String>();
+        final AtomicInteger attempts = new AtomicInteger();
+        Rest r = new Rest(webbit);
+        r.PUT("/.cucumber/stepdefs.json", new HttpHandler() {
+            @Override
+            public void handleHttpRequest(HttpRequest req, HttpResponse res, HttpControl ctl) {
+                if (attempts.incrementAndGet() == 1) {
+                    res.status(503);
+                    res.content("try again");
+                } else {
+                    data.offer(req.body());
+                }
+                res.end();
+            }
+        });
+
+        HttpOptions options = HttpOptions.parse(HttpOptions.splitWords("--retry 2"));
+        Writer w = TestUTF8OutputStreamWriter.create(new URLOutputStream(CUCUMBER_STEPDEFS, options));
+        w.write("Hellesøy");
+        w.close();
+        assertEquals("Hellesøy", data.poll(1000, TimeUnit.MILLISECONDS));
+        assertEquals(2, attempts.get());
+    }
+
+    @Test
+    public void http_put_fails_when_max_time_is_exceeded() throws IOException {
+        Rest r = new Rest(webbit);
+        r.PUT("/.cucumber/stepdefs.json", new HttpHandler() {
+            @Override
+            public void handleHttpRequest(HttpRequest req, HttpResponse res, HttpControl ctl) {
+                // Never responds
+            }
+        });
+
+        HttpOptions options = HttpOptions.parse(HttpOptions.splitWords("--max-time 1"));
+        Writer w = TestUTF8OutputStreamWriter.create(new URLOutputStream(CUCUMBER_STEPDEFS, options));
+        w.write("Hellesøy");
+        long start = System.currentTimeMillis();
+        try {
+            w.close();
+            fail();
+        } catch (IOException expected) {
+            assertTrue(System.currentTimeMillis() - start < waitTimeoutMillis);
+        }
+    }
+
     @Test
     public void throws_fnfe_if_http_response_is_404() throws IOException {
         Writer w = TestUTF8OutputStreamWriter.create(new URLOutputStream(CUCUMBER_STEPDEFS));
@@ -0,0 +1,92 @@
+package io.cucumber.core.runner;
+
+import gherkin.events.PickleEvent;
+import gherkin.pickles.Argument;
+import gherkin.pickles.Pickle;
+import gherkin.pickles.PickleLocation;
+import gherkin.pickles.PickleStep;
+import gherkin.pickles.PickleTag;
+import io.cucumber.core.backend.Backend;
+import io.cucumber.core.backend.Glue;
+import io.cucumber.core.backend.StepDefinition;
+import io.cucumber.core.eventbus.EventBus;
+import io.cucumber.core.options.RuntimeOptions;
+import io.cucumber.core.runtime.TimeServiceEventBus;
+import org.junit.Test;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.collection.IsIterableContainingInOrder.contains;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+public class GlueAnalyzerTest {
+
+    private final EventBus bus = new TimeServiceEventBus(Clock.systemUTC());
+
+    @Test
+    public void finds_undefined_ambiguous_and_unused_step_definitions_without_building_the_world() {
+        StepDefinition defined = new StubStepDefinition("defined step");
+        StepDefinition unused = new StubStepDefinition("unused step");
+        StepDefinition ambiguous = new StubStepDefinition("^ambiguous step$");
+        StepDefinition alsoAmbiguous = new StubStepDefinition("^ambiguous .*$");
+        Backend backend = mock(Backend.class);
+        doAnswer(invocation -> {
+            Glue glue = invocation.getArgument(0);
+            glue.addStepDefinition(defined);
+            glue.addStepDefinition(unused);
+            glue.addStepDefinition(ambiguous);
+            glue.addStepDefinition(alsoAmbiguous);
+            return null;
+        }).when(backend).loadGlue(any(Glue.class), anyList());
+
+        GlueAnalyzer analyzer = new GlueAnalyzer(bus, singletonList(backend), typeRegistry -> {
+        }, RuntimeOptions.defaultOptions());
+        GlueAnalysis analysis = analyzer.analyze(asList(
+            createPickleEvent("file:a.feature", "defined step", "undefined step"),
+            createPickleEvent("file:b.feature", "ambiguous step", "undefined step")
+        ));
+
+        assertThat(analysis.getUndefinedSteps().keySet(), contains("undefined step"));
+        assertThat(analysis.getUndefinedSteps().get("undefined step"), contains("file:a.feature:2", "file:b.feature:2"));
+        assertThat(analysis.getAmbiguousSteps().keySet(), contains("ambiguous step"));
+        assertThat(analysis.getUnusedStepDefinitions(), contains(unused));
+        assertTrue(analysis.hasErrors(false));
+        verify(backend, never()).buildWorld();
+    }
+
+    @Test
+    public void undefined_steps_are_errors_in_strict_mode() {
+        Backend backend = mock(Backend.class);
+        GlueAnalyzer analyzer = new GlueAnalyzer(bus, singletonList(backend), typeRegistry -> {
+        }, RuntimeOptions.defaultOptions());
+
+        GlueAnalysis analysis = analyzer.analyze(singletonList(createPickleEvent("file:a.feature", "undefined step")));
+
+        assertThat(analysis.getUndefinedSteps().size(), is(1));
+        assertFalse(analysis.hasErrors(false));
+        assertTrue(analysis.hasErrors(true));
+    }
+
+    private static PickleEvent createPickleEvent(String uri, String... stepTexts) {
+        List<PickleStep> steps = new ArrayList<>();
+        for (int i = 0; i < stepTexts.length; i++) {
+            steps.add(new PickleStep(stepTexts[i], Collections.<Argument>emptyList(), singletonList(new PickleLocation(i + 1, 5))));
+        }
+        List<PickleTag> tags = Collections.emptyList();
+        return new PickleEvent(uri, new Pickle("name", "en", steps, tags, singletonList(new PickleLocation(1, 1))));
+    }
+}
@@ -11,12 +11,15 @@ import io.cucumber.core.backend.Backend;
 import io.cucumber.core.backend.Glue;
 import io.cucumber.core.backend.HookDefinition;
 import io.cucumber.core.backend.ObjectFactory;
+import io.cucumber.core.event.SnippetsSuggestedEvent;
 import io.cucumber.core.eventbus.EventBus;
 import io.cucumber.core.options.RuntimeOptions;
 import io.cucumber.core.options.RuntimeOptionsBuilder;
 import io.cucumber.core.runtime.TimeServiceEventBus;
 import io.cucumber.core.snippets.TestSnippet;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 import org.mockito.ArgumentMatchers;
 import org.mockito.InOrder;
 import org.mockito.invocation.InvocationOnMock;
@@ -24,6 +27,7 @@ import org.mockito.stubbing.Answer;
 
 import java.net.URI;
 import java.time.Clock;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
@@ -39,8 +43,10 @@ import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
 
 public class RunnerTest {
     private static final String ENGLISH = "en";
@@ -53,6 +59,9 @@ public class RunnerTest {
     private final EventBus bus = new TimeServiceEventBus(Clock.systemUTC());
     private final TypeRegistryConfigurer typeRegistryConfigurer = typeRegistry -> {};
 
+    @Rule
+    public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
     @Test
     public void hooks_execute_when_world_exist() throws Throwable {
         final HookDefinition beforeHook = addBeforeHook();
@@ -266,6 +275,168 @@ public class RunnerTest {
         verify(afterHook, never()).execute(any(Scenario.class));
     }
 
+    @Test
+    public void hooks_are_matched_once_per_tag_set() throws Throwable {
+        StubStepDefinition stepDefinition = new StubStepDefinition("some step");
+        final HookDefinition beforeStepHook = addHook();
+        final HookDefinition taggedHook = mock(HookDefinition.class);
+        when(taggedHook.matches(ArgumentMatchers.anyList())).thenAnswer(invocation -> {
+            List<PickleTag> tags = invocation.getArgument(0);
+            return tags.stream().anyMatch(tag -> "@tagged".equals(tag.getName()));
+        });
+
+        TestRunnerSupplier runnerSupplier = new TestRunnerSupplier(bus, runtimeOptions) {
+            @Override
+            public void loadGlue(Glue glue, List<URI> gluePaths) {
+                glue.addBeforeStepHook(beforeStepHook);
+                glue.addBeforeHook(taggedHook);
+                glue.addStepDefinition(stepDefinition);
+            }
+        };
+
+        Runner runner = runnerSupplier.get();
+        List<PickleTag> tagged = singletonList(new PickleTag(mock(PickleLocation.class), "@tagged"));
+        runner.runPickle(createPickleEventWithTwoSteps(stepDefinition, NO_TAGS));
+        runner.runPickle(createPickleEventWithTwoSteps(stepDefinition, NO_TAGS));
+        runner.runPickle(createPickleEventWithTwoSteps(stepDefinition, tagged));
+
+        verify(beforeStepHook, times(2)).matches(ArgumentMatchers.anyList());
+        verify(beforeStepHook, times(6)).execute(any(Scenario.class));
+        verify(taggedHook, times(2)).matches(ArgumentMatchers.anyList());
+        verify(taggedHook, times(1)).execute(any(Scenario.class));
+    }
+
+    @Test
+    public void hooks_are_matched_once_when_scenario_scoped_hooks_do_not_change() throws Throwable {
+        StubStepDefinition stepDefinition = new StubStepDefinition("some step");
+        final HookDefinition scenarioScopedHook = mock(HookDefinition.class, withSettings().extraInterfaces(ScenarioScoped.class));
+        when(scenarioScopedHook.matches(ArgumentMatchers.anyList())).thenReturn(true);
+
+        TestRunnerSupplier runnerSupplier = new TestRunnerSupplier(bus, runtimeOptions) {
+            private Glue glue;
+
+            @Override
+            public void loadGlue(Glue glue, List<URI> gluePaths) {
+                this.glue = glue;
+                glue.addStepDefinition(stepDefinition);
+            }
+
+            @Override
+            public void buildWorld() {
+                glue.addBeforeHook(scenarioScopedHook);
+            }
+        };
+
+        Runner runner = runnerSupplier.get();
+        runner.runPickle(createPickleEventWithTwoSteps(stepDefinition, NO_TAGS));
+        runner.runPickle(createPickleEventWithTwoSteps(stepDefinition, NO_TAGS));
+
+        verify(scenarioScopedHook, times(1)).matches(ArgumentMatchers.anyList());
+        verify(scenarioScopedHook, times(2)).execute(any(Scenario.class));
+    }
+
+    @Test
+    public void hooks_are_matched_again_when_scenario_scoped_hooks_change() throws Throwable {
+        StubStepDefinition stepDefinition = new StubStepDefinition("some step");
+        final List<HookDefinition> scenarioScopedHooks = new ArrayList<>();
+
+        TestRunnerSupplier runnerSupplier = new TestRunnerSupplier(bus, runtimeOptions) {
+            private Glue glue;
+
+            @Override
+            public void loadGlue(Glue glue, List<URI> gluePaths) {
+                this.glue = glue;
+                glue.addStepDefinition(stepDefinition);
+            }
+
+            @Override
+            public void buildWorld() {
+                HookDefinition scenarioScopedHook = mock(HookDefinition.class, withSettings().extraInterfaces(ScenarioScoped.class));
+                when(scenarioScopedHook.matches(ArgumentMatchers.anyList())).thenReturn(true);
+                scenarioScopedHooks.add(scenarioScopedHook);
+                glue.addBeforeHook(scenarioScopedHook);
+            }
+        };
+
+        Runner runner = runnerSupplier.get();
+        runner.runPickle(createPickleEventWithTwoSteps(stepDefinition, NO_TAGS));
+        runner.runPickle(createPickleEventWithTwoSteps(stepDefinition, NO_TAGS));
+
+        assertEquals(2, scenarioScopedHooks.size());
+        verify(scenarioScopedHooks.get(0), times(1)).execute(any(Scenario.class));
+        verify(scenarioScopedHooks.get(1), times(1)).execute(any(Scenario.class));
+    }
+
+    @Test
+    public void passed_pickles_are_not_executed_again_with_result_cache() throws Throwable {
+        StubStepDefinition stepDefinition = spy(new StubStepDefinition("some step"));
+        PickleEvent pickleEvent = createPickleEventMatchingStepDefinitions(stepDefinition);
+        RuntimeOptions cachingOptions = new RuntimeOptionsBuilder()
+            .setResultCacheDirectory(temporaryFolder.getRoot().toPath())
+            .build();
+
+        TestRunnerSupplier runnerSupplier = new TestRunnerSupplier(bus, cachingOptions) {
+            @Override
+            public void loadGlue(Glue glue, List<URI> gluePaths) {
+                glue.addStepDefinition(stepDefinition);
+            }
+        };
+
+        runnerSupplier.get().runPickle(pickleEvent);
+        runnerSupplier.get().runPickle(pickleEvent);
+
+        verify(stepDefinition, times(1)).execute(any(Object[].class));
+    }
+
+    @Test
+    public void failed_pickles_are_executed_again_with_result_cache() throws Throwable {
+        StubStepDefinition stepDefinition = spy(new StubStepDefinition("some step"));
+        doThrow(RuntimeException.class).when(stepDefinition).execute(any(Object[].class));
+        PickleEvent pickleEvent = createPickleEventMatchingStepDefinitions(stepDefinition);
+        RuntimeOptions cachingOptions = new RuntimeOptionsBuilder()
+            .setResultCacheDirectory(temporaryFolder.getRoot().toPath())
+            .build();
+
+        TestRunnerSupplier runnerSupplier = new TestRunnerSupplier(bus, cachingOptions) {
+            @Override
+            public void loadGlue(Glue glue, List<URI> gluePaths) {
+                glue.addStepDefinition(stepDefinition);
+            }
+        };
+
+        runnerSupplier.get().runPickle(pickleEvent);
+        runnerSupplier.get().runPickle(pickleEvent);
+
+        verify(stepDefinition, times(2)).execute(any(Object[].class));
+    }
+
+    @Test
+    public void pickles_are_not_cached_when_the_declaring_class_is_unknown() throws Throwable {
+        StubStepDefinition stepDefinition = spy(new StubStepDefinition("some step") {
+            @Override
+            public String getDeclaringClassName() {
+                return null;
+            }
+        });
+        PickleEvent pickleEvent = createPickleEventMatchingStepDefinitions(stepDefinition);
+        RuntimeOptions cachingOptions = new RuntimeOptionsBuilder()
+            .setResultCacheDirectory(temporaryFolder.getRoot().toPath())
+            .build();
+
+        TestRunnerSupplier runnerSupplier = new TestRunnerSupplier(bus, cachingOptions) {
+            @Override
+            public void loadGlue(Glue glue, List<URI> gluePaths) {
+                glue.addStepDefinition(stepDefinition);
+            }
+        };
+
+        runnerSupplier.get().runPickle(pickleEvent);
+        runnerSupplier.get().runPickle(pickleEvent);
+
+        verify(stepDefinition, times(2)).execute(any(Object[].class));
+        assertEquals(0, temporaryFolder.getRoot().list().length);
+    }
+
     @Test
     public void backends_are_asked_for_snippets_for_undefined_steps() {
         PickleStep step = mock(PickleStep.class);
@@ -273,9 +444,41 @@ public class RunnerTest {
         Backend backend = mock(Backend.class);
         when(backend.getSnippet()).thenReturn(new TestSnippet());
         ObjectFactory objectFactory = mock(ObjectFactory.class);
+        List<SnippetsSuggestedEvent> events = new ArrayList<>();
+        bus.registerHandlerFor(SnippetsSuggestedEvent.class, events::add);
         Runner runner = new Runner(bus, singletonList(backend), objectFactory, typeRegistryConfigurer, runtimeOptions);
         runner.runPickle(createPickleEventWithSteps(asList(step)));
         verify(backend).getSnippet();
+        assertEquals(1, events.size());
+    }
+
+    @Test
+    public void snippets_are_generated_once_per_step_text() {
+        PickleStep step = mock(PickleStep.class);
+        when(step.getText()).thenReturn("some step");
+        Backend backend = mock(Backend.class);
+        when(backend.getSnippet()).thenReturn(new TestSnippet());
+        ObjectFactory objectFactory = mock(ObjectFactory.class);
+        List<SnippetsSuggestedEvent> events = new ArrayList<>();
+        bus.registerHandlerFor(SnippetsSuggestedEvent.class, events::add);
+        Runner runner = new Runner(bus, singletonList(backend), objectFactory, typeRegistryConfigurer, runtimeOptions);
+        runner.runPickle(createPickleEventWithSteps(asList(step, step)));
+        runner.runPickle(createPickleEventWithSteps(asList(step)));
+        verify(backend, times(1)).getSnippet();
+        assertEquals(3, events.size());
+        assertEquals(events.get(0).getSnippets(), events.get(2).getSnippets());
+    }
+
+    @Test
+    public void snippets_are_not_generated_without_a_handler() {
+        PickleStep step = mock(PickleStep.class);
+        when(step.getText()).thenReturn("some step");
+        Backend backend = mock(Backend.class);
+        when(backend.getSnippet()).thenReturn(new TestSnippet());
+        ObjectFactory objectFactory = mock(ObjectFactory.class);
+        Runner runner = new Runner(bus, singletonList(backend), objectFactory, typeRegistryConfigurer, runtimeOptions);
+        runner.runPickle(createPickleEventWithSteps(asList(step)));
+        verify(backend, never()).getSnippet();
     }
 
     private HookDefinition addBeforeHook() {
@@ -307,6 +510,12 @@ public class RunnerTest {
         return new PickleEvent("uri", new Pickle(NAME, ENGLISH, singletonList(step), NO_TAGS, MOCK_LOCATIONS));
     }
 
+    private PickleEvent createPickleEventWithTwoSteps(StubStepDefinition stepDefinition, List<PickleTag> tags) {
+        PickleStep step = mock(PickleStep.class);
+        when(step.getText()).thenReturn(stepDefinition.getPattern());
+        return new PickleEvent("uri", new Pickle(NAME, ENGLISH, asList(step, step), tags, MOCK_LOCATIONS));
+    }
+
     private PickleEvent createPickleEventWithSteps(List<PickleStep> steps) {
         return new PickleEvent("uri", new Pickle(NAME, ENGLISH, steps, NO_TAGS, MOCK_LOCATIONS));
     }
@@ -59,6 +59,11 @@ class StubStepDefinition implements StepDefinition {
         return expression;
     }
 
+    @Override
+    public String getDeclaringClassName() {
+        return StubStepDefinition.class.getName();
+    }
+
     private final class StubParameterInfo implements ParameterInfo {
 
         private final Type type;
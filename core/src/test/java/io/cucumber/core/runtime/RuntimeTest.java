@@ -9,6 +9,7 @@ import io.cucumber.core.backend.HookDefinition;
 import io.cucumber.core.backend.ParameterInfo;
 import io.cucumber.core.event.EventHandler;
 import io.cucumber.core.event.EventPublisher;
+import io.cucumber.core.event.GlueAnalyzedEvent;
 import io.cucumber.core.event.HookType;
 import io.cucumber.core.event.Result;
 import io.cucumber.core.event.Status;
@@ -16,6 +17,7 @@ import io.cucumber.core.event.StepDefinedEvent;
 import io.cucumber.core.event.StepDefinition;
 import io.cucumber.core.event.TestCase;
 import io.cucumber.core.event.TestCaseFinished;
+import io.cucumber.core.event.TestRunFinished;
 import io.cucumber.core.event.TestStepFinished;
 import io.cucumber.core.eventbus.EventBus;
 import io.cucumber.core.exception.CompositeCucumberException;
@@ -257,6 +259,70 @@ public class RuntimeTest {
         assertEquals(0x1, runtime.exitStatus());
     }
 
+    @Test
+    public void publishes_glue_analysis_instead_of_running_scenarios() {
+        final CucumberFeature feature = feature("test.feature", "" +
+            "Feature: feature name\n" +
+            "  Scenario: scenario name\n" +
+            "    When undefined step\n");
+        List<GlueAnalyzedEvent> analyses = new ArrayList<>();
+        List<TestCaseFinished> testCases = new ArrayList<>();
+        ConcurrentEventListener listener = publisher -> {
+            publisher.registerHandlerFor(GlueAnalyzedEvent.class, analyses::add);
+            publisher.registerHandlerFor(TestCaseFinished.class, testCases::add);
+        };
+
+        Runtime.builder()
+            .withRuntimeOptions(new CommandlineOptionsParser().parse("--analyze").build())
+            .withBackendSupplier(new TestBackendSupplier() {
+                @Override
+                public void loadGlue(Glue glue, List<URI> gluePaths) {
+
+                }
+            })
+            .withAdditionalPlugins(listener)
+            .withEventBus(bus)
+            .withFeatureSupplier(new TestFeatureSupplier(bus, feature))
+            .build()
+            .run();
+
+        assertEquals(1, analyses.size());
+        assertEquals(singletonList("undefined step"), new ArrayList<>(analyses.get(0).getUndefinedSteps().keySet()));
+        assertTrue(testCases.isEmpty());
+    }
+
+    @Test
+    public void publishes_glue_analysis_in_canonical_order_when_multi_threaded() {
+        final CucumberFeature feature = feature("test.feature", "" +
+            "Feature: feature name\n" +
+            "  Scenario: scenario name\n" +
+            "    When undefined step\n");
+        List<GlueAnalyzedEvent> analyses = new ArrayList<>();
+        List<TestRunFinished> testRunsFinished = new ArrayList<>();
+        EventListener listener = publisher -> {
+            publisher.registerHandlerFor(GlueAnalyzedEvent.class, analyses::add);
+            publisher.registerHandlerFor(TestRunFinished.class, testRunsFinished::add);
+        };
+
+        Runtime.builder()
+            .withRuntimeOptions(new CommandlineOptionsParser().parse("--analyze", "--threads", "2").build())
+            .withBackendSupplier(new TestBackendSupplier() {
+                @Override
+                public void loadGlue(Glue glue, List<URI> gluePaths) {
+
+                }
+            })
+            .withAdditionalPlugins(listener)
+            .withEventBus(bus)
+            .withFeatureSupplier(new TestFeatureSupplier(bus, feature))
+            .build()
+            .run();
+
+        assertEquals(1, analyses.size());
+        assertEquals(singletonList("undefined step"), new ArrayList<>(analyses.get(0).getUndefinedSteps().keySet()));
+        assertEquals(1, testRunsFinished.size());
+    }
+
     @Test
     public void should_pass_if_no_features_are_found() {
         ResourceLoader resourceLoader = createResourceLoaderThatFindsNoFeatures();
@@ -0,0 +1,65 @@
+package io.cucumber.guice;
+
+import com.google.inject.Key;
+import com.google.inject.OutOfScopeException;
+import com.google.inject.Provider;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Scenario scope that keeps the scenario values of each thread separate. Each
+ * thread can be in its own scoping block, allowing one injector to be used by
+ * scenarios executing in parallel.
+ * <p>
+ * Scenario scoped objects can only be accessed from the thread that entered
+ * the scope.
+ */
+class ConcurrentScenarioScope implements ScenarioScope {
+
+    private final ThreadLocal<Map<Key<?>, Object>> scenarioValues = new ThreadLocal<>();
+
+    @Override
+    public <T> Provider<T> scope(final Key<T> key, final Provider<T> unscoped) {
+        return new Provider<T>() {
+            public T get() {
+                Map<Key<?>, Object> values = scenarioValues.get();
+                if (values == null) {
+                    throw new OutOfScopeException("Cannot access " + key + " outside of a scoping block on " + Thread.currentThread().getName());
+                }
+
+                @SuppressWarnings("unchecked")
+                T current = (T) values.get(key);
+                if (current == null && !values.containsKey(key)) {
+                    current = unscoped.get();
+                    values.put(key, current);
+                }
+                return current;
+            }
+
+            @Override
+            public String toString() {
+                return "ConcurrentScenarioScope[" + unscoped + "]";
+            }
+        };
+    }
+
+    @Override
+    public void enterScope() {
+        checkState(scenarioValues.get() == null, "A scoping block is already in progress on this thread");
+        scenarioValues.set(new HashMap<>());
+    }
+
+    @Override
+    public void exitScope() {
+        checkState(scenarioValues.get() != null, "No scoping block in progress on this thread");
+        scenarioValues.remove();
+    }
+
+    private void checkState(boolean expression, String errorMessage) {
+        if (!expression) {
+            throw new IllegalStateException(errorMessage);
+        }
+    }
+
+}
@@ -40,4 +40,16 @@ public final class CucumberScopes {
         return new SequentialScenarioScope();
     }
 
+    /**
+     * Creates a new instance of a ScenarioScope that can be used by multiple
+     * threads at the same time. Each thread has its own scenario scoped
+     * objects. Required when {@code guice.shared-injector}
+     * is {@code true}.
+     *
+     * @return a new instance of a ScenarioScope.
+     */
+    public static ScenarioScope createConcurrentScenarioScope() {
+        return new ConcurrentScenarioScope();
+    }
+
 }
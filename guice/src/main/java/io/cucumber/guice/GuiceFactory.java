@@ -1,20 +1,57 @@
 package io.cucumber.guice;
 
+import com.google.inject.Binding;
 import com.google.inject.Injector;
+import com.google.inject.Key;
 import io.cucumber.core.backend.ObjectFactory;
+import io.cucumber.core.exception.CucumberException;
 import io.cucumber.core.options.CucumberProperties;
 import org.apiguardian.api.API;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
 /**
  * Guice implementation of the <code>io.cucumber.core.backend.ObjectFactory</code>.
+ * <p>
+ * By default each factory, and thus each thread executing scenarios, creates
+ * its own injector. When {@code guice.shared-injector}
+ * is {@code true} one injector is created and shared by all threads. The
+ * injector must then be configured with a scenario scope created by
+ * {@link CucumberScopes#createConcurrentScenarioScope()}.
  */
 @API(status = API.Status.STABLE)
 public final class GuiceFactory implements ObjectFactory {
 
+    private static final ConcurrentMap<String, Injector> sharedInjectors = new ConcurrentHashMap<>();
+
     private final Injector injector;
 
     public GuiceFactory() {
-        this(new InjectorSourceFactory(CucumberProperties.create()).create().getInjector());
+        this(createInjector(CucumberProperties.create()));
+    }
+
+    static Injector createInjector(Map<String, String> properties) {
+        InjectorSourceFactory injectorSourceFactory = new InjectorSourceFactory(properties);
+        if (!injectorSourceFactory.isSharedInjector()) {
+            return injectorSourceFactory.create().getInjector();
+        }
+        String injectorSource = String.valueOf(injectorSourceFactory.getInjectorSourceClassName());
+        return sharedInjectors.computeIfAbsent(injectorSource, key -> {
+            Injector injector = injectorSourceFactory.create().getInjector();
+            checkConcurrentScenarioScope(injector);
+            return injector;
+        });
+    }
+
+    private static void checkConcurrentScenarioScope(Injector injector) {
+        Binding<ScenarioScope> binding = injector.getExistingBinding(Key.get(ScenarioScope.class));
+        if (binding != null && binding.getProvider().get() instanceof SequentialScenarioScope) {
+            throw new CucumberException("" +
+                "The injector is shared between threads but was configured with a sequential scenario scope. " +
+                "Please use CucumberScopes.createConcurrentScenarioScope() to create the scenario scope.");
+        }
     }
 
     /**
@@ -10,12 +10,21 @@ import static java.text.MessageFormat.format;
 final class InjectorSourceFactory {
 
     static final String GUICE_INJECTOR_SOURCE_KEY = "guice.injector-source";
+    static final String GUICE_SHARED_INJECTOR_KEY = "guice.shared-injector";
     private final Map<String, String> properties;
 
     InjectorSourceFactory(Map<String, String> properties) {
         this.properties = properties;
     }
 
+    boolean isSharedInjector() {
+        return Boolean.parseBoolean(properties.get(GUICE_SHARED_INJECTOR_KEY));
+    }
+
+    String getInjectorSourceClassName() {
+        return properties.get(GUICE_INJECTOR_SOURCE_KEY);
+    }
+
     InjectorSource create() {
         String injectorSourceClassName = properties.get(GUICE_INJECTOR_SOURCE_KEY);
         if (injectorSourceClassName == null) {
@@ -26,7 +35,10 @@ final class InjectorSourceFactory {
     }
 
     private InjectorSource createDefaultScenarioModuleInjectorSource() {
-        return () -> Guice.createInjector(Stage.PRODUCTION, CucumberModules.SCENARIO);
+        if (isSharedInjector()) {
+            return () -> Guice.createInjector(Stage.PRODUCTION, CucumberModules.createScenarioModule(CucumberScopes.createConcurrentScenarioScope()));
+        }
+        return () -> Guice.createInjector(Stage.PRODUCTION, CucumberModules.createScenarioModule());
     }
 
     private InjectorSource instantiateUserSpecifiedInjectorSource(String injectorSourceClassName) {
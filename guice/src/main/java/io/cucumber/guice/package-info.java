@@ -152,5 +152,26 @@
  * <pre>
  * guice.injector-source=com.company.YourInjectorSource
  * </pre>
+ * <h3>Parallel execution</h3>
+ * <p>
+ * When scenarios are executed in parallel each thread creates its own injector. To create one injector and share it
+ * between all threads set the property <code>guice.shared-injector</code> to <code>true</code>. The injector must then
+ * be configured with a scenario scope created by <code>CucumberScopes.createConcurrentScenarioScope()</code>. This
+ * scope keeps the scenario scoped instances of each thread separate. Classes bound in singleton scope are shared by
+ * all threads and should be thread safe. For example:
+ * </p>
+ * <pre>
+ * public class YourInjectorSource implements InjectorSource {
+ *
+ * {@literal @}Override
+ * public Injector getInjector() {
+ * return Guice.createInjector(Stage.PRODUCTION,
+ *     CucumberModules.createScenarioModule(CucumberScopes.createConcurrentScenarioScope()), new YourModule());
+ * }
+ * }
+ * </pre>
+ * <p>
+ * The default injector source does this when <code>guice.shared-injector</code> is <code>true</code>.
+ * </p>
  */
 package io.cucumber.guice;
@@ -9,6 +9,7 @@ import com.google.inject.Stage;
 import io.cucumber.guice.matcher.ElementsAreAllEqualMatcher;
 import io.cucumber.guice.matcher.ElementsAreAllUniqueMatcher;
 import io.cucumber.core.backend.ObjectFactory;
+import io.cucumber.core.exception.CucumberException;
 import org.junit.After;
 import org.junit.Rule;
 import org.junit.Test;
@@ -16,10 +17,18 @@ import org.junit.rules.ExpectedException;
 
 import javax.inject.Singleton;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 import static org.hamcrest.CoreMatchers.containsString;
 import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static java.util.concurrent.Executors.newFixedThreadPool;
 import static org.junit.Assert.assertThat;
 import static org.junit.rules.ExpectedException.none;
 
@@ -170,6 +179,53 @@ public class GuiceFactoryTest {
         assertThat(instancesFromDifferentScenarios, ElementsAreAllUniqueMatcher.elementsAreAllUnique());
     }
 
+    @Test
+    public void shouldGiveEachThreadItsOwnInstanceOfScenarioScopedClassWhenScopeIsConcurrent() throws Exception {
+        Injector injector = injector(CucumberModules.createScenarioModule(CucumberScopes.createConcurrentScenarioScope()));
+        CyclicBarrier barrier = new CyclicBarrier(2);
+        ExecutorService executorService = newFixedThreadPool(2);
+        try {
+            Future<List<AnnotatedScenarioScopedClass>> thread1 = executorService.submit(() -> getInstancesFromSameScenario(new GuiceFactory(injector), AnnotatedScenarioScopedClass.class, barrier));
+            Future<List<AnnotatedScenarioScopedClass>> thread2 = executorService.submit(() -> getInstancesFromSameScenario(new GuiceFactory(injector), AnnotatedScenarioScopedClass.class, barrier));
+
+            assertThat(thread1.get(), ElementsAreAllEqualMatcher.elementsAreAllEqual());
+            assertThat(thread2.get(), ElementsAreAllEqualMatcher.elementsAreAllEqual());
+            assertThat(thread1.get().get(0), not(sameInstance(thread2.get().get(0))));
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
+    @Test
+    public void shouldShareInjectorWhenInjectorIsShared() {
+        Map<String, String> properties = new HashMap<>();
+        properties.put(InjectorSourceFactory.GUICE_SHARED_INJECTOR_KEY, "true");
+        assertThat(GuiceFactory.createInjector(properties), sameInstance(GuiceFactory.createInjector(properties)));
+    }
+
+    @Test
+    public void shouldCreateInjectorForEachFactoryByDefault() {
+        Map<String, String> properties = new HashMap<>();
+        assertThat(GuiceFactory.createInjector(properties), not(sameInstance(GuiceFactory.createInjector(properties))));
+    }
+
+    public static class SequentialInjectorSource implements InjectorSource {
+        @Override
+        public Injector getInjector() {
+            return Guice.createInjector(Stage.PRODUCTION, CucumberModules.createScenarioModule());
+        }
+    }
+
+    @Test
+    public void shouldNotShareInjectorWithSequentialScenarioScope() {
+        Map<String, String> properties = new HashMap<>();
+        properties.put(InjectorSourceFactory.GUICE_SHARED_INJECTOR_KEY, "true");
+        properties.put(InjectorSourceFactory.GUICE_INJECTOR_SOURCE_KEY, SequentialInjectorSource.class.getName());
+        expectedException.expect(CucumberException.class);
+        expectedException.expectMessage("The injector is shared between threads but was configured with a sequential scenario scope");
+        GuiceFactory.createInjector(properties);
+    }
+
     private Injector injector(Module... module) {
         return Guice.createInjector(Stage.PRODUCTION, module);
     }
@@ -187,6 +243,19 @@ public class GuiceFactoryTest {
         return Arrays.asList(o1, o2, o3);
     }
 
+    private static <E> List<E> getInstancesFromSameScenario(ObjectFactory factory, Class<E> aClass, CyclicBarrier barrier) throws Exception {
+
+        // Scenario
+        factory.start();
+        E o1 = factory.getInstance(aClass);
+        // Both threads are in a scenario
+        barrier.await();
+        E o2 = factory.getInstance(aClass);
+        factory.stop();
+
+        return Arrays.asList(o1, o2);
+    }
+
     private <E> List<E> getInstancesFromDifferentScenarios(ObjectFactory factory, Class<E> aClass) {
 
         // Scenario 1
@@ -21,6 +21,10 @@ abstract class AbstractGlueDefinition {
         return detail ? getFullLocationLocation() : getShortFormatLocation();
     }
 
+    public final String getDeclaringClassName() {
+        return method.getDeclaringClass().getName();
+    }
+
     private String getShortFormatLocation() {
         if (shortFormat == null) {
             shortFormat = MethodFormat.SHORT.format(method);
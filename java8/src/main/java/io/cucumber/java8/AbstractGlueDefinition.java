@@ -3,10 +3,6 @@ package io.cucumber.java8;
 import io.cucumber.core.runner.ScenarioScoped;
 
 import java.lang.reflect.Method;
-import java.util.ArrayList;
-import java.util.List;
-
-import static java.lang.String.format;
 
 abstract class AbstractGlueDefinition implements ScenarioScoped {
 
@@ -14,9 +10,9 @@ abstract class AbstractGlueDefinition implements ScenarioScoped {
     final Method method;
     final StackTraceElement location;
 
-    AbstractGlueDefinition(Object body, StackTraceElement location) {
+    AbstractGlueDefinition(Object body, Method method, StackTraceElement location) {
         this.body = body;
-        this.method = getAcceptMethod(body.getClass());
+        this.method = method;
         this.location = location;
     }
 
@@ -24,22 +20,26 @@ abstract class AbstractGlueDefinition implements ScenarioScoped {
         return location.getFileName() + ":" + location.getLineNumber();
     }
 
+    public final String getDeclaringClassName() {
+        return location.getClassName();
+    }
+
     public final boolean isDefinedAt(StackTraceElement stackTraceElement) {
         return location.getFileName() != null && location.getFileName().equals(stackTraceElement.getFileName());
     }
 
-    private Method getAcceptMethod(Class<?> bodyClass) {
-        List<Method> acceptMethods = new ArrayList<>();
-        for (Method method : bodyClass.getDeclaredMethods()) {
-            if (!method.isBridge() && !method.isSynthetic() && "accept".equals(method.getName())) {
-                acceptMethods.add(method);
-            }
-        }
-        if (acceptMethods.size() != 1) {
-            throw new IllegalStateException(format(
-                "Expected single 'accept' method on body class, found '%s'", acceptMethods));
-        }
-        return acceptMethods.get(0);
+    /**
+     * Key that identifies the declaration of this definition across
+     * scenarios. Used to rebind the definition to a new lambda instance.
+     */
+    abstract String rebindKey();
+
+    final void rebind(Object body) {
+        this.body = body;
+    }
+
+    final boolean isBound() {
+        return body != null;
     }
 
     @Override
@@ -0,0 +1,24 @@
+package io.cucumber.java8;
+
+import org.apiguardian.api.API;
+
+@API(status = API.Status.EXPERIMENTAL)
+public final class Constants {
+
+    /**
+     * Property name used to rebind lambda glue: {@value}
+     * <p>
+     * When {@code true} each lambda step definition and hook is created and
+     * added to the glue once. For each subsequent scenario the glue classes
+     * are still instantiated but their lambdas are rebound to the existing
+     * definitions. Glue classes must register the same lambdas for every
+     * scenario.
+     * <p>
+     * Defaults to {@code false}.
+     */
+    public static final String JAVA8_REBIND_GLUE_PROPERTY_NAME = "cucumber.java8.rebind-glue";
+
+    private Constants() {
+
+    }
+}
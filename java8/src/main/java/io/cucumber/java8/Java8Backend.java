@@ -23,19 +23,27 @@ final class Java8Backend implements Backend {
     private final Lookup lookup;
     private final Container container;
     private final ClassFinder classFinder;
+    private final boolean rebindGlue;
 
     private List<Class<? extends LambdaGlue>> lambdaGlueClasses = new ArrayList<>();
     private Glue glue;
+    private RebindingLambdaGlueRegistry rebindingGlue;
 
     Java8Backend(Lookup lookup, Container container, ResourceLoader resourceLoader) {
+        this(lookup, container, resourceLoader, false);
+    }
+
+    Java8Backend(Lookup lookup, Container container, ResourceLoader resourceLoader, boolean rebindGlue) {
         this.classFinder = new ResourceLoaderClassFinder(resourceLoader, currentThread().getContextClassLoader());
         this.container = container;
         this.lookup = lookup;
+        this.rebindGlue = rebindGlue;
     }
 
     @Override
     public void loadGlue(Glue glue, List<URI> gluePaths) {
         this.glue = glue;
+        this.rebindingGlue = rebindGlue ? new RebindingLambdaGlueRegistry(glue) : null;
         // Scan for Java8 style glue (lambdas)
         gluePaths.stream()
             .map(packageName -> classFinder.getDescendants(LambdaGlue.class, packageName))
@@ -51,16 +59,27 @@ final class Java8Backend implements Backend {
 
     @Override
     public void buildWorld() {
+        if (rebindingGlue != null) {
+            rebindingGlue.startScenario();
+            LambdaGlueRegistry.INSTANCE.set(rebindingGlue);
+        } else {
+            LambdaGlueRegistry.INSTANCE.set(new GlueAdaptor(glue));
+        }
         // Instantiate all the stepdef classes for java8 - the stepdef will be initialised
         // in the constructor.
-        LambdaGlueRegistry.INSTANCE.set(new GlueAdaptor(glue));
         for (Class<? extends LambdaGlue> lambdaGlueClass : lambdaGlueClasses) {
             lookup.getInstance(lambdaGlueClass);
         }
+        if (rebindingGlue != null) {
+            rebindingGlue.verifyAllDefinitionsRebound();
+        }
     }
 
     @Override
     public void disposeWorld() {
+        if (rebindingGlue != null) {
+            rebindingGlue.disposeScenario();
+        }
         LambdaGlueRegistry.INSTANCE.remove();
     }
 
@@ -5,12 +5,15 @@ import io.cucumber.core.backend.BackendProviderService;
 import io.cucumber.core.backend.Container;
 import io.cucumber.core.backend.Lookup;
 import io.cucumber.core.io.ResourceLoader;
-import io.cucumber.core.stepexpression.TypeRegistry;
+import io.cucumber.core.options.CucumberProperties;
+
+import static io.cucumber.java8.Constants.JAVA8_REBIND_GLUE_PROPERTY_NAME;
 
 public final class Java8BackendProviderService implements BackendProviderService {
 
     @Override
     public Backend create(Lookup lookup, Container container, ResourceLoader resourceLoader) {
-        return new Java8Backend(lookup, container, resourceLoader);
+        boolean rebindGlue = Boolean.parseBoolean(CucumberProperties.create().get(JAVA8_REBIND_GLUE_PROPERTY_NAME));
+        return new Java8Backend(lookup, container, resourceLoader, rebindGlue);
     }
 }
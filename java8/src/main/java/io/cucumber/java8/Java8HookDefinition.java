@@ -9,23 +9,44 @@ import io.cucumber.core.runtime.Invoker;
 import java.util.Collection;
 
 final class Java8HookDefinition extends AbstractGlueDefinition implements HookDefinition {
+    private final String tagExpressions;
     private final TagPredicate tagPredicate;
     private final int order;
     private final long timeoutMillis;
 
-    private Java8HookDefinition(String tagExpressions, int order, long timeoutMillis, Object body) {
-        super(body, new Exception().getStackTrace()[3]);
+    private Java8HookDefinition(String tagExpressions, int order, long timeoutMillis, Object body, LambdaBodyClass lambdaBodyClass, StackTraceElement location) {
+        super(body, lambdaBodyClass.getAcceptMethod(), location);
+        this.tagExpressions = tagExpressions;
         this.order = order;
         this.timeoutMillis = timeoutMillis;
         this.tagPredicate = new TagPredicate(tagExpressions);
     }
 
-    Java8HookDefinition(String tagExpressions, int order, long timeoutMillis, HookBody hookBody) {
-        this(tagExpressions, order, timeoutMillis, (Object) hookBody);
+    static Java8HookDefinition create(String tagExpressions, int order, long timeoutMillis, HookBody hookBody) {
+        return create(tagExpressions, order, timeoutMillis, (Object) hookBody);
     }
 
-    Java8HookDefinition(String tagExpressions, int order, long timeoutMillis, HookNoArgsBody hookNoArgsBody) {
-        this(tagExpressions, order, timeoutMillis, (Object) hookNoArgsBody);
+    static Java8HookDefinition create(String tagExpressions, int order, long timeoutMillis, HookNoArgsBody hookNoArgsBody) {
+        return create(tagExpressions, order, timeoutMillis, (Object) hookNoArgsBody);
+    }
+
+    private static Java8HookDefinition create(String tagExpressions, int order, long timeoutMillis, Object body) {
+        LambdaGlueRegistry registry = LambdaGlueRegistry.INSTANCE.get();
+        if (registry != null) {
+            String key = rebindKey(body.getClass(), tagExpressions, order, timeoutMillis);
+            Java8HookDefinition rebound = registry.rebind(Java8HookDefinition.class, key, body);
+            if (rebound != null) {
+                return rebound;
+            }
+        }
+        // Called from the other create methods which are called from LambdaGlue which is called from the glue class
+        LambdaBodyClass lambdaBodyClass = LambdaBodyClass.of(body.getClass());
+        StackTraceElement location = lambdaBodyClass.getLocation(3);
+        return new Java8HookDefinition(tagExpressions, order, timeoutMillis, body, lambdaBodyClass, location);
+    }
+
+    private static String rebindKey(Class<?> bodyClass, String tagExpressions, int order, long timeoutMillis) {
+        return "hook:" + bodyClass.getName() + ":" + order + ":" + timeoutMillis + ":" + tagExpressions;
     }
 
     @Override
@@ -49,4 +70,9 @@ final class Java8HookDefinition extends AbstractGlueDefinition implements HookDe
         return order;
     }
 
+    @Override
+    String rebindKey() {
+        return rebindKey(method.getDeclaringClass(), tagExpressions, order, timeoutMillis);
+    }
+
 }
@@ -4,36 +4,60 @@ import io.cucumber.core.backend.ParameterInfo;
 import io.cucumber.core.backend.StepDefinition;
 import io.cucumber.core.runtime.Invoker;
 
-import java.lang.reflect.Type;
-import java.util.ArrayList;
 import java.util.List;
 
-import static net.jodah.typetools.TypeResolver.resolveRawArguments;
-
 final class Java8StepDefinition extends AbstractGlueDefinition implements StepDefinition {
 
     public static <T extends StepdefBody> Java8StepDefinition create(
         String expression, Class<T> bodyClass, T body) {
-        return new Java8StepDefinition(expression, 0, bodyClass, body);
+        Java8StepDefinition rebound = rebind(expression, 0, body);
+        if (rebound != null) {
+            return rebound;
+        }
+        return create(expression, 0, bodyClass, body, LambdaBodyClass.of(body.getClass()));
     }
 
     public static <T extends StepdefBody> StepDefinition create(
         String expression, long timeoutMillis, Class<T> bodyClass, T body) {
-        return new Java8StepDefinition(expression, timeoutMillis, bodyClass, body);
+        Java8StepDefinition rebound = rebind(expression, timeoutMillis, body);
+        if (rebound != null) {
+            return rebound;
+        }
+        return create(expression, timeoutMillis, bodyClass, body, LambdaBodyClass.of(body.getClass()));
+    }
+
+    private static Java8StepDefinition create(String expression, long timeoutMillis, Class<?> bodyClass, Object body, LambdaBodyClass lambdaBodyClass) {
+        // The public create methods are called from LambdaGlue which is called from the glue class
+        StackTraceElement location = lambdaBodyClass.getLocation(3);
+        return new Java8StepDefinition(expression, timeoutMillis, bodyClass, body, lambdaBodyClass, location);
+    }
+
+    private static Java8StepDefinition rebind(String expression, long timeoutMillis, Object body) {
+        LambdaGlueRegistry registry = LambdaGlueRegistry.INSTANCE.get();
+        if (registry == null) {
+            return null;
+        }
+        return registry.rebind(Java8StepDefinition.class, rebindKey(body.getClass(), expression, timeoutMillis), body);
+    }
+
+    private static String rebindKey(Class<?> bodyClass, String expression, long timeoutMillis) {
+        return "step:" + bodyClass.getName() + ":" + timeoutMillis + ":" + expression;
     }
 
     private final long timeoutMillis;
     private final List<ParameterInfo> parameterInfos;
     private final String expression;
 
-    private <T extends StepdefBody> Java8StepDefinition(String expression,
-                                                        long timeoutMillis,
-                                                        Class<T> bodyClass,
-                                                        T body) {
-        super(body, new Exception().getStackTrace()[3]);
+    private Java8StepDefinition(String expression,
+                                long timeoutMillis,
+                                Class<?> bodyClass,
+                                Object body,
+                                LambdaBodyClass lambdaBodyClass,
+                                StackTraceElement location) {
+        super(body, lambdaBodyClass.getAcceptMethod(), location);
         this.timeoutMillis = timeoutMillis;
         this.expression = expression;
-        this.parameterInfos = fromTypes(expression, location, resolveRawArguments(bodyClass, body.getClass()));
+        this.parameterInfos = lambdaBodyClass.getParameterInfos(bodyClass, expression, location);
     }
 
     @Override
@@ -51,13 +75,9 @@ final class Java8StepDefinition extends AbstractGlueDefinition implements StepDe
         return expression;
     }
 
-    private static List<ParameterInfo> fromTypes(String expression, StackTraceElement location, Type[] genericParameterTypes) {
-        List<ParameterInfo> result = new ArrayList<>();
-        for (Type type : genericParameterTypes) {
-            LambdaTypeResolver typeResolver = new LambdaTypeResolver(type, expression, location);
-            result.add(new Java8ParameterInfo(type, typeResolver));
-        }
-        return result;
+    @Override
+    String rebindKey() {
+        return rebindKey(method.getDeclaringClass(), expression, timeoutMillis);
     }
 
 }
@@ -0,0 +1,143 @@
+package io.cucumber.java8;
+
+import io.cucumber.core.backend.ParameterInfo;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.lang.String.format;
+import static java.util.Collections.unmodifiableList;
+import static net.jodah.typetools.TypeResolver.resolveRawArguments;
+
+/**
+ * Reflective information about the class of a lambda body.
+ * <p>
+ * Lambda glue is registered again for every scenario, but each registration
+ * of the same lambda uses the same class. Caching this information per class
+ * avoids walking the stack and resolving the lambda's parameter types for
+ * every scenario. The cache is a {@link ClassValue} so it does not prevent
+ * glue classes from being unloaded.
+ */
+final class LambdaBodyClass {
+
+    private static final ClassValue<LambdaBodyClass> CACHE = new ClassValue<LambdaBodyClass>() {
+        @Override
+        protected LambdaBodyClass computeValue(Class<?> type) {
+            return new LambdaBodyClass(type);
+        }
+    };
+
+    private final Class<?> type;
+    private final Method acceptMethod;
+    /*
+     * Lambdas and anonymous classes are declared in a single place so their
+     * location can be cached. Other classes may be instantiated anywhere.
+     */
+    private final boolean declaredOnce;
+
+    private volatile StackTraceElement location;
+    private volatile Type[] parameterTypes;
+    private volatile ParameterInfos parameterInfos;
+
+    private LambdaBodyClass(Class<?> type) {
+        this.type = type;
+        this.acceptMethod = getAcceptMethod(type);
+        this.declaredOnce = type.isSynthetic() || type.isAnonymousClass();
+    }
+
+    static LambdaBodyClass of(Class<?> type) {
+        return CACHE.get(type);
+    }
+
+    /**
+     * Returns a copy of the accept method. {@link io.cucumber.core.runtime.Invoker}
+     * changes the accessibility of the method it invokes so each definition
+     * needs its own copy to be used safely from multiple threads.
+     */
+    Method getAcceptMethod() {
+        try {
+            return type.getDeclaredMethod(acceptMethod.getName(), acceptMethod.getParameterTypes());
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Returns the location where the lambda was declared.
+     *
+     * @param callerDepth index in the stack of the caller of the frame that
+     *                    declared the lambda
+     * @return the location where the lambda was declared
+     */
+    StackTraceElement getLocation(int callerDepth) {
+        StackTraceElement location = this.location;
+        if (location != null) {
+            return location;
+        }
+        location = new Exception().getStackTrace()[callerDepth + 1];
+        if (declaredOnce) {
+            this.location = location;
+        }
+        return location;
+    }
+
+    List<ParameterInfo> getParameterInfos(Class<?> bodyInterface, String expression, StackTraceElement location) {
+        ParameterInfos parameterInfos = this.parameterInfos;
+        if (parameterInfos != null && parameterInfos.isFor(expression, location)) {
+            return parameterInfos.parameterInfos;
+        }
+        Type[] parameterTypes = this.parameterTypes;
+        if (parameterTypes == null) {
+            parameterTypes = resolveRawArguments(bodyInterface, type);
+            this.parameterTypes = parameterTypes;
+        }
+        parameterInfos = new ParameterInfos(expression, location, fromTypes(expression, location, parameterTypes));
+        this.parameterInfos = parameterInfos;
+        return parameterInfos.parameterInfos;
+    }
+
+    private static List<ParameterInfo> fromTypes(String expression, StackTraceElement location, Type[] genericParameterTypes) {
+        List<ParameterInfo> result = new ArrayList<>();
+        for (Type type : genericParameterTypes) {
+            LambdaTypeResolver typeResolver = new LambdaTypeResolver(type, expression, location);
+            result.add(new Java8ParameterInfo(type, typeResolver));
+        }
+        return unmodifiableList(result);
+    }
+
+    private static Method getAcceptMethod(Class<?> bodyClass) {
+        List<Method> acceptMethods = new ArrayList<>();
+        for (Method method : bodyClass.getDeclaredMethods()) {
+            if (!method.isBridge() && !method.isSynthetic() && "accept".equals(method.getName())) {
+                acceptMethods.add(method);
+            }
+        }
+        if (acceptMethods.size() != 1) {
+            throw new IllegalStateException(format(
+                "Expected single 'accept' method on body class, found '%s'", acceptMethods));
+        }
+        return acceptMethods.get(0);
+    }
+
+    /**
+     * Parameter infos are immutable and can be shared by all step definitions
+     * created from the same lambda with the same expression.
+     */
+    private static final class ParameterInfos {
+        private final String expression;
+        private final StackTraceElement location;
+        private final List<ParameterInfo> parameterInfos;
+
+        private ParameterInfos(String expression, StackTraceElement location, List<ParameterInfo> parameterInfos) {
+            this.expression = expression;
+            this.location = location;
+            this.parameterInfos = parameterInfos;
+        }
+
+        private boolean isFor(String expression, StackTraceElement location) {
+            return this.expression.equals(expression) && this.location.equals(location);
+        }
+    }
+}
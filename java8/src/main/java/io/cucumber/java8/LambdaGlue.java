@@ -16,7 +16,7 @@ public interface LambdaGlue {
      * @param body lambda to execute, takes {@link io.cucumber.core.api.Scenario} as an argument
      */
     default void Before(final HookBody body) {
-        LambdaGlueRegistry.INSTANCE.get().addBeforeHookDefinition(new Java8HookDefinition(EMPTY_TAG_EXPRESSIONS, DEFAULT_BEFORE_ORDER, NO_TIMEOUT, body));
+        LambdaGlueRegistry.INSTANCE.get().addBeforeHookDefinition(Java8HookDefinition.create(EMPTY_TAG_EXPRESSIONS, DEFAULT_BEFORE_ORDER, NO_TIMEOUT, body));
     }
 
     /**
@@ -26,7 +26,7 @@ public interface LambdaGlue {
      * @param body          lambda to execute, takes {@link io.cucumber.core.api.Scenario} as an argument
      */
     default void Before(String tagExpression, final HookBody body) {
-        LambdaGlueRegistry.INSTANCE.get().addBeforeHookDefinition(new Java8HookDefinition(tagExpression, DEFAULT_BEFORE_ORDER, NO_TIMEOUT, body));
+        LambdaGlueRegistry.INSTANCE.get().addBeforeHookDefinition(Java8HookDefinition.create(tagExpression, DEFAULT_BEFORE_ORDER, NO_TIMEOUT, body));
     }
 
     /**
@@ -36,7 +36,7 @@ public interface LambdaGlue {
      * @param body          lambda to execute, takes {@link io.cucumber.core.api.Scenario} as an argument
      */
     default void Before(long timeoutMillis, final HookBody body) {
-        LambdaGlueRegistry.INSTANCE.get().addBeforeHookDefinition(new Java8HookDefinition(EMPTY_TAG_EXPRESSIONS, DEFAULT_BEFORE_ORDER, timeoutMillis, body));
+        LambdaGlueRegistry.INSTANCE.get().addBeforeHookDefinition(Java8HookDefinition.create(EMPTY_TAG_EXPRESSIONS, DEFAULT_BEFORE_ORDER, timeoutMillis, body));
     }
 
     /**
@@ -46,7 +46,7 @@ public interface LambdaGlue {
      * @param body  lambda to execute, takes {@link io.cucumber.core.api.Scenario} as an argument
      */
     default void Before(int order, final HookBody body) {
-        LambdaGlueRegistry.INSTANCE.get().addBeforeHookDefinition(new Java8HookDefinition(EMPTY_TAG_EXPRESSIONS, order, NO_TIMEOUT, body));
+        LambdaGlueRegistry.INSTANCE.get().addBeforeHookDefinition(Java8HookDefinition.create(EMPTY_TAG_EXPRESSIONS, order, NO_TIMEOUT, body));
     }
 
     /**
@@ -58,7 +58,7 @@ public interface LambdaGlue {
      * @param body          lambda to execute, takes {@link io.cucumber.core.api.Scenario} as an argument
      */
     default void Before(String tagExpression, long timeoutMillis, int order, final HookBody body) {
-        LambdaGlueRegistry.INSTANCE.get().addBeforeHookDefinition(new Java8HookDefinition(tagExpression, order, timeoutMillis, body));
+        LambdaGlueRegistry.INSTANCE.get().addBeforeHookDefinition(Java8HookDefinition.create(tagExpression, order, timeoutMillis, body));
     }
 
     /**
@@ -67,7 +67,7 @@ public interface LambdaGlue {
      * @param body lambda to execute, takes {@link io.cucumber.core.api.Scenario} as an argument
      */
     default void Before(final HookNoArgsBody body) {
-        LambdaGlueRegistry.INSTANCE.get().addBeforeHookDefinition(new Java8HookDefinition(EMPTY_TAG_EXPRESSIONS, DEFAULT_BEFORE_ORDER, NO_TIMEOUT, body));
+        LambdaGlueRegistry.INSTANCE.get().addBeforeHookDefinition(Java8HookDefinition.create(EMPTY_TAG_EXPRESSIONS, DEFAULT_BEFORE_ORDER, NO_TIMEOUT, body));
     }
 
     /**
@@ -77,7 +77,7 @@ public interface LambdaGlue {
      * @param body          lambda to execute
      */
     default void Before(String tagExpression, final HookNoArgsBody body) {
-        LambdaGlueRegistry.INSTANCE.get().addBeforeHookDefinition(new Java8HookDefinition(tagExpression, DEFAULT_BEFORE_ORDER, NO_TIMEOUT, body));
+        LambdaGlueRegistry.INSTANCE.get().addBeforeHookDefinition(Java8HookDefinition.create(tagExpression, DEFAULT_BEFORE_ORDER, NO_TIMEOUT, body));
     }
 
     /**
@@ -87,7 +87,7 @@ public interface LambdaGlue {
      * @param body          lambda to execute
      */
     default void Before(long timeoutMillis, final HookNoArgsBody body) {
-        LambdaGlueRegistry.INSTANCE.get().addBeforeHookDefinition(new Java8HookDefinition(EMPTY_TAG_EXPRESSIONS, DEFAULT_BEFORE_ORDER, timeoutMillis, body));
+        LambdaGlueRegistry.INSTANCE.get().addBeforeHookDefinition(Java8HookDefinition.create(EMPTY_TAG_EXPRESSIONS, DEFAULT_BEFORE_ORDER, timeoutMillis, body));
     }
 
     /**
@@ -97,7 +97,7 @@ public interface LambdaGlue {
      * @param body  lambda to execute
      */
     default void Before(int order, final HookNoArgsBody body) {
-        LambdaGlueRegistry.INSTANCE.get().addBeforeHookDefinition(new Java8HookDefinition(EMPTY_TAG_EXPRESSIONS, order, NO_TIMEOUT, body));
+        LambdaGlueRegistry.INSTANCE.get().addBeforeHookDefinition(Java8HookDefinition.create(EMPTY_TAG_EXPRESSIONS, order, NO_TIMEOUT, body));
     }
 
     /**
@@ -109,7 +109,7 @@ public interface LambdaGlue {
      * @param body          lambda to execute
      */
     default void Before(String tagExpression, long timeoutMillis, int order, final HookNoArgsBody body) {
-        LambdaGlueRegistry.INSTANCE.get().addBeforeHookDefinition(new Java8HookDefinition(tagExpression, order, timeoutMillis, body));
+        LambdaGlueRegistry.INSTANCE.get().addBeforeHookDefinition(Java8HookDefinition.create(tagExpression, order, timeoutMillis, body));
     }
 
     /**
@@ -118,7 +118,7 @@ public interface LambdaGlue {
      * @param body lambda to execute, takes {@link io.cucumber.core.api.Scenario} as an argument
      */
     default void BeforeStep(final HookBody body) {
-        LambdaGlueRegistry.INSTANCE.get().addBeforeStepHookDefinition(new Java8HookDefinition(EMPTY_TAG_EXPRESSIONS, DEFAULT_BEFORE_ORDER, NO_TIMEOUT, body));
+        LambdaGlueRegistry.INSTANCE.get().addBeforeStepHookDefinition(Java8HookDefinition.create(EMPTY_TAG_EXPRESSIONS, DEFAULT_BEFORE_ORDER, NO_TIMEOUT, body));
     }
 
     /**
@@ -128,7 +128,7 @@ public interface LambdaGlue {
      * @param body          lambda to execute, takes {@link io.cucumber.core.api.Scenario} as an argument
      */
     default void BeforeStep(String tagExpression, final HookBody body) {
-        LambdaGlueRegistry.INSTANCE.get().addBeforeStepHookDefinition(new Java8HookDefinition(tagExpression, DEFAULT_BEFORE_ORDER, NO_TIMEOUT, body));
+        LambdaGlueRegistry.INSTANCE.get().addBeforeStepHookDefinition(Java8HookDefinition.create(tagExpression, DEFAULT_BEFORE_ORDER, NO_TIMEOUT, body));
     }
 
     /**
@@ -138,7 +138,7 @@ public interface LambdaGlue {
      * @param body          lambda to execute, takes {@link io.cucumber.core.api.Scenario} as an argument
      */
     default void BeforeStep(long timeoutMillis, final HookBody body) {
-        LambdaGlueRegistry.INSTANCE.get().addBeforeStepHookDefinition(new Java8HookDefinition(EMPTY_TAG_EXPRESSIONS, DEFAULT_BEFORE_ORDER, timeoutMillis, body));
+        LambdaGlueRegistry.INSTANCE.get().addBeforeStepHookDefinition(Java8HookDefinition.create(EMPTY_TAG_EXPRESSIONS, DEFAULT_BEFORE_ORDER, timeoutMillis, body));
     }
 
     /**
@@ -148,7 +148,7 @@ public interface LambdaGlue {
      * @param body  lambda to execute, takes {@link io.cucumber.core.api.Scenario} as an argument
      */
     default void BeforeStep(int order, final HookBody body) {
-        LambdaGlueRegistry.INSTANCE.get().addBeforeStepHookDefinition(new Java8HookDefinition(EMPTY_TAG_EXPRESSIONS, order, NO_TIMEOUT, body));
+        LambdaGlueRegistry.INSTANCE.get().addBeforeStepHookDefinition(Java8HookDefinition.create(EMPTY_TAG_EXPRESSIONS, order, NO_TIMEOUT, body));
     }
 
     /**
@@ -160,7 +160,7 @@ public interface LambdaGlue {
      * @param body          lambda to execute, takes {@link io.cucumber.core.api.Scenario} as an argument
      */
     default void BeforeStep(String tagExpression, long timeoutMillis, int order, final HookBody body) {
-        LambdaGlueRegistry.INSTANCE.get().addBeforeStepHookDefinition(new Java8HookDefinition(tagExpression, order, timeoutMillis, body));
+        LambdaGlueRegistry.INSTANCE.get().addBeforeStepHookDefinition(Java8HookDefinition.create(tagExpression, order, timeoutMillis, body));
     }
 
     /**
@@ -169,7 +169,7 @@ public interface LambdaGlue {
      * @param body lambda to execute
      */
     default void BeforeStep(final HookNoArgsBody body) {
-        LambdaGlueRegistry.INSTANCE.get().addBeforeStepHookDefinition(new Java8HookDefinition(EMPTY_TAG_EXPRESSIONS, DEFAULT_BEFORE_ORDER, NO_TIMEOUT, body));
+        LambdaGlueRegistry.INSTANCE.get().addBeforeStepHookDefinition(Java8HookDefinition.create(EMPTY_TAG_EXPRESSIONS, DEFAULT_BEFORE_ORDER, NO_TIMEOUT, body));
     }
 
 
@@ -180,7 +180,7 @@ public interface LambdaGlue {
      * @param body          lambda to execute
      */
     default void BeforeStep(String tagExpression, final HookNoArgsBody body) {
-        LambdaGlueRegistry.INSTANCE.get().addBeforeStepHookDefinition(new Java8HookDefinition(tagExpression, DEFAULT_BEFORE_ORDER, NO_TIMEOUT, body));
+        LambdaGlueRegistry.INSTANCE.get().addBeforeStepHookDefinition(Java8HookDefinition.create(tagExpression, DEFAULT_BEFORE_ORDER, NO_TIMEOUT, body));
     }
 
 
@@ -191,7 +191,7 @@ public interface LambdaGlue {
      * @param body          lambda to execute
      */
     default void BeforeStep(long timeoutMillis, final HookNoArgsBody body) {
-        LambdaGlueRegistry.INSTANCE.get().addBeforeStepHookDefinition(new Java8HookDefinition(EMPTY_TAG_EXPRESSIONS, DEFAULT_BEFORE_ORDER, timeoutMillis, body));
+        LambdaGlueRegistry.INSTANCE.get().addBeforeStepHookDefinition(Java8HookDefinition.create(EMPTY_TAG_EXPRESSIONS, DEFAULT_BEFORE_ORDER, timeoutMillis, body));
     }
 
     /**
@@ -201,7 +201,7 @@ public interface LambdaGlue {
      * @param body  lambda to execute
      */
     default void BeforeStep(int order, final HookNoArgsBody body) {
-        LambdaGlueRegistry.INSTANCE.get().addBeforeStepHookDefinition(new Java8HookDefinition(EMPTY_TAG_EXPRESSIONS, order, NO_TIMEOUT, body));
+        LambdaGlueRegistry.INSTANCE.get().addBeforeStepHookDefinition(Java8HookDefinition.create(EMPTY_TAG_EXPRESSIONS, order, NO_TIMEOUT, body));
     }
 
     /**
@@ -213,7 +213,7 @@ public interface LambdaGlue {
      * @param body          lambda to execute
      */
     default void BeforeStep(String tagExpression, long timeoutMillis, int order, final HookNoArgsBody body) {
-        LambdaGlueRegistry.INSTANCE.get().addBeforeStepHookDefinition(new Java8HookDefinition(tagExpression, order, timeoutMillis, body));
+        LambdaGlueRegistry.INSTANCE.get().addBeforeStepHookDefinition(Java8HookDefinition.create(tagExpression, order, timeoutMillis, body));
     }
 
     /**
@@ -222,7 +222,7 @@ public interface LambdaGlue {
      * @param body lambda to execute, takes {@link io.cucumber.core.api.Scenario} as an argument
      */
     default void After(final HookBody body) {
-        LambdaGlueRegistry.INSTANCE.get().addAfterHookDefinition(new Java8HookDefinition(EMPTY_TAG_EXPRESSIONS, DEFAULT_AFTER_ORDER, NO_TIMEOUT, body));
+        LambdaGlueRegistry.INSTANCE.get().addAfterHookDefinition(Java8HookDefinition.create(EMPTY_TAG_EXPRESSIONS, DEFAULT_AFTER_ORDER, NO_TIMEOUT, body));
     }
 
     /**
@@ -232,7 +232,7 @@ public interface LambdaGlue {
      * @param body          lambda to execute, takes {@link io.cucumber.core.api.Scenario} as an argument
      */
     default void After(String tagExpression, final HookBody body) {
-        LambdaGlueRegistry.INSTANCE.get().addAfterHookDefinition(new Java8HookDefinition(tagExpression, DEFAULT_AFTER_ORDER, NO_TIMEOUT, body));
+        LambdaGlueRegistry.INSTANCE.get().addAfterHookDefinition(Java8HookDefinition.create(tagExpression, DEFAULT_AFTER_ORDER, NO_TIMEOUT, body));
     }
 
     /**
@@ -242,7 +242,7 @@ public interface LambdaGlue {
      * @param body          lambda to execute, takes {@link io.cucumber.core.api.Scenario} as an argument
      */
     default void After(long timeoutMillis, final HookBody body) {
-        LambdaGlueRegistry.INSTANCE.get().addAfterHookDefinition(new Java8HookDefinition(EMPTY_TAG_EXPRESSIONS, DEFAULT_AFTER_ORDER, timeoutMillis, body));
+        LambdaGlueRegistry.INSTANCE.get().addAfterHookDefinition(Java8HookDefinition.create(EMPTY_TAG_EXPRESSIONS, DEFAULT_AFTER_ORDER, timeoutMillis, body));
     }
 
     /**
@@ -252,7 +252,7 @@ public interface LambdaGlue {
      * @param body  lambda to execute, takes {@link io.cucumber.core.api.Scenario} as an argument
      */
     default void After(int order, final HookBody body) {
-        LambdaGlueRegistry.INSTANCE.get().addAfterHookDefinition(new Java8HookDefinition(EMPTY_TAG_EXPRESSIONS, order, NO_TIMEOUT, body));
+        LambdaGlueRegistry.INSTANCE.get().addAfterHookDefinition(Java8HookDefinition.create(EMPTY_TAG_EXPRESSIONS, order, NO_TIMEOUT, body));
     }
 
     /**
@@ -264,7 +264,7 @@ public interface LambdaGlue {
      * @param body          lambda to execute, takes {@link io.cucumber.core.api.Scenario} as an argument
      */
     default void After(String tagExpression, long timeoutMillis, int order, final HookBody body) {
-        LambdaGlueRegistry.INSTANCE.get().addAfterHookDefinition(new Java8HookDefinition(tagExpression, order, timeoutMillis, body));
+        LambdaGlueRegistry.INSTANCE.get().addAfterHookDefinition(Java8HookDefinition.create(tagExpression, order, timeoutMillis, body));
     }
 
     /**
@@ -273,7 +273,7 @@ public interface LambdaGlue {
      * @param body lambda to execute
      */
     default void After(final HookNoArgsBody body) {
-        LambdaGlueRegistry.INSTANCE.get().addAfterHookDefinition(new Java8HookDefinition(EMPTY_TAG_EXPRESSIONS, DEFAULT_AFTER_ORDER, NO_TIMEOUT, body));
+        LambdaGlueRegistry.INSTANCE.get().addAfterHookDefinition(Java8HookDefinition.create(EMPTY_TAG_EXPRESSIONS, DEFAULT_AFTER_ORDER, NO_TIMEOUT, body));
     }
 
     /**
@@ -283,7 +283,7 @@ public interface LambdaGlue {
      * @param body          lambda to execute
      */
     default void After(String tagExpression, final HookNoArgsBody body) {
-        LambdaGlueRegistry.INSTANCE.get().addAfterHookDefinition(new Java8HookDefinition(tagExpression, DEFAULT_AFTER_ORDER, NO_TIMEOUT, body));
+        LambdaGlueRegistry.INSTANCE.get().addAfterHookDefinition(Java8HookDefinition.create(tagExpression, DEFAULT_AFTER_ORDER, NO_TIMEOUT, body));
     }
 
     /**
@@ -293,7 +293,7 @@ public interface LambdaGlue {
      * @param body          lambda to execute
      */
     default void After(long timeoutMillis, final HookNoArgsBody body) {
-        LambdaGlueRegistry.INSTANCE.get().addAfterHookDefinition(new Java8HookDefinition(EMPTY_TAG_EXPRESSIONS, DEFAULT_AFTER_ORDER, timeoutMillis, body));
+        LambdaGlueRegistry.INSTANCE.get().addAfterHookDefinition(Java8HookDefinition.create(EMPTY_TAG_EXPRESSIONS, DEFAULT_AFTER_ORDER, timeoutMillis, body));
     }
 
     /**
@@ -303,7 +303,7 @@ public interface LambdaGlue {
      * @param body  lambda to execute
      */
     default void After(int order, final HookNoArgsBody body) {
-        LambdaGlueRegistry.INSTANCE.get().addAfterHookDefinition(new Java8HookDefinition(EMPTY_TAG_EXPRESSIONS, order, NO_TIMEOUT, body));
+        LambdaGlueRegistry.INSTANCE.get().addAfterHookDefinition(Java8HookDefinition.create(EMPTY_TAG_EXPRESSIONS, order, NO_TIMEOUT, body));
     }
 
     /**
@@ -315,7 +315,7 @@ public interface LambdaGlue {
      * @param body          lambda to execute
      */
     default void After(String tagExpression, long timeoutMillis, int order, final HookNoArgsBody body) {
-        LambdaGlueRegistry.INSTANCE.get().addAfterHookDefinition(new Java8HookDefinition(tagExpression, order, timeoutMillis, body));
+        LambdaGlueRegistry.INSTANCE.get().addAfterHookDefinition(Java8HookDefinition.create(tagExpression, order, timeoutMillis, body));
     }
 
     /**
@@ -324,7 +324,7 @@ public interface LambdaGlue {
      * @param body lambda to execute, takes {@link io.cucumber.core.api.Scenario} as an argument
      */
     default void AfterStep(final HookBody body) {
-        LambdaGlueRegistry.INSTANCE.get().addAfterStepHookDefinition(new Java8HookDefinition(EMPTY_TAG_EXPRESSIONS, DEFAULT_AFTER_ORDER, NO_TIMEOUT, body));
+        LambdaGlueRegistry.INSTANCE.get().addAfterStepHookDefinition(Java8HookDefinition.create(EMPTY_TAG_EXPRESSIONS, DEFAULT_AFTER_ORDER, NO_TIMEOUT, body));
     }
 
     /**
@@ -334,7 +334,7 @@ public interface LambdaGlue {
      * @param body          lambda to execute, takes {@link io.cucumber.core.api.Scenario} as an argument
      */
     default void AfterStep(String tagExpression, final HookBody body) {
-        LambdaGlueRegistry.INSTANCE.get().addAfterStepHookDefinition(new Java8HookDefinition(tagExpression, DEFAULT_AFTER_ORDER, NO_TIMEOUT, body));
+        LambdaGlueRegistry.INSTANCE.get().addAfterStepHookDefinition(Java8HookDefinition.create(tagExpression, DEFAULT_AFTER_ORDER, NO_TIMEOUT, body));
     }
 
     /**
@@ -344,7 +344,7 @@ public interface LambdaGlue {
      * @param body          lambda to execute, takes {@link io.cucumber.core.api.Scenario} as an argument
      */
     default void AfterStep(long timeoutMillis, final HookBody body) {
-        LambdaGlueRegistry.INSTANCE.get().addAfterStepHookDefinition(new Java8HookDefinition(EMPTY_TAG_EXPRESSIONS, DEFAULT_AFTER_ORDER, timeoutMillis, body));
+        LambdaGlueRegistry.INSTANCE.get().addAfterStepHookDefinition(Java8HookDefinition.create(EMPTY_TAG_EXPRESSIONS, DEFAULT_AFTER_ORDER, timeoutMillis, body));
     }
 
     /**
@@ -354,7 +354,7 @@ public interface LambdaGlue {
      * @param body  lambda to execute, takes {@link io.cucumber.core.api.Scenario} as an argument
      */
     default void AfterStep(int order, final HookBody body) {
-        LambdaGlueRegistry.INSTANCE.get().addAfterStepHookDefinition(new Java8HookDefinition(EMPTY_TAG_EXPRESSIONS, order, NO_TIMEOUT, body));
+        LambdaGlueRegistry.INSTANCE.get().addAfterStepHookDefinition(Java8HookDefinition.create(EMPTY_TAG_EXPRESSIONS, order, NO_TIMEOUT, body));
     }
 
     /**
@@ -366,7 +366,7 @@ public interface LambdaGlue {
      * @param body          lambda to execute, takes {@link io.cucumber.core.api.Scenario} as an argument
      */
     default void AfterStep(String tagExpression, long timeoutMillis, int order, final HookBody body) {
-        LambdaGlueRegistry.INSTANCE.get().addAfterStepHookDefinition(new Java8HookDefinition(tagExpression, order, timeoutMillis, body));
+        LambdaGlueRegistry.INSTANCE.get().addAfterStepHookDefinition(Java8HookDefinition.create(tagExpression, order, timeoutMillis, body));
     }
 
     /**
@@ -375,7 +375,7 @@ public interface LambdaGlue {
      * @param body lambda to execute
      */
     default void AfterStep(final HookNoArgsBody body) {
-        LambdaGlueRegistry.INSTANCE.get().addAfterStepHookDefinition(new Java8HookDefinition(EMPTY_TAG_EXPRESSIONS, DEFAULT_AFTER_ORDER, NO_TIMEOUT, body));
+        LambdaGlueRegistry.INSTANCE.get().addAfterStepHookDefinition(Java8HookDefinition.create(EMPTY_TAG_EXPRESSIONS, DEFAULT_AFTER_ORDER, NO_TIMEOUT, body));
     }
 
     /**
@@ -385,7 +385,7 @@ public interface LambdaGlue {
      * @param body          lambda to execute
      */
     default void AfterStep(String tagExpression, final HookNoArgsBody body) {
-        LambdaGlueRegistry.INSTANCE.get().addAfterStepHookDefinition(new Java8HookDefinition(tagExpression, DEFAULT_AFTER_ORDER, NO_TIMEOUT, body));
+        LambdaGlueRegistry.INSTANCE.get().addAfterStepHookDefinition(Java8HookDefinition.create(tagExpression, DEFAULT_AFTER_ORDER, NO_TIMEOUT, body));
     }
 
     /**
@@ -395,7 +395,7 @@ public interface LambdaGlue {
      * @param body          lambda to execute
      */
     default void AfterStep(long timeoutMillis, final HookNoArgsBody body) {
-        LambdaGlueRegistry.INSTANCE.get().addAfterStepHookDefinition(new Java8HookDefinition(EMPTY_TAG_EXPRESSIONS, DEFAULT_AFTER_ORDER, timeoutMillis, body));
+        LambdaGlueRegistry.INSTANCE.get().addAfterStepHookDefinition(Java8HookDefinition.create(EMPTY_TAG_EXPRESSIONS, DEFAULT_AFTER_ORDER, timeoutMillis, body));
     }
 
     /**
@@ -405,7 +405,7 @@ public interface LambdaGlue {
      * @param body  lambda to execute
      */
     default void AfterStep(int order, final HookNoArgsBody body) {
-        LambdaGlueRegistry.INSTANCE.get().addAfterStepHookDefinition(new Java8HookDefinition(EMPTY_TAG_EXPRESSIONS, order, NO_TIMEOUT, body));
+        LambdaGlueRegistry.INSTANCE.get().addAfterStepHookDefinition(Java8HookDefinition.create(EMPTY_TAG_EXPRESSIONS, order, NO_TIMEOUT, body));
     }
 
     /**
@@ -417,7 +417,7 @@ public interface LambdaGlue {
      * @param body          lambda to execute
      */
     default void AfterStep(String tagExpression, long timeoutMillis, int order, final HookNoArgsBody body) {
-        LambdaGlueRegistry.INSTANCE.get().addAfterStepHookDefinition(new Java8HookDefinition(tagExpression, order, timeoutMillis, body));
+        LambdaGlueRegistry.INSTANCE.get().addAfterStepHookDefinition(Java8HookDefinition.create(tagExpression, order, timeoutMillis, body));
     }
 
 }
@@ -15,4 +15,18 @@ interface LambdaGlueRegistry {
     void addBeforeHookDefinition(HookDefinition beforeHook);
 
     void addAfterHookDefinition(HookDefinition afterHook);
+
+    /**
+     * Returns the definition created for the same lambda in an earlier
+     * scenario rebound to {@code body}.
+     *
+     * @param type the type of definition
+     * @param key  the key of the definition, see {@link AbstractGlueDefinition#rebindKey()}
+     * @param body the lambda for the current scenario
+     * @param <T>  the type of definition
+     * @return the rebound definition or null when a new definition must be created
+     */
+    default <T extends AbstractGlueDefinition> T rebind(Class<T> type, String key, Object body) {
+        return null;
+    }
 }
@@ -0,0 +1,204 @@
+package io.cucumber.java8;
+
+import gherkin.pickles.PickleTag;
+import io.cucumber.core.api.Scenario;
+import io.cucumber.core.backend.Glue;
+import io.cucumber.core.backend.HookDefinition;
+import io.cucumber.core.backend.ParameterInfo;
+import io.cucumber.core.backend.StepDefinition;
+import io.cucumber.core.exception.CucumberException;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import static java.util.stream.Collectors.joining;
+
+/**
+ * Registers each lambda step definition and hook with the glue once.
+ * <p>
+ * The first time a lambda is registered a definition is created and added to
+ * the glue. For each subsequent scenario the glue classes are instantiated
+ * again and the lambdas, which may close over scenario state, are rebound to
+ * the existing definitions. This avoids recreating the location and parameter
+ * types of each definition for every scenario.
+ * <p>
+ * Lambdas are identified by their class and the expression, tag expression,
+ * order and timeout they were registered with. The same lambda may be
+ * registered more than once per scenario, e.g. in a loop. These are rebound
+ * in order of registration.
+ */
+final class RebindingLambdaGlueRegistry implements LambdaGlueRegistry {
+
+    private final Glue glue;
+    private final Map<String, List<AbstractGlueDefinition>> definitionsByKey = new HashMap<>();
+    private final Map<String, Integer> registrationsByKey = new HashMap<>();
+    private final List<AbstractGlueDefinition> definitions = new ArrayList<>();
+
+    RebindingLambdaGlueRegistry(Glue glue) {
+        this.glue = glue;
+    }
+
+    void startScenario() {
+        registrationsByKey.clear();
+    }
+
+    void verifyAllDefinitionsRebound() {
+        List<AbstractGlueDefinition> unbound = new ArrayList<>();
+        for (AbstractGlueDefinition definition : definitions) {
+            if (!definition.isBound()) {
+                unbound.add(definition);
+            }
+        }
+        if (unbound.isEmpty()) {
+            return;
+        }
+        throw new CucumberException("" +
+            "The lambda glue defined at " +
+            unbound.stream().map(definition -> definition.getLocation(false)).collect(joining(", ")) +
+            " was registered in an earlier scenario but not in this scenario. " +
+            "When rebinding lambda glue, glue classes must register the same step definitions and hooks for every scenario."
+        );
+    }
+
+    void disposeScenario() {
+        definitions.forEach(AbstractGlueDefinition::disposeScenarioScope);
+    }
+
+    @Override
+    public <T extends AbstractGlueDefinition> T rebind(Class<T> type, String key, Object body) {
+        List<AbstractGlueDefinition> candidates = definitionsByKey.get(key);
+        int registrations = registrationsByKey.getOrDefault(key, 0);
+        if (candidates == null || registrations >= candidates.size()) {
+            return null;
+        }
+        registrationsByKey.put(key, registrations + 1);
+        AbstractGlueDefinition definition = candidates.get(registrations);
+        definition.rebind(body);
+        return type.cast(definition);
+    }
+
+    @Override
+    public void addStepDefinition(StepDefinition stepDefinition) {
+        register(stepDefinition, definition -> glue.addStepDefinition(new RegisteredStepDefinition((Java8StepDefinition) definition)));
+    }
+
+    @Override
+    public void addBeforeStepHookDefinition(HookDefinition beforeStepHook) {
+        register(beforeStepHook, definition -> glue.addBeforeStepHook(new RegisteredHookDefinition((Java8HookDefinition) definition)));
+    }
+
+    @Override
+    public void addAfterStepHookDefinition(HookDefinition afterStepHook) {
+        register(afterStepHook, definition -> glue.addAfterStepHook(new RegisteredHookDefinition((Java8HookDefinition) definition)));
+    }
+
+    @Override
+    public void addBeforeHookDefinition(HookDefinition beforeHook) {
+        register(beforeHook, definition -> glue.addBeforeHook(new RegisteredHookDefinition((Java8HookDefinition) definition)));
+    }
+
+    @Override
+    public void addAfterHookDefinition(HookDefinition afterHook) {
+        register(afterHook, definition -> glue.addAfterHook(new RegisteredHookDefinition((Java8HookDefinition) definition)));
+    }
+
+    private void register(Object glueDefinition, Consumer<AbstractGlueDefinition> addToGlue) {
+        if (!(glueDefinition instanceof AbstractGlueDefinition)) {
+            throw new CucumberException("Can not rebind " + glueDefinition.getClass().getName() + ", expected lambda glue");
+        }
+        AbstractGlueDefinition definition = (AbstractGlueDefinition) glueDefinition;
+        String key = definition.rebindKey();
+        List<AbstractGlueDefinition> candidates = definitionsByKey.computeIfAbsent(key, k -> new ArrayList<>());
+        if (candidates.contains(definition)) {
+            // Rebound in this scenario, already added to the glue.
+            return;
+        }
+        candidates.add(definition);
+        registrationsByKey.put(key, candidates.size());
+        definitions.add(definition);
+        addToGlue.accept(definition);
+    }
+
+    /**
+     * Step definition that is not scenario scoped and remains in the glue
+     * while its lambda is rebound for each scenario.
+     */
+    private static final class RegisteredStepDefinition implements StepDefinition {
+        private final Java8StepDefinition delegate;
+
+        RegisteredStepDefinition(Java8StepDefinition delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void execute(Object[] args) throws Throwable {
+            delegate.execute(args);
+        }
+
+        @Override
+        public boolean isDefinedAt(StackTraceElement stackTraceElement) {
+            return delegate.isDefinedAt(stackTraceElement);
+        }
+
+        @Override
+        public List<ParameterInfo> parameterInfos() {
+            return delegate.parameterInfos();
+        }
+
+        @Override
+        public String getLocation(boolean detail) {
+            return delegate.getLocation(detail);
+        }
+
+        @Override
+        public String getPattern() {
+            return delegate.getPattern();
+        }
+
+        @Override
+        public String getDeclaringClassName() {
+            return delegate.getDeclaringClassName();
+        }
+    }
+
+    /**
+     * Hook definition that is not scenario scoped and remains in the glue
+     * while its lambda is rebound for each scenario.
+     */
+    private static final class RegisteredHookDefinition implements HookDefinition {
+        private final Java8HookDefinition delegate;
+
+        RegisteredHookDefinition(Java8HookDefinition delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public String getLocation(boolean detail) {
+            return delegate.getLocation(detail);
+        }
+
+        @Override
+        public void execute(Scenario scenario) throws Throwable {
+            delegate.execute(scenario);
+        }
+
+        @Override
+        public boolean matches(Collection<PickleTag> tags) {
+            return delegate.matches(tags);
+        }
+
+        @Override
+        public int getOrder() {
+            return delegate.getOrder();
+        }
+
+        @Override
+        public String getDeclaringClassName() {
+            return delegate.getDeclaringClassName();
+        }
+    }
+}
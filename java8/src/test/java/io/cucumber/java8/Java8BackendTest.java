@@ -2,6 +2,7 @@ package io.cucumber.java8;
 
 import io.cucumber.core.backend.Glue;
 import io.cucumber.core.backend.ObjectFactory;
+import io.cucumber.core.backend.StepDefinition;
 import io.cucumber.core.io.MultiLoader;
 import io.cucumber.core.io.ResourceLoader;
 import io.cucumber.java8.steps.Stepdefs;
@@ -16,7 +17,10 @@ import java.net.URI;
 
 import static java.lang.Thread.currentThread;
 import static java.util.Arrays.asList;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 public class Java8BackendTest {
 
@@ -45,4 +49,20 @@ public class Java8BackendTest {
         verify(factory).addClass(Stepdefs.class);
     }
 
+    @Test
+    public void adds_lambda_glue_once_when_rebinding() {
+        Java8Backend backend = new Java8Backend(factory, factory, new MultiLoader(currentThread().getContextClassLoader()), true);
+        when(factory.addClass(Stepdefs.class)).thenReturn(true);
+        when(factory.getInstance(Stepdefs.class)).thenAnswer(invocation -> new Stepdefs());
+
+        backend.loadGlue(glue, asList(URI.create("classpath:io/cucumber/java8/steps")));
+        backend.buildWorld();
+        backend.disposeWorld();
+        backend.buildWorld();
+        backend.disposeWorld();
+
+        verify(factory, times(2)).getInstance(Stepdefs.class);
+        verify(glue, times(1)).addStepDefinition(any(StepDefinition.class));
+    }
+
 }
@@ -0,0 +1,50 @@
+package io.cucumber.java8;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+public class LambdaBodyClassTest {
+
+    @Test
+    public void shares_parameter_infos_of_the_same_lambda() {
+        Java8StepDefinition first = createStepDefinition("some step", "first");
+        Java8StepDefinition second = createStepDefinition("some step", "second");
+
+        assertSame(first.parameterInfos(), second.parameterInfos());
+        assertEquals(String.class, first.parameterInfos().get(0).getType());
+    }
+
+    @Test
+    public void creates_parameter_infos_for_each_expression() {
+        Java8StepDefinition first = createStepDefinition("some step", "first");
+        Java8StepDefinition second = createStepDefinition("other step", "second");
+
+        assertNotSame(first.parameterInfos(), second.parameterInfos());
+        assertEquals(first.parameterInfos().get(0).getType(), second.parameterInfos().get(0).getType());
+    }
+
+    @Test
+    public void caches_location_of_lambda() {
+        Java8StepDefinition first = createStepDefinition("some step", "first");
+        Java8StepDefinition second = createStepDefinition("some step", "second");
+
+        assertEquals(first.getLocation(false), second.getLocation(false));
+    }
+
+    @Test
+    public void copies_accept_method_for_each_definition() {
+        Java8StepDefinition first = createStepDefinition("some step", "first");
+        Java8StepDefinition second = createStepDefinition("some step", "second");
+
+        assertNotSame(first.method, second.method);
+        assertEquals(first.method, second.method);
+    }
+
+    private static Java8StepDefinition createStepDefinition(String expression, String state) {
+        StepdefBody.A1<String> body = (String argument) -> assertEquals(state, argument);
+        return Java8StepDefinition.create(expression, StepdefBody.A1.class, body);
+    }
+}
@@ -0,0 +1,107 @@
+package io.cucumber.java8;
+
+import io.cucumber.core.backend.Glue;
+import io.cucumber.core.backend.StepDefinition;
+import io.cucumber.core.exception.CucumberException;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public class RebindingLambdaGlueRegistryTest {
+
+    @Rule
+    public MockitoRule mockitoRule = MockitoJUnit.rule();
+
+    @Rule
+    public ExpectedException expectedException = ExpectedException.none();
+
+    @Mock
+    private Glue glue;
+
+    private RebindingLambdaGlueRegistry registry;
+
+    private final List<String> executed = new ArrayList<>();
+
+    @Before
+    public void setUp() {
+        registry = new RebindingLambdaGlueRegistry(glue);
+        LambdaGlueRegistry.INSTANCE.set(registry);
+    }
+
+    @After
+    public void tearDown() {
+        LambdaGlueRegistry.INSTANCE.remove();
+    }
+
+    @Test
+    public void adds_step_definition_to_glue_once_and_rebinds_lambda() throws Throwable {
+        registry.startScenario();
+        registerStepCapturing("first scenario");
+        registry.verifyAllDefinitionsRebound();
+        ArgumentCaptor<StepDefinition> stepDefinition = ArgumentCaptor.forClass(StepDefinition.class);
+        verify(glue).addStepDefinition(stepDefinition.capture());
+        stepDefinition.getValue().execute(new Object[0]);
+        registry.disposeScenario();
+
+        registry.startScenario();
+        registerStepCapturing("second scenario");
+        registry.verifyAllDefinitionsRebound();
+        stepDefinition.getValue().execute(new Object[0]);
+        registry.disposeScenario();
+
+        verify(glue, times(1)).addStepDefinition(stepDefinition.getValue());
+        assertEquals(asList("first scenario", "second scenario"), executed);
+    }
+
+    @Test
+    public void rebinds_each_expression_registered_by_the_same_lambda() throws Throwable {
+        registry.startScenario();
+        for (String expression : asList("first step", "second step")) {
+            registry.addStepDefinition(Java8StepDefinition.create(expression, StepdefBody.A0.class, () -> executed.add(expression)));
+        }
+        registry.disposeScenario();
+
+        registry.startScenario();
+        for (String expression : asList("first step", "second step")) {
+            registry.addStepDefinition(Java8StepDefinition.create(expression, StepdefBody.A0.class, () -> executed.add(expression)));
+        }
+        registry.verifyAllDefinitionsRebound();
+
+        ArgumentCaptor<StepDefinition> stepDefinitions = ArgumentCaptor.forClass(StepDefinition.class);
+        verify(glue, times(2)).addStepDefinition(stepDefinitions.capture());
+        for (StepDefinition stepDefinition : stepDefinitions.getAllValues()) {
+            stepDefinition.execute(new Object[0]);
+        }
+        assertEquals(asList("first step", "second step"), executed);
+    }
+
+    @Test
+    public void fails_when_lambda_is_not_registered_again() {
+        registry.startScenario();
+        registerStepCapturing("first scenario");
+        registry.disposeScenario();
+
+        registry.startScenario();
+        expectedException.expect(CucumberException.class);
+        expectedException.expectMessage("was registered in an earlier scenario but not in this scenario");
+        registry.verifyAllDefinitionsRebound();
+    }
+
+    private void registerStepCapturing(String scenarioState) {
+        registry.addStepDefinition(Java8StepDefinition.create("a step", StepdefBody.A0.class, () -> executed.add(scenarioState)));
+    }
+}
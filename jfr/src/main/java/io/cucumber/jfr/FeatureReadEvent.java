@@ -0,0 +1,21 @@
+package io.cucumber.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("io.cucumber.FeatureRead")
+@Label("Feature Read")
+@Category("Cucumber")
+@Description("A feature file was read. The time spent parsing it is recorded by the FeatureParser.parse phase")
+@StackTrace(false)
+final class FeatureReadEvent extends jdk.jfr.Event {
+
+    @Label("Uri")
+    String uri;
+
+    @Label("Source Length")
+    long sourceLength;
+}
@@ -0,0 +1,221 @@
+package io.cucumber.jfr;
+
+import io.cucumber.core.event.EventHandler;
+import io.cucumber.core.event.EventPublisher;
+import io.cucumber.core.event.HookTestStep;
+import io.cucumber.core.event.PickleStepTestStep;
+import io.cucumber.core.event.Result;
+import io.cucumber.core.event.TestCase;
+import io.cucumber.core.event.TestCaseFinished;
+import io.cucumber.core.event.TestCaseStarted;
+import io.cucumber.core.event.TestRunFinished;
+import io.cucumber.core.event.TestRunStarted;
+import io.cucumber.core.event.TestSourceRead;
+import io.cucumber.core.event.TestStep;
+import io.cucumber.core.event.TestStepFinished;
+import io.cucumber.core.event.TestStepStarted;
+import io.cucumber.core.plugin.ConcurrentEventListener;
+import io.cucumber.core.probe.ProbeListener;
+import io.cucumber.core.probe.Probes;
+import jdk.jfr.Event;
+import org.apiguardian.api.API;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Emits JDK Flight Recorder events for the test run, scenarios, steps and
+ * hooks and for each feature file that was read.
+ * <p>
+ * The phases of cucumber itself measured by {@link Probes}, e.g. reading and
+ * parsing features, loading glue, starting and stopping the object factory
+ * and matching steps, are recorded as phase events. These are only recorded
+ * when they are enabled in a recording that is running when the plugin is
+ * registered.
+ * <p>
+ * Events are only created when they are enabled in a running recording.
+ * E.g:
+ * <pre>
+ * java -XX:StartFlightRecording=filename=cucumber.jfr io.cucumber.core.cli.Main --plugin io.cucumber.jfr.FlightRecorderPlugin
+ * </pre>
+ */
+@API(status = API.Status.EXPERIMENTAL)
+public final class FlightRecorderPlugin implements ConcurrentEventListener, ProbeListener {
+
+    private final Map<TestCase, ScenarioEvent> scenarios = new ConcurrentHashMap<>();
+    private final Map<TestStep, Event> steps = new ConcurrentHashMap<>();
+    private TestRunEvent testRun;
+
+    private final EventHandler<TestRunStarted> runStartedHandler = new EventHandler<TestRunStarted>() {
+        @Override
+        public void receive(TestRunStarted event) {
+            handleTestRunStarted();
+        }
+    };
+    private final EventHandler<TestSourceRead> testSourceReadHandler = new EventHandler<TestSourceRead>() {
+        @Override
+        public void receive(TestSourceRead event) {
+            handleTestSourceRead(event);
+        }
+    };
+    private final EventHandler<TestCaseStarted> caseStartedHandler = new EventHandler<TestCaseStarted>() {
+        @Override
+        public void receive(TestCaseStarted event) {
+            handleTestCaseStarted(event);
+        }
+    };
+    private final EventHandler<TestStepStarted> stepStartedHandler = new EventHandler<TestStepStarted>() {
+        @Override
+        public void receive(TestStepStarted event) {
+            handleTestStepStarted(event);
+        }
+    };
+    private final EventHandler<TestStepFinished> stepFinishedHandler = new EventHandler<TestStepFinished>() {
+        @Override
+        public void receive(TestStepFinished event) {
+            handleTestStepFinished(event);
+        }
+    };
+    private final EventHandler<TestCaseFinished> caseFinishedHandler = new EventHandler<TestCaseFinished>() {
+        @Override
+        public void receive(TestCaseFinished event) {
+            handleTestCaseFinished(event);
+        }
+    };
+    private final EventHandler<TestRunFinished> runFinishedHandler = new EventHandler<TestRunFinished>() {
+        @Override
+        public void receive(TestRunFinished event) {
+            handleTestRunFinished();
+        }
+    };
+
+    @Override
+    public void setEventPublisher(EventPublisher publisher) {
+        publisher.registerHandlerFor(TestRunStarted.class, runStartedHandler);
+        publisher.registerHandlerFor(TestSourceRead.class, testSourceReadHandler);
+        publisher.registerHandlerFor(TestCaseStarted.class, caseStartedHandler);
+        publisher.registerHandlerFor(TestStepStarted.class, stepStartedHandler);
+        publisher.registerHandlerFor(TestStepFinished.class, stepFinishedHandler);
+        publisher.registerHandlerFor(TestCaseFinished.class, caseFinishedHandler);
+        publisher.registerHandlerFor(TestRunFinished.class, runFinishedHandler);
+        // Probes measure time for every listener, so only listen when needed
+        if (new PhaseEvent().isEnabled()) {
+            Probes.addListener(this);
+        }
+    }
+
+    @Override
+    public void record(String phase, long duration) {
+        PhaseEvent event = new PhaseEvent();
+        if (!event.isEnabled()) {
+            return;
+        }
+        event.phase = phase;
+        event.phaseDuration = duration;
+        event.commit();
+    }
+
+    private void handleTestRunStarted() {
+        TestRunEvent event = new TestRunEvent();
+        if (!event.isEnabled()) {
+            return;
+        }
+        event.begin();
+        testRun = event;
+    }
+
+    private void handleTestSourceRead(TestSourceRead event) {
+        FeatureReadEvent featureRead = new FeatureReadEvent();
+        if (!featureRead.shouldCommit()) {
+            return;
+        }
+        featureRead.uri = event.getUri();
+        featureRead.sourceLength = event.getSource().length();
+        featureRead.commit();
+    }
+
+    private void handleTestCaseStarted(TestCaseStarted event) {
+        ScenarioEvent scenario = new ScenarioEvent();
+        if (!scenario.isEnabled()) {
+            return;
+        }
+        scenario.begin();
+        scenarios.put(event.getTestCase(), scenario);
+    }
+
+    private void handleTestStepStarted(TestStepStarted event) {
+        TestStep testStep = event.getTestStep();
+        Event step = testStep instanceof HookTestStep ? new HookEvent() : new StepEvent();
+        if (!step.isEnabled()) {
+            return;
+        }
+        step.begin();
+        steps.put(testStep, step);
+    }
+
+    private void handleTestStepFinished(TestStepFinished event) {
+        Event step = steps.remove(event.getTestStep());
+        if (step == null) {
+            return;
+        }
+        step.end();
+        if (!step.shouldCommit()) {
+            return;
+        }
+        TestCase testCase = event.getTestCase();
+        TestStep testStep = event.getTestStep();
+        String status = status(event.getResult());
+        if (step instanceof HookEvent) {
+            HookEvent hook = (HookEvent) step;
+            hook.uri = testCase.getUri();
+            hook.line = testCase.getLine();
+            hook.hookType = ((HookTestStep) testStep).getHookType().name();
+            hook.codeLocation = testStep.getCodeLocation();
+            hook.status = status;
+        } else {
+            StepEvent pickleStep = (StepEvent) step;
+            pickleStep.uri = testCase.getUri();
+            pickleStep.codeLocation = testStep.getCodeLocation();
+            pickleStep.status = status;
+            if (testStep instanceof PickleStepTestStep) {
+                PickleStepTestStep pickleStepTestStep = (PickleStepTestStep) testStep;
+                pickleStep.line = pickleStepTestStep.getStepLine();
+                pickleStep.text = pickleStepTestStep.getStepText();
+                pickleStep.pattern = pickleStepTestStep.getPattern();
+            }
+        }
+        step.commit();
+    }
+
+    private void handleTestCaseFinished(TestCaseFinished event) {
+        ScenarioEvent scenario = scenarios.remove(event.getTestCase());
+        if (scenario == null) {
+            return;
+        }
+        scenario.end();
+        if (!scenario.shouldCommit()) {
+            return;
+        }
+        TestCase testCase = event.getTestCase();
+        scenario.uri = testCase.getUri();
+        scenario.line = testCase.getLine();
+        scenario.name = testCase.getName();
+        scenario.status = status(event.getResult());
+        scenario.commit();
+    }
+
+    private void handleTestRunFinished() {
+        Probes.removeListener(this);
+        TestRunEvent event = testRun;
+        if (event == null) {
+            return;
+        }
+        testRun = null;
+        event.end();
+        event.commit();
+    }
+
+    private static String status(Result result) {
+        return result.getStatus().name();
+    }
+}
@@ -0,0 +1,30 @@
+package io.cucumber.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("io.cucumber.Hook")
+@Label("Hook")
+@Category("Cucumber")
+@Description("Execution of a hook")
+@StackTrace(false)
+final class HookEvent extends jdk.jfr.Event {
+
+    @Label("Uri")
+    String uri;
+
+    @Label("Line")
+    int line;
+
+    @Label("Hook Type")
+    String hookType;
+
+    @Label("Code Location")
+    String codeLocation;
+
+    @Label("Status")
+    String status;
+}
@@ -0,0 +1,23 @@
+package io.cucumber.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+@Name("io.cucumber.Phase")
+@Label("Phase")
+@Category("Cucumber")
+@Description("Time spent in a phase of cucumber itself, e.g. parsing features or matching steps. Committed when the phase ends")
+@StackTrace(false)
+final class PhaseEvent extends jdk.jfr.Event {
+
+    @Label("Phase")
+    String phase;
+
+    @Label("Phase Duration")
+    @Timespan(Timespan.NANOSECONDS)
+    long phaseDuration;
+}
@@ -0,0 +1,27 @@
+package io.cucumber.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("io.cucumber.Scenario")
+@Label("Scenario")
+@Category("Cucumber")
+@Description("Execution of a scenario, including its hooks")
+@StackTrace(false)
+final class ScenarioEvent extends jdk.jfr.Event {
+
+    @Label("Uri")
+    String uri;
+
+    @Label("Line")
+    int line;
+
+    @Label("Name")
+    String name;
+
+    @Label("Status")
+    String status;
+}
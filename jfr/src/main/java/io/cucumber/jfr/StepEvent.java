@@ -0,0 +1,33 @@
+package io.cucumber.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("io.cucumber.Step")
+@Label("Step")
+@Category("Cucumber")
+@Description("Execution of a step")
+@StackTrace(false)
+final class StepEvent extends jdk.jfr.Event {
+
+    @Label("Uri")
+    String uri;
+
+    @Label("Line")
+    int line;
+
+    @Label("Text")
+    String text;
+
+    @Label("Pattern")
+    String pattern;
+
+    @Label("Code Location")
+    String codeLocation;
+
+    @Label("Status")
+    String status;
+}
@@ -0,0 +1,13 @@
+package io.cucumber.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("io.cucumber.TestRun")
+@Label("Test Run")
+@Category("Cucumber")
+@Description("Execution of all scenarios")
+final class TestRunEvent extends jdk.jfr.Event {
+}
@@ -0,0 +1,7 @@
+/**
+ * Records cucumber events with the JDK Flight Recorder.
+ * <p>
+ * Register {@link io.cucumber.jfr.FlightRecorderPlugin} as a plugin and start the JVM with a flight recording.
+ * Scenarios, steps and hooks then show up as events in the recording, next to GC, lock and allocation events.
+ */
+package io.cucumber.jfr;
@@ -0,0 +1,118 @@
+package io.cucumber.jfr;
+
+import io.cucumber.core.event.PickleStepTestStep;
+import io.cucumber.core.event.Result;
+import io.cucumber.core.event.Status;
+import io.cucumber.core.event.TestCase;
+import io.cucumber.core.event.TestCaseFinished;
+import io.cucumber.core.event.TestCaseStarted;
+import io.cucumber.core.event.TestRunFinished;
+import io.cucumber.core.event.TestRunStarted;
+import io.cucumber.core.event.TestStepFinished;
+import io.cucumber.core.event.TestStepStarted;
+import io.cucumber.core.eventbus.EventBus;
+import io.cucumber.core.probe.Probes;
+import io.cucumber.core.runtime.TimeServiceEventBus;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class FlightRecorderPluginTest {
+
+    @Test
+    public void records_scenarios_and_steps() throws IOException {
+        TestCase testCase = mock(TestCase.class);
+        when(testCase.getUri()).thenReturn("file:path/to.feature");
+        when(testCase.getLine()).thenReturn(3);
+        when(testCase.getName()).thenReturn("a scenario");
+        PickleStepTestStep testStep = mock(PickleStepTestStep.class);
+        when(testStep.getStepLine()).thenReturn(4);
+        when(testStep.getStepText()).thenReturn("a step");
+        when(testStep.getPattern()).thenReturn("a step");
+        when(testStep.getCodeLocation()).thenReturn("StepDefs.a_step()");
+        Result passed = new Result(Status.PASSED, Duration.ZERO, null);
+
+        EventBus bus = new TimeServiceEventBus(Clock.systemUTC());
+        new FlightRecorderPlugin().setEventPublisher(bus);
+
+        Path dump = Files.createTempFile("cucumber", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("io.cucumber.TestRun");
+            recording.enable("io.cucumber.Scenario");
+            recording.enable("io.cucumber.Step");
+            recording.start();
+
+            bus.send(new TestRunStarted(bus.getInstant()));
+            bus.send(new TestCaseStarted(bus.getInstant(), testCase));
+            bus.send(new TestStepStarted(bus.getInstant(), testCase, testStep));
+            bus.send(new TestStepFinished(bus.getInstant(), testCase, testStep, passed));
+            bus.send(new TestCaseFinished(bus.getInstant(), testCase, passed));
+            bus.send(new TestRunFinished(bus.getInstant()));
+
+            recording.stop();
+            recording.dump(dump);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(dump);
+        List<String> names = events.stream()
+            .map(event -> event.getEventType().getName())
+            .sorted()
+            .collect(Collectors.toList());
+        assertEquals(names.toString(), 3, names.size());
+
+        RecordedEvent step = events.stream()
+            .filter(event -> event.getEventType().getName().equals("io.cucumber.Step"))
+            .findFirst()
+            .orElseThrow(IllegalStateException::new);
+        assertEquals("a step", step.getString("pattern"));
+        assertEquals(4, step.getInt("line"));
+        assertEquals("PASSED", step.getString("status"));
+
+        RecordedEvent scenario = events.stream()
+            .filter(event -> event.getEventType().getName().equals("io.cucumber.Scenario"))
+            .findFirst()
+            .orElseThrow(IllegalStateException::new);
+        assertEquals("file:path/to.feature", scenario.getString("uri"));
+        assertEquals(3, scenario.getInt("line"));
+    }
+
+    @Test
+    public void records_phases_measured_by_probes() throws IOException {
+        EventBus bus = new TimeServiceEventBus(Clock.systemUTC());
+
+        Path dump = Files.createTempFile("cucumber", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("io.cucumber.Phase");
+            recording.start();
+
+            new FlightRecorderPlugin().setEventPublisher(bus);
+            long start = Probes.start();
+            Probes.stop("FeatureParser.parse", start);
+            bus.send(new TestRunFinished(bus.getInstant()));
+
+            recording.stop();
+            recording.dump(dump);
+        }
+
+        List<RecordedEvent> phases = RecordingFile.readAllEvents(dump).stream()
+            .filter(event -> event.getEventType().getName().equals("io.cucumber.Phase"))
+            .collect(Collectors.toList());
+        assertEquals(1, phases.size());
+        assertEquals("FeatureParser.parse", phases.get(0).getString("phase"));
+        assertTrue(phases.get(0).getLong("phaseDuration") >= 0);
+    }
+}
@@ -0,0 +1,78 @@
+package io.cucumber.junit.platform.engine;
+
+import org.apiguardian.api.API;
+
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+/**
+ * Configuration parameters of the Cucumber test engine.
+ * <p>
+ * Configuration parameters can be provided by the build tool, as system
+ * properties or in {@code junit-platform.properties}.
+ */
+@API(status = EXPERIMENTAL)
+public final class Constants {
+
+    /**
+     * Property name used to pass command line options to Cucumber: {@value}
+     * <p>
+     * Only filters, plugins and glue related options are used. Features are
+     * selected by the discovery request.
+     */
+    public static final String CUCUMBER_OPTIONS_PROPERTY_NAME = io.cucumber.core.options.Constants.CUCUMBER_OPTIONS_PROPERTY_NAME;
+
+    /**
+     * Property name used to select the object factory: {@value}
+     */
+    public static final String OBJECT_FACTORY_PROPERTY_NAME = io.cucumber.core.options.Constants.CUCUMBER_OBJECT_FACTORY_PROPERTY_NAME;
+
+    /**
+     * Property name used to set the glue, a comma separated list of packages: {@value}
+     * <p>
+     * When not set the packages containing the selected features are used.
+     */
+    public static final String GLUE_PROPERTY_NAME = "cucumber.glue";
+
+    /**
+     * Property name used to enable parallel execution of scenarios: {@value}
+     * <p>
+     * Scenarios are executed on the fork join pool of the JUnit Platform.
+     */
+    public static final String PARALLEL_EXECUTION_ENABLED_PROPERTY_NAME = "cucumber.execution.parallel.enabled";
+
+    /**
+     * Prefix of the properties that configure the parallel executor: {@value}
+     * <p>
+     * E.g. {@code cucumber.execution.parallel.config.strategy=fixed} and
+     * {@code cucumber.execution.parallel.config.fixed.parallelism=4}. See the
+     * JUnit Platform documentation for the supported strategies.
+     */
+    public static final String PARALLEL_CONFIG_PREFIX = "cucumber.execution.parallel.config.";
+
+    /**
+     * Prefix of the properties that map tags to exclusive resources: {@value}
+     * <p>
+     * A scenario tagged with {@code @<tag>} will acquire a read-write lock on
+     * each resource listed in
+     * {@code cucumber.execution.exclusive-resources.<tag>.read-write} and a read
+     * lock on each resource listed in
+     * {@code cucumber.execution.exclusive-resources.<tag>.read}. Resources are
+     * separated by commas. Scenarios holding conflicting locks are not
+     * executed at the same time.
+     */
+    public static final String EXECUTION_EXCLUSIVE_RESOURCES_PREFIX = "cucumber.execution.exclusive-resources.";
+
+    /**
+     * Suffix of the property that lists read-write locks: {@value}
+     */
+    public static final String READ_WRITE_SUFFIX = ".read-write";
+
+    /**
+     * Suffix of the property that lists read locks: {@value}
+     */
+    public static final String READ_SUFFIX = ".read";
+
+    private Constants() {
+
+    }
+}
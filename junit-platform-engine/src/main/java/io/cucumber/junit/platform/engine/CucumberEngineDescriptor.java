@@ -0,0 +1,72 @@
+package io.cucumber.junit.platform.engine;
+
+import io.cucumber.core.feature.CucumberFeature;
+import io.cucumber.core.feature.GluePath;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.engine.support.descriptor.EngineDescriptor;
+import org.junit.platform.engine.support.hierarchical.Node;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+final class CucumberEngineDescriptor extends EngineDescriptor implements Node<CucumberEngineExecutionContext> {
+
+    CucumberEngineDescriptor(UniqueId uniqueId) {
+        super(uniqueId, "Cucumber");
+    }
+
+    List<CucumberFeature> getFeatures() {
+        List<CucumberFeature> features = new ArrayList<>();
+        for (TestDescriptor child : getChildren()) {
+            if (child instanceof FeatureDescriptor) {
+                features.add(((FeatureDescriptor) child).getFeature());
+            }
+        }
+        return features;
+    }
+
+    /**
+     * Glue used when none is configured. Consists of the packages that
+     * contain the selected classpath features, or the root package when only
+     * features on the file system were selected.
+     */
+    Set<URI> getDefaultGlue() {
+        Set<URI> glue = new LinkedHashSet<>();
+        for (CucumberFeature feature : getFeatures()) {
+            URI uri = feature.getUri();
+            if (!"classpath".equals(uri.getScheme())) {
+                continue;
+            }
+            String path = uri.getSchemeSpecificPart();
+            if (path.startsWith("/")) {
+                path = path.substring(1);
+            }
+            int lastSeparator = path.lastIndexOf('/');
+            try {
+                glue.add(GluePath.parse(lastSeparator < 0 ? "" : path.substring(0, lastSeparator)));
+            } catch (IllegalArgumentException e) {
+                // Not a package, e.g. a directory with a hyphen in its name
+            }
+        }
+        if (glue.isEmpty()) {
+            return Collections.singleton(GluePath.parse(""));
+        }
+        return glue;
+    }
+
+    @Override
+    public CucumberEngineExecutionContext before(CucumberEngineExecutionContext context) {
+        context.startTestRun();
+        return context;
+    }
+
+    @Override
+    public void after(CucumberEngineExecutionContext context) {
+        context.finishTestRun();
+    }
+}
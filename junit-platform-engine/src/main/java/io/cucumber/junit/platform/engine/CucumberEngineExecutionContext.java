@@ -0,0 +1,91 @@
+package io.cucumber.junit.platform.engine;
+
+import gherkin.events.PickleEvent;
+import io.cucumber.core.backend.ObjectFactoryServiceLoader;
+import io.cucumber.core.event.TestRunFinished;
+import io.cucumber.core.event.TestRunStarted;
+import io.cucumber.core.event.TestSourceRead;
+import io.cucumber.core.eventbus.EventBus;
+import io.cucumber.core.feature.CucumberFeature;
+import io.cucumber.core.io.ClassFinder;
+import io.cucumber.core.io.MultiLoader;
+import io.cucumber.core.io.ResourceLoader;
+import io.cucumber.core.io.ResourceLoaderClassFinder;
+import io.cucumber.core.logging.Logger;
+import io.cucumber.core.logging.LoggerFactory;
+import io.cucumber.core.options.RuntimeOptions;
+import io.cucumber.core.plugin.PluginFactory;
+import io.cucumber.core.plugin.Plugins;
+import io.cucumber.core.runner.Runner;
+import io.cucumber.core.runtime.BackendServiceLoader;
+import io.cucumber.core.runtime.ObjectFactorySupplier;
+import io.cucumber.core.runtime.ScanningTypeRegistryConfigurerSupplier;
+import io.cucumber.core.runtime.ThreadLocalObjectFactorySupplier;
+import io.cucumber.core.runtime.ThreadLocalRunnerSupplier;
+import io.cucumber.core.runtime.TimeServiceEventBus;
+import io.cucumber.core.runtime.TypeRegistryConfigurerSupplier;
+import org.junit.platform.engine.support.hierarchical.EngineExecutionContext;
+
+import java.time.Clock;
+import java.util.List;
+
+/**
+ * Shared by all scenarios of a test run. Scenarios may be executed
+ * concurrently, each thread obtains its own {@link Runner}.
+ */
+final class CucumberEngineExecutionContext implements EngineExecutionContext {
+    private static final Logger log = LoggerFactory.getLogger(CucumberEngineExecutionContext.class);
+
+    private final List<CucumberFeature> features;
+    private final RuntimeOptions runtimeOptions;
+    private final boolean parallelExecutionEnabled;
+    private final EventBus bus;
+    private final Plugins plugins;
+    private final ThreadLocalRunnerSupplier runnerSupplier;
+
+    CucumberEngineExecutionContext(CucumberEngineOptions options, CucumberEngineDescriptor engineDescriptor) {
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        ResourceLoader resourceLoader = new MultiLoader(classLoader);
+        ClassFinder classFinder = new ResourceLoaderClassFinder(resourceLoader, classLoader);
+
+        this.features = engineDescriptor.getFeatures();
+        this.runtimeOptions = options.getRuntimeOptions(resourceLoader, engineDescriptor.getDefaultGlue());
+        if (runtimeOptions.isAnalyze()) {
+            log.warn("--analyze is only supported by the command line runner. The JUnit Platform engine executes the scenarios.");
+        }
+        this.parallelExecutionEnabled = options.isParallelExecutionEnabled();
+        this.bus = new TimeServiceEventBus(Clock.systemUTC());
+        this.plugins = new Plugins(new PluginFactory(), runtimeOptions);
+
+        ObjectFactoryServiceLoader objectFactoryServiceLoader = new ObjectFactoryServiceLoader(runtimeOptions);
+        ObjectFactorySupplier objectFactorySupplier = new ThreadLocalObjectFactorySupplier(objectFactoryServiceLoader);
+        BackendServiceLoader backendSupplier = new BackendServiceLoader(resourceLoader, objectFactorySupplier);
+        TypeRegistryConfigurerSupplier typeRegistryConfigurerSupplier = new ScanningTypeRegistryConfigurerSupplier(classFinder, runtimeOptions);
+        this.runnerSupplier = new ThreadLocalRunnerSupplier(runtimeOptions, bus, backendSupplier, objectFactorySupplier, typeRegistryConfigurerSupplier);
+    }
+
+    void startTestRun() {
+        if (parallelExecutionEnabled) {
+            plugins.setSerialEventBusOnEventListenerPlugins(bus);
+        } else {
+            plugins.setEventBusOnEventListenerPlugins(bus);
+        }
+        bus.send(new TestRunStarted(bus.getInstant()));
+        for (CucumberFeature feature : features) {
+            bus.send(new TestSourceRead(bus.getInstant(), feature.getUri().toString(), feature.getSource()));
+        }
+    }
+
+    void runTestCase(PickleEvent pickleEvent) throws Exception {
+        // Possibly invoked by a thread other then the creating thread
+        Runner runner = runnerSupplier.get();
+        try (TestCaseResultObserver observer = new TestCaseResultObserver(runner.getBus(), runtimeOptions.isStrict())) {
+            runner.runPickle(pickleEvent);
+            observer.assertTestCasePassed();
+        }
+    }
+
+    void finishTestRun() {
+        bus.send(new TestRunFinished(bus.getInstant()));
+    }
+}
@@ -0,0 +1,87 @@
+package io.cucumber.junit.platform.engine;
+
+import io.cucumber.core.feature.GluePath;
+import io.cucumber.core.io.ResourceLoader;
+import io.cucumber.core.options.CucumberPropertiesParser;
+import io.cucumber.core.options.RuntimeOptions;
+import io.cucumber.core.options.RuntimeOptionsBuilder;
+import org.junit.platform.engine.ConfigurationParameters;
+import org.junit.platform.engine.support.config.PrefixedConfigurationParameters;
+import org.junit.platform.engine.support.hierarchical.ExclusiveResource;
+import org.junit.platform.engine.support.hierarchical.ExclusiveResource.LockMode;
+
+import java.net.URI;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+import static io.cucumber.junit.platform.engine.Constants.CUCUMBER_OPTIONS_PROPERTY_NAME;
+import static io.cucumber.junit.platform.engine.Constants.EXECUTION_EXCLUSIVE_RESOURCES_PREFIX;
+import static io.cucumber.junit.platform.engine.Constants.GLUE_PROPERTY_NAME;
+import static io.cucumber.junit.platform.engine.Constants.OBJECT_FACTORY_PROPERTY_NAME;
+import static io.cucumber.junit.platform.engine.Constants.PARALLEL_CONFIG_PREFIX;
+import static io.cucumber.junit.platform.engine.Constants.PARALLEL_EXECUTION_ENABLED_PROPERTY_NAME;
+import static io.cucumber.junit.platform.engine.Constants.READ_SUFFIX;
+import static io.cucumber.junit.platform.engine.Constants.READ_WRITE_SUFFIX;
+
+final class CucumberEngineOptions {
+
+    private final ConfigurationParameters configurationParameters;
+
+    CucumberEngineOptions(ConfigurationParameters configurationParameters) {
+        this.configurationParameters = configurationParameters;
+    }
+
+    boolean isParallelExecutionEnabled() {
+        return configurationParameters.getBoolean(PARALLEL_EXECUTION_ENABLED_PROPERTY_NAME).orElse(false);
+    }
+
+    ConfigurationParameters getParallelExecutionConfiguration() {
+        return new PrefixedConfigurationParameters(configurationParameters, PARALLEL_CONFIG_PREFIX);
+    }
+
+    RuntimeOptions getRuntimeOptions(ResourceLoader resourceLoader, Collection<URI> defaultGlue) {
+        Map<String, String> properties = new HashMap<>();
+        configurationParameters.get(CUCUMBER_OPTIONS_PROPERTY_NAME)
+            .ifPresent(options -> properties.put(CUCUMBER_OPTIONS_PROPERTY_NAME, options));
+        configurationParameters.get(OBJECT_FACTORY_PROPERTY_NAME)
+            .ifPresent(objectFactory -> properties.put(OBJECT_FACTORY_PROPERTY_NAME, objectFactory));
+
+        RuntimeOptionsBuilder builder = new CucumberPropertiesParser(resourceLoader).parse(properties);
+        configurationParameters.get(GLUE_PROPERTY_NAME).ifPresent(glue -> {
+            for (String packageName : glue.split(",")) {
+                builder.addGlue(GluePath.parse(packageName.trim()));
+            }
+        });
+        RuntimeOptions runtimeOptions = builder.build();
+        if (!runtimeOptions.getGlue().isEmpty()) {
+            return runtimeOptions;
+        }
+        RuntimeOptionsBuilder defaultGlueBuilder = new RuntimeOptionsBuilder();
+        defaultGlue.forEach(defaultGlueBuilder::addGlue);
+        return defaultGlueBuilder.build(runtimeOptions);
+    }
+
+    Set<ExclusiveResource> getExclusiveResources(Collection<String> tagNames) {
+        Set<ExclusiveResource> resources = new LinkedHashSet<>();
+        for (String tagName : tagNames) {
+            String prefix = EXECUTION_EXCLUSIVE_RESOURCES_PREFIX + tagName;
+            configurationParameters.get(prefix + READ_WRITE_SUFFIX)
+                .ifPresent(keys -> addResources(resources, keys, LockMode.READ_WRITE));
+            configurationParameters.get(prefix + READ_SUFFIX)
+                .ifPresent(keys -> addResources(resources, keys, LockMode.READ));
+        }
+        return resources;
+    }
+
+    private static void addResources(Set<ExclusiveResource> resources, String keys, LockMode lockMode) {
+        for (String key : keys.split(",")) {
+            String trimmed = key.trim();
+            if (!trimmed.isEmpty()) {
+                resources.add(new ExclusiveResource(trimmed, lockMode));
+            }
+        }
+    }
+}
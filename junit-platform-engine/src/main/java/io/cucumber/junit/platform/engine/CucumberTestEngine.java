@@ -0,0 +1,64 @@
+package io.cucumber.junit.platform.engine;
+
+import org.apiguardian.api.API;
+import org.junit.platform.engine.EngineDiscoveryRequest;
+import org.junit.platform.engine.ExecutionRequest;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.engine.support.hierarchical.ForkJoinPoolHierarchicalTestExecutorService;
+import org.junit.platform.engine.support.hierarchical.HierarchicalTestEngine;
+import org.junit.platform.engine.support.hierarchical.HierarchicalTestExecutorService;
+
+import java.util.Optional;
+
+/**
+ * The Cucumber {@link org.junit.platform.engine.TestEngine}.
+ * <p>
+ * Discovers features and scenarios selected by classpath root, package,
+ * classpath resource, file, directory, uri or unique id. Scenarios can be
+ * executed in parallel on the fork join pool of the JUnit Platform by setting
+ * {@value Constants#PARALLEL_EXECUTION_ENABLED_PROPERTY_NAME} to {@code true}.
+ *
+ * @see Constants
+ */
+@API(status = API.Status.EXPERIMENTAL)
+public final class CucumberTestEngine extends HierarchicalTestEngine<CucumberEngineExecutionContext> {
+
+    @Override
+    public String getId() {
+        return "cucumber";
+    }
+
+    @Override
+    public Optional<String> getGroupId() {
+        return Optional.of("io.cucumber");
+    }
+
+    @Override
+    public Optional<String> getArtifactId() {
+        return Optional.of("cucumber-junit-platform-engine");
+    }
+
+    @Override
+    public TestDescriptor discover(EngineDiscoveryRequest discoveryRequest, UniqueId uniqueId) {
+        CucumberEngineDescriptor engineDescriptor = new CucumberEngineDescriptor(uniqueId);
+        new DiscoverySelectorResolver().resolveSelectors(discoveryRequest, engineDescriptor);
+        return engineDescriptor;
+    }
+
+    @Override
+    protected HierarchicalTestExecutorService createExecutorService(ExecutionRequest request) {
+        CucumberEngineOptions options = new CucumberEngineOptions(request.getConfigurationParameters());
+        if (options.isParallelExecutionEnabled()) {
+            return new ForkJoinPoolHierarchicalTestExecutorService(options.getParallelExecutionConfiguration());
+        }
+        return super.createExecutorService(request);
+    }
+
+    @Override
+    protected CucumberEngineExecutionContext createExecutionContext(ExecutionRequest request) {
+        CucumberEngineOptions options = new CucumberEngineOptions(request.getConfigurationParameters());
+        CucumberEngineDescriptor engineDescriptor = (CucumberEngineDescriptor) request.getRootTestDescriptor();
+        return new CucumberEngineExecutionContext(options, engineDescriptor);
+    }
+}
@@ -0,0 +1,209 @@
+package io.cucumber.junit.platform.engine;
+
+import gherkin.events.PickleEvent;
+import gherkin.pickles.PickleLocation;
+import io.cucumber.core.feature.CucumberFeature;
+import io.cucumber.core.feature.FeatureLoader;
+import io.cucumber.core.feature.FeaturePath;
+import io.cucumber.core.feature.FeatureWithLines;
+import io.cucumber.core.filter.Filters;
+import io.cucumber.core.io.MultiLoader;
+import io.cucumber.core.io.ResourceLoader;
+import org.junit.platform.engine.EngineDiscoveryRequest;
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.engine.discovery.ClasspathResourceSelector;
+import org.junit.platform.engine.discovery.ClasspathRootSelector;
+import org.junit.platform.engine.discovery.DirectorySelector;
+import org.junit.platform.engine.discovery.FileSelector;
+import org.junit.platform.engine.discovery.PackageSelector;
+import org.junit.platform.engine.discovery.UniqueIdSelector;
+import org.junit.platform.engine.discovery.UriSelector;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static java.util.Collections.singletonList;
+
+/**
+ * Resolves discovery selectors to features and scenarios.
+ * <p>
+ * Only the features referenced by the selectors are parsed, each at most
+ * once. A selector may reference individual scenarios by line:
+ * <ul>
+ * <li>a classpath resource or uri followed by colon separated line numbers,
+ * e.g. {@code io/cucumber/example.feature:3}</li>
+ * <li>a uri with a {@code line} query parameter, e.g.
+ * {@code file:/path/to/example.feature?line=3}</li>
+ * <li>a unique id created by this engine</li>
+ * </ul>
+ */
+final class DiscoverySelectorResolver {
+
+    private static final String FEATURE_SUFFIX = ".feature";
+    private static final String LINE_QUERY_PARAMETER = "line=";
+
+    private final ResourceLoader resourceLoader;
+    private final FeatureLoader featureLoader;
+    private final Map<URI, CucumberFeature> parsedFeatures = new LinkedHashMap<>();
+    private final Map<URI, Set<Integer>> selectedLines = new LinkedHashMap<>();
+
+    DiscoverySelectorResolver() {
+        this.resourceLoader = new MultiLoader(Thread.currentThread().getContextClassLoader());
+        this.featureLoader = new FeatureLoader(resourceLoader);
+    }
+
+    void resolveSelectors(EngineDiscoveryRequest request, CucumberEngineDescriptor engineDescriptor) {
+        CucumberEngineOptions options = new CucumberEngineOptions(request.getConfigurationParameters());
+
+        request.getSelectorsByType(ClasspathRootSelector.class).forEach(this::resolveClasspathRoot);
+        request.getSelectorsByType(PackageSelector.class).forEach(selector ->
+            resolve(FeatureWithLines.create(URI.create("classpath:" + selector.getPackageName().replace('.', '/')), Collections.emptyList())));
+        request.getSelectorsByType(ClasspathResourceSelector.class).forEach(selector ->
+            resolve(FeatureWithLines.parse("classpath:" + selector.getClasspathResourceName())));
+        request.getSelectorsByType(FileSelector.class).forEach(selector ->
+            resolve(FeatureWithLines.create(selector.getFile().toURI(), Collections.emptyList())));
+        request.getSelectorsByType(DirectorySelector.class).forEach(selector ->
+            resolve(FeatureWithLines.create(selector.getDirectory().toURI(), Collections.emptyList())));
+        request.getSelectorsByType(UriSelector.class).forEach(selector -> resolveUri(selector.getUri()));
+        request.getSelectorsByType(UniqueIdSelector.class).forEach(selector ->
+            resolveUniqueId(engineDescriptor.getUniqueId(), selector.getUniqueId()));
+
+        Filters filters = new Filters(options.getRuntimeOptions(resourceLoader, Collections.emptyList()));
+        for (CucumberFeature feature : parsedFeatures.values()) {
+            addFeature(engineDescriptor, options, filters, feature);
+        }
+    }
+
+    private void addFeature(CucumberEngineDescriptor engineDescriptor, CucumberEngineOptions options, Filters filters, CucumberFeature feature) {
+        if (feature.getPickles().isEmpty()) {
+            return;
+        }
+        Set<Integer> lines = selectedLines.get(feature.getUri());
+        UniqueId featureId = engineDescriptor.getUniqueId().append(FeatureDescriptor.SEGMENT_TYPE, feature.getUri().toString());
+        FeatureDescriptor featureDescriptor = new FeatureDescriptor(featureId, feature);
+        for (PickleEvent pickleEvent : feature.getPickles()) {
+            if (!isSelected(pickleEvent, lines) || !filters.matchesFilters(pickleEvent)) {
+                continue;
+            }
+            UniqueId pickleId = featureId.append(PickleDescriptor.SEGMENT_TYPE, String.valueOf(PickleDescriptor.getLine(pickleEvent)));
+            featureDescriptor.addChild(new PickleDescriptor(pickleId, feature.getUri(), pickleEvent, options));
+        }
+        if (!featureDescriptor.getChildren().isEmpty()) {
+            engineDescriptor.addChild(featureDescriptor);
+        }
+    }
+
+    private static boolean isSelected(PickleEvent pickleEvent, Set<Integer> lines) {
+        if (lines.isEmpty()) {
+            return true;
+        }
+        for (PickleLocation location : pickleEvent.pickle.getLocations()) {
+            if (lines.contains(location.getLine())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void resolveClasspathRoot(ClasspathRootSelector selector) {
+        URI root = selector.getClasspathRoot();
+        if (!"file".equals(root.getScheme())) {
+            // Features packaged in jars must be selected by package or resource
+            return;
+        }
+        Path rootPath = Paths.get(root);
+        if (!Files.isDirectory(rootPath)) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(rootPath)) {
+            List<String> resourceNames = paths
+                .filter(path -> path.getFileName().toString().endsWith(FEATURE_SUFFIX))
+                .filter(Files::isRegularFile)
+                .map(path -> rootPath.relativize(path).toString().replace(path.getFileSystem().getSeparator(), "/"))
+                .sorted()
+                .collect(Collectors.toList());
+            for (String resourceName : resourceNames) {
+                resolve(FeatureWithLines.create(URI.create("classpath:" + resourceName), Collections.emptyList()));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not scan classpath root " + root, e);
+        }
+    }
+
+    private void resolveUri(URI uri) {
+        String uriString = uri.toString();
+        int queryStart = uriString.indexOf('?');
+        if (queryStart < 0) {
+            resolve(FeatureWithLines.parse(uriString));
+            return;
+        }
+        Set<Integer> lines = new HashSet<>();
+        for (String parameter : uriString.substring(queryStart + 1).split("&")) {
+            if (parameter.startsWith(LINE_QUERY_PARAMETER)) {
+                lines.add(Integer.parseInt(parameter.substring(LINE_QUERY_PARAMETER.length())));
+            }
+        }
+        resolve(FeatureWithLines.create(FeaturePath.parse(uriString.substring(0, queryStart)), lines));
+    }
+
+    private void resolveUniqueId(UniqueId engineId, UniqueId uniqueId) {
+        if (!uniqueId.hasPrefix(engineId)) {
+            return;
+        }
+        List<UniqueId.Segment> segments = uniqueId.getSegments();
+        if (segments.size() < 2) {
+            // The engine itself, select everything on the class path
+            resolve(FeatureWithLines.create(URI.create("classpath:/"), Collections.emptyList()));
+            return;
+        }
+        UniqueId.Segment feature = segments.get(1);
+        if (!FeatureDescriptor.SEGMENT_TYPE.equals(feature.getType())) {
+            return;
+        }
+        URI featureUri = URI.create(feature.getValue());
+        if (segments.size() < 3) {
+            resolve(FeatureWithLines.create(featureUri, Collections.emptyList()));
+            return;
+        }
+        UniqueId.Segment scenario = segments.get(2);
+        if (PickleDescriptor.SEGMENT_TYPE.equals(scenario.getType())) {
+            resolve(FeatureWithLines.create(featureUri, singletonList(Integer.parseInt(scenario.getValue()))));
+        }
+    }
+
+    private void resolve(FeatureWithLines featureWithLines) {
+        URI uri = featureWithLines.uri();
+        CucumberFeature parsed = parsedFeatures.get(uri);
+        List<CucumberFeature> features = parsed != null
+            ? singletonList(parsed)
+            : featureLoader.load(singletonList(uri));
+        for (CucumberFeature feature : features) {
+            parsedFeatures.putIfAbsent(feature.getUri(), feature);
+            selectLines(feature.getUri(), featureWithLines.lines());
+        }
+    }
+
+    private void selectLines(URI featureUri, Set<Integer> lines) {
+        Set<Integer> selected = selectedLines.get(featureUri);
+        if (selected == null) {
+            selectedLines.put(featureUri, new HashSet<>(lines));
+        } else if (lines.isEmpty() || selected.isEmpty()) {
+            // Any selection without lines selects the whole feature
+            selected.clear();
+        } else {
+            selected.addAll(lines);
+        }
+    }
+}
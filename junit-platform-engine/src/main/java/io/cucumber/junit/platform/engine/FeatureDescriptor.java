@@ -0,0 +1,52 @@
+package io.cucumber.junit.platform.engine;
+
+import gherkin.ast.Feature;
+import io.cucumber.core.feature.CucumberFeature;
+import org.junit.platform.engine.TestSource;
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.engine.support.descriptor.AbstractTestDescriptor;
+import org.junit.platform.engine.support.descriptor.ClasspathResourceSource;
+import org.junit.platform.engine.support.descriptor.FilePosition;
+import org.junit.platform.engine.support.descriptor.FileSource;
+import org.junit.platform.engine.support.descriptor.UriSource;
+import org.junit.platform.engine.support.hierarchical.Node;
+
+import java.io.File;
+import java.net.URI;
+
+final class FeatureDescriptor extends AbstractTestDescriptor implements Node<CucumberEngineExecutionContext> {
+
+    static final String SEGMENT_TYPE = "feature";
+
+    private final CucumberFeature feature;
+
+    FeatureDescriptor(UniqueId uniqueId, CucumberFeature feature) {
+        super(uniqueId, getDisplayName(feature), createSource(feature.getUri(), null));
+        this.feature = feature;
+    }
+
+    private static String getDisplayName(CucumberFeature feature) {
+        Feature gherkinFeature = feature.getGherkinFeature().getFeature();
+        return gherkinFeature.getKeyword() + ": " + gherkinFeature.getName();
+    }
+
+    static TestSource createSource(URI uri, FilePosition position) {
+        if ("classpath".equals(uri.getScheme())) {
+            String resourceName = uri.getSchemeSpecificPart();
+            return ClasspathResourceSource.from(resourceName.startsWith("/") ? resourceName.substring(1) : resourceName, position);
+        }
+        if ("file".equals(uri.getScheme())) {
+            return FileSource.from(new File(uri), position);
+        }
+        return UriSource.from(uri);
+    }
+
+    CucumberFeature getFeature() {
+        return feature;
+    }
+
+    @Override
+    public Type getType() {
+        return Type.CONTAINER;
+    }
+}
@@ -0,0 +1,93 @@
+package io.cucumber.junit.platform.engine;
+
+import gherkin.events.PickleEvent;
+import gherkin.pickles.PickleTag;
+import org.junit.platform.engine.TestTag;
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.engine.support.descriptor.AbstractTestDescriptor;
+import org.junit.platform.engine.support.descriptor.FilePosition;
+import org.junit.platform.engine.support.hierarchical.ExclusiveResource;
+import org.junit.platform.engine.support.hierarchical.Node;
+
+import java.net.URI;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+final class PickleDescriptor extends AbstractTestDescriptor implements Node<CucumberEngineExecutionContext> {
+
+    static final String SEGMENT_TYPE = "scenario";
+
+    private final PickleEvent pickleEvent;
+    private final Set<TestTag> tags;
+    private final Set<ExclusiveResource> exclusiveResources;
+
+    PickleDescriptor(UniqueId uniqueId, URI featureUri, PickleEvent pickleEvent, CucumberEngineOptions options) {
+        super(uniqueId, getDisplayName(pickleEvent), FeatureDescriptor.createSource(featureUri, FilePosition.from(getLine(pickleEvent))));
+        this.pickleEvent = pickleEvent;
+        Set<String> tagNames = getTagNames(pickleEvent);
+        this.tags = createTags(tagNames);
+        this.exclusiveResources = options.getExclusiveResources(tagNames);
+    }
+
+    static int getLine(PickleEvent pickleEvent) {
+        return pickleEvent.pickle.getLocations().get(0).getLine();
+    }
+
+    private static String getDisplayName(PickleEvent pickleEvent) {
+        String name = pickleEvent.pickle.getName();
+        return name.isEmpty() ? "EMPTY_NAME" : name;
+    }
+
+    private static Set<String> getTagNames(PickleEvent pickleEvent) {
+        List<PickleTag> pickleTags = pickleEvent.pickle.getTags();
+        if (pickleTags.isEmpty()) {
+            return Collections.emptySet();
+        }
+        Set<String> tagNames = new LinkedHashSet<>();
+        for (PickleTag pickleTag : pickleTags) {
+            // Strip the leading @
+            tagNames.add(pickleTag.getName().substring(1));
+        }
+        return tagNames;
+    }
+
+    private static Set<TestTag> createTags(Set<String> tagNames) {
+        if (tagNames.isEmpty()) {
+            return Collections.emptySet();
+        }
+        Set<TestTag> tags = new LinkedHashSet<>();
+        for (String tagName : tagNames) {
+            if (TestTag.isValid(tagName)) {
+                tags.add(TestTag.create(tagName));
+            }
+        }
+        return tags;
+    }
+
+    PickleEvent getPickleEvent() {
+        return pickleEvent;
+    }
+
+    @Override
+    public Type getType() {
+        return Type.TEST;
+    }
+
+    @Override
+    public Set<TestTag> getTags() {
+        return tags;
+    }
+
+    @Override
+    public Set<ExclusiveResource> getExclusiveResources() {
+        return exclusiveResources;
+    }
+
+    @Override
+    public CucumberEngineExecutionContext execute(CucumberEngineExecutionContext context, DynamicTestExecutor dynamicTestExecutor) throws Exception {
+        context.runTestCase(pickleEvent);
+        return context;
+    }
+}
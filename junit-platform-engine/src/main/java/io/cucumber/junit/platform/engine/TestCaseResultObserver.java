@@ -0,0 +1,78 @@
+package io.cucumber.junit.platform.engine;
+
+import io.cucumber.core.event.EventHandler;
+import io.cucumber.core.event.Result;
+import io.cucumber.core.event.TestCaseFinished;
+import io.cucumber.core.eventbus.EventBus;
+import io.cucumber.core.exception.CucumberException;
+import org.opentest4j.TestAbortedException;
+
+final class TestCaseResultObserver implements AutoCloseable {
+    private static final String UNDEFINED_MESSAGE = "There are undefined steps";
+    private static final String SKIPPED_MESSAGE = "This scenario is skipped";
+
+    private final EventBus bus;
+    private final boolean strict;
+    private Result result;
+    private final EventHandler<TestCaseFinished> testCaseFinishedHandler = new EventHandler<TestCaseFinished>() {
+        @Override
+        public void receive(TestCaseFinished event) {
+            result = event.getResult();
+        }
+    };
+
+    TestCaseResultObserver(EventBus bus, boolean strict) {
+        this.bus = bus;
+        this.strict = strict;
+        bus.registerHandlerFor(TestCaseFinished.class, testCaseFinishedHandler);
+    }
+
+    @Override
+    public void close() {
+        bus.removeHandlerFor(TestCaseFinished.class, testCaseFinishedHandler);
+    }
+
+    void assertTestCasePassed() throws Exception {
+        if (result == null) {
+            return;
+        }
+        Throwable error = result.getError();
+        switch (result.getStatus()) {
+        case PASSED:
+            return;
+        case FAILED:
+        case AMBIGUOUS:
+            throw asException(error);
+        case PENDING:
+            if (strict) {
+                throw asException(error);
+            }
+            throw new TestAbortedException(error.getMessage(), error);
+        case UNDEFINED:
+            if (strict) {
+                throw new CucumberException(UNDEFINED_MESSAGE);
+            }
+            throw new TestAbortedException(UNDEFINED_MESSAGE);
+        case SKIPPED:
+            if (error instanceof TestAbortedException) {
+                throw (TestAbortedException) error;
+            }
+            if (error != null) {
+                throw new TestAbortedException(error.getMessage(), error);
+            }
+            throw new TestAbortedException(SKIPPED_MESSAGE);
+        default:
+            throw new IllegalStateException("Unexpected result status: " + result.getStatus());
+        }
+    }
+
+    private static Exception asException(Throwable error) {
+        if (error instanceof Exception) {
+            return (Exception) error;
+        }
+        if (error instanceof Error) {
+            throw (Error) error;
+        }
+        return new CucumberException(error);
+    }
+}
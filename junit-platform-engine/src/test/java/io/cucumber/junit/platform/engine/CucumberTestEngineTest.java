@@ -0,0 +1,124 @@
+package io.cucumber.junit.platform.engine;
+
+import org.junit.Test;
+import org.junit.platform.engine.EngineDiscoveryRequest;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.engine.support.hierarchical.ExclusiveResource;
+import org.junit.platform.launcher.LauncherDiscoveryRequest;
+import org.junit.platform.launcher.core.LauncherFactory;
+import org.junit.platform.launcher.listeners.SummaryGeneratingListener;
+
+import java.net.URI;
+import java.util.Set;
+
+import static java.util.Collections.singleton;
+import static java.util.stream.Collectors.toSet;
+import static org.junit.Assert.assertEquals;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClasspathResource;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectPackage;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectUniqueId;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectUri;
+import static org.junit.platform.launcher.EngineFilter.includeEngines;
+import static org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder.request;
+
+public class CucumberTestEngineTest {
+
+    private static final String FEATURE = "io/cucumber/junit/platform/engine/single.feature";
+
+    private final CucumberTestEngine engine = new CucumberTestEngine();
+    private final UniqueId engineId = UniqueId.forEngine(engine.getId());
+
+    @Test
+    public void id() {
+        assertEquals("cucumber", engine.getId());
+    }
+
+    @Test
+    public void discovers_scenarios_in_classpath_resource() {
+        TestDescriptor engineDescriptor = discover(request().selectors(selectClasspathResource(FEATURE)).build());
+
+        assertEquals(1, engineDescriptor.getChildren().size());
+        TestDescriptor feature = engineDescriptor.getChildren().iterator().next();
+        assertEquals("Feature: A feature", feature.getDisplayName());
+        assertEquals(2, feature.getChildren().size());
+    }
+
+    @Test
+    public void discovers_scenarios_in_package() {
+        TestDescriptor engineDescriptor = discover(request().selectors(selectPackage("io.cucumber.junit.platform.engine")).build());
+
+        assertEquals(2, engineDescriptor.getDescendants().stream().filter(TestDescriptor::isTest).count());
+    }
+
+    @Test
+    public void discovers_single_scenario_by_line_in_classpath_resource() {
+        TestDescriptor engineDescriptor = discover(request().selectors(selectClasspathResource(FEATURE + ":7")).build());
+
+        assertEquals(singleton("A scenario using the database"), testNames(engineDescriptor));
+    }
+
+    @Test
+    public void discovers_single_scenario_by_line_in_uri() {
+        TestDescriptor engineDescriptor = discover(request().selectors(selectUri(URI.create("classpath:" + FEATURE + "?line=3"))).build());
+
+        assertEquals(singleton("A scenario"), testNames(engineDescriptor));
+    }
+
+    @Test
+    public void discovers_single_scenario_by_unique_id() {
+        UniqueId scenarioId = engineId
+            .append(FeatureDescriptor.SEGMENT_TYPE, "classpath:" + FEATURE)
+            .append(PickleDescriptor.SEGMENT_TYPE, "7");
+
+        TestDescriptor engineDescriptor = discover(request().selectors(selectUniqueId(scenarioId)).build());
+
+        TestDescriptor scenario = engineDescriptor.getDescendants().stream()
+            .filter(TestDescriptor::isTest)
+            .findFirst()
+            .orElseThrow(IllegalStateException::new);
+        assertEquals(scenarioId, scenario.getUniqueId());
+    }
+
+    @Test
+    public void derives_exclusive_resources_from_tags() {
+        TestDescriptor engineDescriptor = discover(request()
+            .selectors(selectClasspathResource(FEATURE + ":7"))
+            .configurationParameter("cucumber.execution.exclusive-resources.database.read-write", "DB")
+            .build());
+
+        PickleDescriptor scenario = (PickleDescriptor) engineDescriptor.getDescendants().stream()
+            .filter(TestDescriptor::isTest)
+            .findFirst()
+            .orElseThrow(IllegalStateException::new);
+        assertEquals(singleton(new ExclusiveResource("DB", ExclusiveResource.LockMode.READ_WRITE)), scenario.getExclusiveResources());
+    }
+
+    @Test
+    public void executes_scenarios_in_parallel() {
+        LauncherDiscoveryRequest request = request()
+            .selectors(selectClasspathResource(FEATURE))
+            .filters(includeEngines(engine.getId()))
+            .configurationParameter(Constants.PARALLEL_EXECUTION_ENABLED_PROPERTY_NAME, "true")
+            .configurationParameter(Constants.PARALLEL_CONFIG_PREFIX + "strategy", "fixed")
+            .configurationParameter(Constants.PARALLEL_CONFIG_PREFIX + "fixed.parallelism", "2")
+            .build();
+        SummaryGeneratingListener listener = new SummaryGeneratingListener();
+
+        LauncherFactory.create().execute(request, listener);
+
+        assertEquals(2, listener.getSummary().getTestsSucceededCount());
+        assertEquals(0, listener.getSummary().getTestsFailedCount());
+    }
+
+    private TestDescriptor discover(EngineDiscoveryRequest request) {
+        return engine.discover(request, engineId);
+    }
+
+    private static Set<String> testNames(TestDescriptor engineDescriptor) {
+        return engineDescriptor.getDescendants().stream()
+            .filter(TestDescriptor::isTest)
+            .map(TestDescriptor::getDisplayName)
+            .collect(toSet());
+    }
+}
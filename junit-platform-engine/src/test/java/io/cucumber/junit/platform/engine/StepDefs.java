@@ -0,0 +1,10 @@
+package io.cucumber.junit.platform.engine;
+
+import io.cucumber.java.en.Given;
+
+public class StepDefs {
+
+    @Given("a step")
+    public void a_step() {
+    }
+}
@@ -0,0 +1,8 @@
+Feature: A feature
+
+  Scenario: A scenario
+    Given a step
+
+  @database
+  Scenario: A scenario using the database
+    Given a step
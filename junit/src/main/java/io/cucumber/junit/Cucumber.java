@@ -26,6 +26,8 @@ import io.cucumber.core.runtime.ThreadLocalRunnerSupplier;
 import io.cucumber.core.io.MultiLoader;
 import io.cucumber.core.io.ResourceLoader;
 import io.cucumber.core.io.ResourceLoaderClassFinder;
+import io.cucumber.core.logging.Logger;
+import io.cucumber.core.logging.LoggerFactory;
 import io.cucumber.core.feature.CucumberFeature;
 import io.cucumber.core.runtime.TypeRegistryConfigurerSupplier;
 import org.apiguardian.api.API;
@@ -68,6 +70,11 @@ import java.util.List;
  * <li>Setting {@value Constants#CUCUMBER_OPTIONS_PROPERTY_NAME} property in {@code cucumber.properties}</li>
  * </ol>
  * <p>
+ * Scenarios can be executed in parallel by setting {@link CucumberOptions#threads()} or by using
+ * {@code --threads} in {@value Constants#CUCUMBER_OPTIONS_PROPERTY_NAME}. Cucumber then schedules each scenario
+ * on a work stealing pool. Notifications to JUnit are serialized and event listener plugins receive events in
+ * the same order as a serial execution.
+ * <p>
  * Cucumber also supports JUnits {@link ClassRule}, {@link BeforeClass} and {@link AfterClass} annotations.
  * These will be executed before and after all scenarios. Using these is not recommended as it limits the portability
  * between different runners; they may not execute correctly when using the commandline, IntelliJ IDEA or
@@ -77,10 +84,13 @@ import java.util.List;
  */
 @API(status = API.Status.STABLE)
 public final class Cucumber extends ParentRunner<FeatureRunner> {
+    private static final Logger log = LoggerFactory.getLogger(Cucumber.class);
+
     private final List<FeatureRunner> children = new ArrayList<>();
     private final EventBus bus;
     private final List<CucumberFeature> features;
     private final Plugins plugins;
+    private final ParallelPickleScheduler parallelScheduler;
 
     private boolean multiThreadingAssumed = false;
 
@@ -116,6 +126,10 @@ public final class Cucumber extends ParentRunner<FeatureRunner> {
             .parse(CucumberProperties.fromSystemProperties())
             .build(environmentOptions);
 
+        if (runtimeOptions.isAnalyze()) {
+            log.warn("--analyze is only supported by the command line runner. The JUnit runner executes the scenarios.");
+        }
+
         // Next parse the junit options
         JUnitOptions junitPropertiesFileOptions = new JUnitOptionsParser()
             .parse(CucumberProperties.fromPropertiesFile())
@@ -129,10 +143,13 @@ public final class Cucumber extends ParentRunner<FeatureRunner> {
             .parse(CucumberProperties.fromEnvironment())
             .build(junitAnnotationOptions);
 
-        JUnitOptions junitOptions = new JUnitOptionsParser()
+        JUnitOptionsBuilder junitOptionsBuilder = new JUnitOptionsParser()
             .parse(CucumberProperties.fromSystemProperties())
-            .setStrict(runtimeOptions.isStrict())
-            .build(junitEnvironmentOptions);
+            .setStrict(runtimeOptions.isStrict());
+        if (runtimeOptions.getThreads() > 1) {
+            junitOptionsBuilder.setThreads(runtimeOptions.getThreads());
+        }
+        JUnitOptions junitOptions = junitOptionsBuilder.build(junitEnvironmentOptions);
 
         // Parse the features early. Don't proceed when there are lexer errors
         FeatureLoader featureLoader = new FeatureLoader(resourceLoader);
@@ -149,9 +166,16 @@ public final class Cucumber extends ParentRunner<FeatureRunner> {
         TypeRegistryConfigurerSupplier typeRegistryConfigurerSupplier = new ScanningTypeRegistryConfigurerSupplier(classFinder, runtimeOptions);
         ThreadLocalRunnerSupplier runnerSupplier = new ThreadLocalRunnerSupplier(runtimeOptions, bus, backendSupplier, objectFactorySupplier, typeRegistryConfigurerSupplier);
         Filters filters = new Filters(runtimeOptions);
+        this.parallelScheduler = junitOptions.getThreads() > 1
+            ? new ParallelPickleScheduler(junitOptions.getThreads(), classLoader)
+            : null;
         for (CucumberFeature cucumberFeature : features) {
             FeatureRunner featureRunner = new FeatureRunner(cucumberFeature, filters, runnerSupplier, junitOptions);
             if (!featureRunner.isEmpty()) {
+                if (parallelScheduler != null) {
+                    featureRunner.setScheduler(parallelScheduler.pickleScheduler());
+                    multiThreadingAssumed = true;
+                }
                 children.add(featureRunner);
             }
         }
@@ -174,7 +198,10 @@ public final class Cucumber extends ParentRunner<FeatureRunner> {
 
     @Override
     protected Statement childrenInvoker(RunNotifier notifier) {
-        Statement runFeatures = super.childrenInvoker(notifier);
+        RunNotifier childNotifier = parallelScheduler == null
+            ? notifier
+            : new ParallelPickleScheduler.SynchronizedRunNotifier(notifier);
+        Statement runFeatures = super.childrenInvoker(childNotifier);
         return new RunCucumber(runFeatures);
     }
 
@@ -198,6 +225,9 @@ public final class Cucumber extends ParentRunner<FeatureRunner> {
                 bus.send(new TestSourceRead(bus.getInstant(), feature.getUri().toString(), feature.getSource()));
             }
             runFeatures.evaluate();
+            if (parallelScheduler != null) {
+                parallelScheduler.awaitPickles();
+            }
             bus.send(new TestRunFinished(bus.getInstant()));
         }
     }
@@ -117,6 +117,17 @@ public @interface CucumberOptions {
      */
     boolean stepNotifications() default false;
 
+    /**
+     * Number of threads used to execute scenarios.
+     * <p>
+     * When larger then 1 Cucumber schedules each scenario individually on a
+     * work stealing pool. Unlike a scheduler set by the build tool, which
+     * executes features in parallel, this also splits large features across
+     * threads. Can also be set with {@code --threads} in
+     * {@code cucumber.options}.
+     */
+    int threads() default 1;
+
     /**
      * Specify a custom ObjectFactory.
      * <p>
@@ -12,6 +12,7 @@ import org.junit.runner.notification.Failure;
 import org.junit.runner.notification.RunNotifier;
 import org.junit.runners.ParentRunner;
 import org.junit.runners.model.InitializationError;
+import org.junit.runners.model.RunnerScheduler;
 
 import java.io.Serializable;
 import java.net.URI;
@@ -26,6 +27,7 @@ final class FeatureRunner extends ParentRunner<PickleRunner> {
 
     private final CucumberFeature cucumberFeature;
     private Description description;
+    private boolean concurrent;
 
     FeatureRunner(CucumberFeature cucumberFeature, Filters filters, RunnerSupplier runnerSupplier, JUnitOptions jUnitOptions) throws InitializationError {
         super(null);
@@ -66,6 +68,17 @@ final class FeatureRunner extends ParentRunner<PickleRunner> {
 
     @Override
     protected void runChild(PickleRunner child, RunNotifier notifier) {
+        if (concurrent) {
+            // Pickles of this feature run concurrently. Notifications for the
+            // feature would interleave and could not be attributed.
+            try {
+                child.run(notifier);
+            } catch (Throwable e) {
+                notifier.fireTestFailure(new Failure(child.getDescription(), e));
+                notifier.pleaseStop();
+            }
+            return;
+        }
         notifier.fireTestStarted(getDescription());
         try {
             child.run(notifier);
@@ -77,6 +90,12 @@ final class FeatureRunner extends ParentRunner<PickleRunner> {
         }
     }
 
+    @Override
+    public void setScheduler(RunnerScheduler scheduler) {
+        super.setScheduler(scheduler);
+        concurrent = true;
+    }
+
     private void buildFeatureElementRunners(Filters filters, RunnerSupplier runnerSupplier, JUnitOptions jUnitOptions) {
         for (PickleEvent pickleEvent : cucumberFeature.getPickles()) {
             if (filters.matchesFilters(pickleEvent)) {
@@ -5,6 +5,7 @@ final class JUnitOptions {
     private boolean strict;
     private boolean filenameCompatibleNames = false;
     private boolean stepNotifications = false;
+    private int threads = 1;
 
     boolean filenameCompatibleNames() {
         return filenameCompatibleNames;
@@ -14,6 +15,10 @@ final class JUnitOptions {
         return stepNotifications;
     }
 
+    int getThreads() {
+        return threads;
+    }
+
     boolean isStrict() {
         return strict;
     }
@@ -29,4 +34,8 @@ final class JUnitOptions {
     void setStepNotifications(boolean stepNotifications) {
         this.stepNotifications = stepNotifications;
     }
+
+    void setThreads(int threads) {
+        this.threads = threads;
+    }
 }
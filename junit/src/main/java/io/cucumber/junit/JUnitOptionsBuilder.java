@@ -5,6 +5,7 @@ final class JUnitOptionsBuilder {
     private Boolean strict = null;
     private Boolean filenameCompatibleNames = null;
     private Boolean stepNotifications = null;
+    private Integer threads = null;
 
     JUnitOptions build() {
         JUnitOptions jUnitOptions = new JUnitOptions();
@@ -21,6 +22,9 @@ final class JUnitOptionsBuilder {
         if (stepNotifications != null) {
             jUnitOptions.setStepNotifications(stepNotifications);
         }
+        if (threads != null) {
+            jUnitOptions.setThreads(threads);
+        }
         return jUnitOptions;
     }
 
@@ -38,4 +42,9 @@ final class JUnitOptionsBuilder {
         this.stepNotifications = stepNotifications;
         return this;
     }
+
+    JUnitOptionsBuilder setThreads(int threads) {
+        this.threads = threads;
+        return this;
+    }
 }
@@ -25,6 +25,9 @@ final class JUnitOptionsParser {
             if (options.useFileNameCompatibleName()) {
                 args.setFilenameCompatibleNames(true);
             }
+            if (options.threads() > 1) {
+                args.setThreads(options.threads());
+            }
 
         }
         return args;
@@ -0,0 +1,148 @@
+package io.cucumber.junit;
+
+import io.cucumber.core.exception.CucumberException;
+import org.junit.runner.Description;
+import org.junit.runner.notification.Failure;
+import org.junit.runner.notification.RunListener;
+import org.junit.runner.notification.RunNotifier;
+import org.junit.runner.notification.StoppedByUserException;
+import org.junit.runners.model.RunnerScheduler;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.Future;
+
+/**
+ * Executes pickles on a work stealing pool.
+ * <p>
+ * Feature runners using the {@link #pickleScheduler()} submit their pickles
+ * to the pool without waiting for them. So all pickles of all features are
+ * queued and large features are spread across threads.
+ * {@link #awaitPickles()} waits until they are finished.
+ */
+final class ParallelPickleScheduler {
+
+    private final Queue<Future<?>> pickles = new ConcurrentLinkedQueue<>();
+    private final ForkJoinPool pool;
+
+    ParallelPickleScheduler(int threads, ClassLoader classLoader) {
+        this.pool = new ForkJoinPool(threads, pool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setContextClassLoader(classLoader);
+            return thread;
+        }, null, false);
+    }
+
+    RunnerScheduler pickleScheduler() {
+        return new RunnerScheduler() {
+            @Override
+            public void schedule(Runnable childStatement) {
+                pickles.add(pool.submit(childStatement));
+            }
+
+            @Override
+            public void finished() {
+                // Pickles are awaited by awaitPickles
+            }
+        };
+    }
+
+    void awaitPickles() {
+        Throwable firstError = null;
+        try {
+            Future<?> pickle;
+            while ((pickle = pickles.poll()) != null) {
+                try {
+                    pickle.get();
+                } catch (ExecutionException e) {
+                    if (firstError == null) {
+                        firstError = e.getCause();
+                    }
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            firstError = e;
+        } finally {
+            pool.shutdownNow();
+        }
+        if (firstError instanceof RuntimeException) {
+            throw (RuntimeException) firstError;
+        }
+        if (firstError instanceof Error) {
+            throw (Error) firstError;
+        }
+        if (firstError != null) {
+            throw new CucumberException(firstError);
+        }
+    }
+
+    /**
+     * Serializes notifications from pickles executed in parallel.
+     */
+    static final class SynchronizedRunNotifier extends RunNotifier {
+        private final RunNotifier delegate;
+
+        SynchronizedRunNotifier(RunNotifier delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public synchronized void addListener(RunListener listener) {
+            delegate.addListener(listener);
+        }
+
+        @Override
+        public synchronized void removeListener(RunListener listener) {
+            delegate.removeListener(listener);
+        }
+
+        @Override
+        public synchronized void fireTestRunStarted(Description description) {
+            delegate.fireTestRunStarted(description);
+        }
+
+        @Override
+        public synchronized void fireTestRunFinished(org.junit.runner.Result result) {
+            delegate.fireTestRunFinished(result);
+        }
+
+        @Override
+        public synchronized void fireTestStarted(Description description) throws StoppedByUserException {
+            delegate.fireTestStarted(description);
+        }
+
+        @Override
+        public synchronized void fireTestFailure(Failure failure) {
+            delegate.fireTestFailure(failure);
+        }
+
+        @Override
+        public synchronized void fireTestAssumptionFailed(Failure failure) {
+            delegate.fireTestAssumptionFailed(failure);
+        }
+
+        @Override
+        public synchronized void fireTestIgnored(Description description) {
+            delegate.fireTestIgnored(description);
+        }
+
+        @Override
+        public synchronized void fireTestFinished(Description description) {
+            delegate.fireTestFinished(description);
+        }
+
+        @Override
+        public synchronized void pleaseStop() {
+            delegate.pleaseStop();
+        }
+
+        @Override
+        public synchronized void addFirstListener(RunListener listener) {
+            delegate.addFirstListener(listener);
+        }
+    }
+}
@@ -24,6 +24,7 @@ import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
 
 import static java.util.Collections.emptyList;
 import static org.hamcrest.CoreMatchers.is;
@@ -147,6 +148,35 @@ public class CucumberTest {
         }
     }
 
+    @Test
+    public void cucumber_can_schedule_pickles_on_multiple_threads() throws Exception {
+        RunNotifier notifier = new RunNotifier();
+        RunListener listener = Mockito.mock(RunListener.class);
+        notifier.addListener(listener);
+        StubBackendProviderService.worldThreads.clear();
+        StubBackendProviderService.concurrentWorlds = new CountDownLatch(2);
+        try {
+            new Cucumber(ValidEmptyInParallel.class).run(notifier);
+        } finally {
+            StubBackendProviderService.concurrentWorlds = null;
+        }
+        assertThat(StubBackendProviderService.worldThreads.size(), is(2));
+        Mockito.verify(listener, Mockito.never()).testStarted(argThat(new DescriptionMatcher("Feature: Feature A")));
+        Mockito.verify(listener, Mockito.never()).testStarted(argThat(new DescriptionMatcher("Feature: Feature B")));
+        {
+            InOrder order = Mockito.inOrder(listener);
+            order.verify(listener).testStarted(argThat(new DescriptionMatcher("A good start(Feature A)")));
+            order.verify(listener).testFinished(argThat(new DescriptionMatcher("A good start(Feature A)")));
+        }
+        {
+            InOrder order = Mockito.inOrder(listener);
+            order.verify(listener).testStarted(argThat(new DescriptionMatcher("A(Feature B)")));
+            order.verify(listener).testFinished(argThat(new DescriptionMatcher("A(Feature B)")));
+        }
+        Mockito.verify(listener, Mockito.times(3)).testFinished(argThat(new DescriptionMatcher("Followed by some examples(Feature A)")));
+        Mockito.verify(listener, Mockito.times(2)).testFinished(argThat(new DescriptionMatcher("C(Feature B)")));
+    }
+
     @Test
     public void cucumber_returns_description_tree_with_features_and_pickles() throws InitializationError {
         Description description = new Cucumber(ValidEmpty.class).getDescription();
@@ -163,6 +193,11 @@ public class CucumberTest {
     public class ValidEmpty {
     }
 
+    @RunWith(Cucumber.class)
+    @CucumberOptions(threads = 2)
+    public class ValidEmptyInParallel {
+    }
+
     @RunWith(Cucumber.class)
     private class ValidIgnored {
         public void ignoreMe() {
@@ -14,9 +14,21 @@ import java.net.URI;
 import java.text.MessageFormat;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
 
 public class StubBackendProviderService implements BackendProviderService {
 
+    /**
+     * When set each world waits until the latch is released, so the worlds
+     * of that many pickles are built concurrently.
+     */
+    static volatile CountDownLatch concurrentWorlds;
+    static final Set<String> worldThreads = ConcurrentHashMap.newKeySet();
+
     @Override
     public Backend create(Lookup lookup, Container container, ResourceLoader resourceLoader) {
         return new StubBackend();
@@ -36,6 +48,17 @@ public class StubBackendProviderService implements BackendProviderService {
 
         @Override
         public void buildWorld() {
+            worldThreads.add(Thread.currentThread().getName());
+            CountDownLatch latch = concurrentWorlds;
+            if (latch == null) {
+                return;
+            }
+            latch.countDown();
+            try {
+                latch.await(10, SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
         }
 
         @Override
@@ -0,0 +1,40 @@
+package io.cucumber.openejb;
+
+import org.apiguardian.api.API;
+
+@API(status = API.Status.EXPERIMENTAL)
+public final class Constants {
+
+    /**
+     * Property name used to select how the embedded EJB container is used:
+     * {@value}
+     * <p>
+     * Valid values are:
+     * <ul>
+     * <li>{@code scenario} - start a new container for each scenario</li>
+     * <li>{@code suite} - start one container and reuse it for all
+     * scenarios. The container is shared by all threads and closed when the
+     * JVM exits. Glue classes are still created and injected for each
+     * scenario. Implement {@link ContainerReset} to restore isolation
+     * between scenarios. All runners must use the same glue, because the
+     * glue classes are registered when the container is started.</li>
+     * </ul>
+     * <p>
+     * Defaults to {@code scenario}.
+     */
+    public static final String OPENEJB_CONTAINER_PROPERTY_NAME = "cucumber.openejb.container";
+
+    /**
+     * Property name used to list the {@link ContainerReset} implementations
+     * called after each scenario when the container is reused: {@value}
+     * <p>
+     * A comma separated list of class names. Glue classes, i.e. classes that
+     * declare step definitions or hooks, that implement
+     * {@link ContainerReset} are called too and do not have to be listed.
+     */
+    public static final String OPENEJB_CONTAINER_RESET_PROPERTY_NAME = "cucumber.openejb.container-reset";
+
+    private Constants() {
+
+    }
+}
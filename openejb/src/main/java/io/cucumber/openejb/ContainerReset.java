@@ -0,0 +1,28 @@
+package io.cucumber.openejb;
+
+import org.apiguardian.api.API;
+
+import javax.ejb.embeddable.EJBContainer;
+
+/**
+ * Restores isolation between scenarios when the container is reused.
+ * <p>
+ * Implementations are called after each scenario, after all after hooks have
+ * run, when {@value Constants#OPENEJB_CONTAINER_PROPERTY_NAME} is
+ * {@code suite}. Implementations must either be listed in
+ * {@value Constants#OPENEJB_CONTAINER_RESET_PROPERTY_NAME} or be glue
+ * classes, i.e. declare step definitions or hooks. Like glue classes they
+ * are injected by the container and can e.g. clear the tables of an injected
+ * entity manager or reset a singleton bean.
+ */
+@API(status = API.Status.EXPERIMENTAL)
+public interface ContainerReset {
+
+    /**
+     * Resets the state of the container.
+     *
+     * @param container the container that will be used by the next scenario
+     * @throws Exception when the container could not be reset
+     */
+    void reset(EJBContainer container) throws Exception;
+}
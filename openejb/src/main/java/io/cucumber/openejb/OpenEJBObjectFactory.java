@@ -1,26 +1,109 @@
 package io.cucumber.openejb;
 
+import io.cucumber.core.backend.ContainerScope;
 import io.cucumber.core.exception.CucumberException;
 import io.cucumber.core.backend.ObjectFactory;
+import io.cucumber.core.options.CucumberProperties;
 import org.apache.openejb.OpenEjbContainer;
 import org.apiguardian.api.API;
 
 import javax.ejb.embeddable.EJBContainer;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
+import java.util.Set;
+import java.util.TreeSet;
 
+import static io.cucumber.openejb.Constants.OPENEJB_CONTAINER_PROPERTY_NAME;
+import static io.cucumber.openejb.Constants.OPENEJB_CONTAINER_RESET_PROPERTY_NAME;
+import static java.util.Collections.emptyList;
+
+/**
+ * OpenEJB based implementation of ObjectFactory.
+ * <p>
+ * By default an embedded container is started for each scenario. When
+ * {@value Constants#OPENEJB_CONTAINER_PROPERTY_NAME} is {@code suite} one
+ * container is started and shared by all scenarios. OpenEJB allows only one
+ * embedded container at a time so this container is shared between threads
+ * too. The {@link ContainerReset} implementations listed in
+ * {@value Constants#OPENEJB_CONTAINER_RESET_PROPERTY_NAME} and glue classes
+ * implementing it are called after each scenario.
+ */
 @API(status = API.Status.STABLE)
 public final class OpenEJBObjectFactory implements ObjectFactory {
-    private final List<String> classes = new ArrayList<String>();
+    private static EJBContainer sharedContainer;
+    private static Set<String> sharedContainerCallers;
+
+    private final boolean reuseContainer;
+    private final Set<String> classes = new LinkedHashSet<>();
+    private final Set<Class<? extends ContainerReset>> resets = new LinkedHashSet<>();
     private final Map<Class<?>, Object> instances = new HashMap<Class<?>, Object>();
     private EJBContainer container;
 
+    public OpenEJBObjectFactory() {
+        this(CucumberProperties.create());
+    }
+
+    private OpenEJBObjectFactory(Map<String, String> properties) {
+        this(
+            ContainerScope.parse(OPENEJB_CONTAINER_PROPERTY_NAME, properties.get(OPENEJB_CONTAINER_PROPERTY_NAME)) == ContainerScope.SUITE,
+            parseContainerResets(properties.get(OPENEJB_CONTAINER_RESET_PROPERTY_NAME))
+        );
+    }
+
+    OpenEJBObjectFactory(boolean reuseContainer) {
+        this(reuseContainer, emptyList());
+    }
+
+    OpenEJBObjectFactory(boolean reuseContainer, Collection<Class<? extends ContainerReset>> resets) {
+        this.reuseContainer = reuseContainer;
+        for (Class<? extends ContainerReset> reset : resets) {
+            // Resets are injected like glue classes
+            addClass(reset);
+        }
+    }
+
+    static List<Class<? extends ContainerReset>> parseContainerResets(String classNames) {
+        List<Class<? extends ContainerReset>> resets = new ArrayList<>();
+        if (classNames == null) {
+            return resets;
+        }
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        for (String className : classNames.split(",")) {
+            className = className.trim();
+            if (className.isEmpty()) {
+                continue;
+            }
+            Class<?> clazz;
+            try {
+                clazz = Class.forName(className, false, classLoader);
+            } catch (ClassNotFoundException e) {
+                throw new CucumberException(OPENEJB_CONTAINER_RESET_PROPERTY_NAME + " contains " + className + " which could not be loaded", e);
+            }
+            if (!ContainerReset.class.isAssignableFrom(clazz)) {
+                throw new CucumberException(OPENEJB_CONTAINER_RESET_PROPERTY_NAME + " contains " + className + " which does not implement " + ContainerReset.class.getName());
+            }
+            resets.add(clazz.asSubclass(ContainerReset.class));
+        }
+        return resets;
+    }
+
     @Override
     public void start() {
+        if (reuseContainer) {
+            container = getSharedContainer(classes);
+        } else {
+            container = EJBContainer.createEJBContainer(createProperties(classes));
+        }
+    }
+
+    private static Properties createProperties(Set<String> classes) {
         final StringBuilder callers = new StringBuilder();
         for (Iterator<String> it = classes.iterator(); it.hasNext(); ) {
             callers.append(it.next());
@@ -31,18 +114,62 @@ public final class OpenEJBObjectFactory implements ObjectFactory {
 
         Properties properties = new Properties();
         properties.setProperty(OpenEjbContainer.Provider.OPENEJB_ADDITIONNAL_CALLERS_KEY, callers.toString());
-        container = EJBContainer.createEJBContainer(properties);
+        return properties;
+    }
+
+    private static synchronized EJBContainer getSharedContainer(Set<String> callers) {
+        if (sharedContainer == null) {
+            sharedContainer = EJBContainer.createEJBContainer(createProperties(callers));
+            sharedContainerCallers = new HashSet<>(callers);
+            Runtime.getRuntime().addShutdownHook(new Thread(OpenEJBObjectFactory::closeSharedContainer, "cucumber-openejb-shutdown"));
+        } else if (!sharedContainerCallers.containsAll(callers)) {
+            // Callers are only injected when the container is created
+            Set<String> missing = new TreeSet<>(callers);
+            missing.removeAll(sharedContainerCallers);
+            throw new CucumberException("" +
+                "The shared OpenEJB container was started without " + missing + ". " +
+                "All runners that share the container must use the same glue.");
+        }
+        return sharedContainer;
+    }
+
+    static synchronized void closeSharedContainer() {
+        if (sharedContainer != null) {
+            sharedContainer.close();
+            sharedContainer = null;
+            sharedContainerCallers = null;
+        }
     }
 
     @Override
     public void stop() {
-        container.close();
-        instances.clear();
+        try {
+            if (reuseContainer) {
+                reset();
+            } else {
+                container.close();
+            }
+        } finally {
+            instances.clear();
+        }
+    }
+
+    private void reset() {
+        for (Class<? extends ContainerReset> reset : resets) {
+            try {
+                getInstance(reset).reset(container);
+            } catch (Exception e) {
+                throw new CucumberException("can't reset container with " + reset.getName(), e);
+            }
+        }
     }
 
     @Override
     public boolean addClass(Class<?> clazz) {
         classes.add(clazz.getName());
+        if (ContainerReset.class.isAssignableFrom(clazz)) {
+            resets.add(clazz.asSubclass(ContainerReset.class));
+        }
         return true;
     }
 
@@ -55,7 +182,10 @@ public final class OpenEJBObjectFactory implements ObjectFactory {
         T object;
         try {
             object = type.newInstance();
-            container.getContext().bind("inject", object);
+            // The container may be shared by several threads
+            synchronized (container) {
+                container.getContext().bind("inject", object);
+            }
         } catch (Exception e) {
             throw new CucumberException("can't create " + type.getName(), e);
         }
@@ -63,4 +193,3 @@ public final class OpenEJBObjectFactory implements ObjectFactory {
         return object;
     }
 }
-
@@ -0,0 +1,13 @@
+package io.cucumber.openejb;
+
+import javax.ejb.embeddable.EJBContainer;
+
+public class BellyReset implements ContainerReset {
+
+    static int resets;
+
+    @Override
+    public void reset(EJBContainer container) {
+        resets++;
+    }
+}
@@ -1,12 +1,23 @@
 package io.cucumber.openejb;
 
 import io.cucumber.core.backend.ObjectFactory;
+import io.cucumber.core.exception.CucumberException;
+import org.junit.After;
 import org.junit.Test;
 
+import static java.util.Collections.singletonList;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.fail;
 
 public class OpenEJBObjectFactoryTest {
+
+    @After
+    public void closeSharedContainer() {
+        OpenEJBObjectFactory.closeSharedContainer();
+    }
+
     @Test
     public void shouldGiveUsNewInstancesForEachScenario() {
         ObjectFactory factory = new OpenEJBObjectFactory();
@@ -26,4 +37,69 @@ public class OpenEJBObjectFactoryTest {
         assertNotSame(o1, o2);
     }
 
+    @Test
+    public void shouldResetReusedContainerAfterEachScenario() {
+        BellyReset.resets = 0;
+        ObjectFactory factory = new OpenEJBObjectFactory(true);
+        factory.addClass(BellyStepdefs.class);
+        factory.addClass(BellyReset.class);
+
+        // Scenario 1
+        factory.start();
+        BellyStepdefs o1 = factory.getInstance(BellyStepdefs.class);
+        factory.stop();
+
+        // Scenario 2
+        factory.start();
+        BellyStepdefs o2 = factory.getInstance(BellyStepdefs.class);
+        factory.stop();
+
+        assertNotNull(o1);
+        assertNotSame(o1, o2);
+        assertEquals(2, BellyReset.resets);
+    }
+
+    @Test
+    public void shouldResetReusedContainerWithResetsThatAreNotGlue() {
+        BellyReset.resets = 0;
+        ObjectFactory factory = new OpenEJBObjectFactory(true, OpenEJBObjectFactory.parseContainerResets(" io.cucumber.openejb.BellyReset, "));
+        factory.addClass(BellyStepdefs.class);
+
+        factory.start();
+        factory.getInstance(BellyStepdefs.class);
+        factory.stop();
+
+        assertEquals(1, BellyReset.resets);
+    }
+
+    @Test
+    public void shouldNotAcceptResetsThatDoNotImplementContainerReset() {
+        try {
+            OpenEJBObjectFactory.parseContainerResets("io.cucumber.openejb.BellyStepdefs");
+            fail();
+        } catch (CucumberException e) {
+            assertEquals("" +
+                "cucumber.openejb.container-reset contains io.cucumber.openejb.BellyStepdefs " +
+                "which does not implement io.cucumber.openejb.ContainerReset", e.getMessage());
+        }
+    }
+
+    @Test
+    public void shouldNotShareContainerWithFactoriesThatHaveOtherGlue() {
+        ObjectFactory first = new OpenEJBObjectFactory(true);
+        first.addClass(BellyStepdefs.class);
+        first.start();
+        first.stop();
+
+        ObjectFactory second = new OpenEJBObjectFactory(true, singletonList(BellyReset.class));
+        second.addClass(BellyStepdefs.class);
+        try {
+            second.start();
+            fail();
+        } catch (CucumberException e) {
+            assertEquals("" +
+                "The shared OpenEJB container was started without [io.cucumber.openejb.BellyReset]. " +
+                "All runners that share the container must use the same glue.", e.getMessage());
+        }
+    }
 }
@@ -1,52 +1,130 @@
 package io.cucumber.picocontainer;
 
 import io.cucumber.core.backend.ObjectFactory;
+import io.cucumber.core.exception.CucumberException;
 import io.cucumber.core.reflection.Reflections;
 import org.apiguardian.api.API;
+import org.picocontainer.ComponentAdapter;
 import org.picocontainer.MutablePicoContainer;
 import org.picocontainer.PicoBuilder;
 
 import java.lang.reflect.Constructor;
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.Set;
 
+/**
+ * Creates a new container for each scenario.
+ * <p>
+ * The components are registered once with a template container. For each
+ * scenario a child of the suite container is created that caches the
+ * instances of the template components. Classes annotated with
+ * {@link SuiteScoped} are registered with the suite container. The suite
+ * container is stopped and disposed when the JVM shuts down.
+ */
 @API(status = API.Status.STABLE)
 public final class PicoFactory implements ObjectFactory {
     private MutablePicoContainer pico;
+    private MutablePicoContainer suite;
+    private Collection<ComponentAdapter<?>> template;
     private final Set<Class<?>> classes = new HashSet<>();
+    private final Set<Class<?>> suiteClasses = new HashSet<>();
 
     public void start() {
-        pico = new PicoBuilder()
+        if (template == null) {
+            createTemplate();
+        }
+        pico = new PicoBuilder(suite)
             .withCaching()
             .withLifecycle()
             .build();
-        for (Class<?> clazz : classes) {
-            pico.addComponent(clazz);
+        for (ComponentAdapter<?> adapter : template) {
+            pico.addAdapter(adapter);
         }
         pico.start();
     }
 
+    private void createTemplate() {
+        if (suite == null) {
+            suite = new PicoBuilder()
+                .withCaching()
+                .withLifecycle()
+                .build();
+            suite.start();
+            // The object factory is not told when the test run ends.
+            Runtime.getRuntime().addShutdownHook(new Thread(this::disposeSuite, "cucumber-picocontainer-suite"));
+        }
+        for (Class<?> clazz : suiteClasses) {
+            if (suite.getComponentAdapter(clazz) == null) {
+                // Components added to a started container are started too.
+                suite.addComponent(clazz);
+            }
+        }
+
+        // Not caching, the per scenario containers cache the instances.
+        MutablePicoContainer templateContainer = new PicoBuilder()
+            .withLifecycle()
+            .build();
+        for (Class<?> clazz : classes) {
+            templateContainer.addComponent(clazz);
+        }
+        template = templateContainer.getComponentAdapters();
+    }
+
     public void stop() {
         pico.stop();
         pico.dispose();
     }
 
+    synchronized void disposeSuite() {
+        if (suite == null) {
+            return;
+        }
+        suite.stop();
+        suite.dispose();
+        suite = null;
+        template = null;
+    }
+
     public boolean addClass(Class<?> clazz) {
-        if (Reflections.isInstantiable(clazz) && classes.add(clazz)) {
-            addConstructorDependencies(clazz);
+        if (clazz.isAnnotationPresent(SuiteScoped.class)) {
+            addSuiteClass(clazz);
+        } else if (Reflections.isInstantiable(clazz) && !suiteClasses.contains(clazz) && classes.add(clazz)) {
+            template = null;
+            for (Class<?> paramClazz : constructorDependencies(clazz)) {
+                addClass(paramClazz);
+            }
         }
         return true;
     }
 
+    private void addSuiteClass(Class<?> clazz) {
+        if (Reflections.isInstantiable(clazz) && suiteClasses.add(clazz)) {
+            template = null;
+            for (Class<?> paramClazz : constructorDependencies(clazz)) {
+                if (!paramClazz.isAnnotationPresent(SuiteScoped.class)) {
+                    throw new CucumberException(String.format("" +
+                            "%s is annotated with @SuiteScoped but depends on %s which is not. " +
+                            "A suite scoped class can only depend on other suite scoped classes, " +
+                            "otherwise scenarios would share an instance of %s.",
+                        clazz.getName(), paramClazz.getName(), paramClazz.getSimpleName()));
+                }
+                addSuiteClass(paramClazz);
+            }
+        }
+    }
+
     public <T> T getInstance(Class<T> type) {
         return pico.getComponent(type);
     }
 
-    private void addConstructorDependencies(Class<?> clazz) {
+    private static Set<Class<?>> constructorDependencies(Class<?> clazz) {
+        Set<Class<?>> dependencies = new HashSet<>();
         for (Constructor constructor : clazz.getConstructors()) {
             for (Class paramClazz : constructor.getParameterTypes()) {
-                addClass(paramClazz);
+                dependencies.add(paramClazz);
             }
         }
+        return dependencies;
     }
 }
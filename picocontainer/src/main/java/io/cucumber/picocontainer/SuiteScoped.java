@@ -0,0 +1,28 @@
+package io.cucumber.picocontainer;
+
+import org.apiguardian.api.API;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * Marks a class that is created once and shared by all scenarios, rather than
+ * being created for each scenario.
+ * <p>
+ * Suite scoped classes live in a parent container of the scenario container.
+ * Their constructor dependencies must be suite scoped too. Suite scoped
+ * classes are started before the first scenario and are stopped and disposed
+ * when the JVM shuts down.
+ * <p>
+ * Use this for expensive collaborators without scenario state such as http
+ * clients and connection pools. When scenarios are executed in parallel each
+ * thread has its own instance.
+ */
+@Target(TYPE)
+@Retention(RUNTIME)
+@API(status = API.Status.EXPERIMENTAL)
+public @interface SuiteScoped {
+}
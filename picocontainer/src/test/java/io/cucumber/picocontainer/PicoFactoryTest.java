@@ -1,12 +1,17 @@
 package io.cucumber.picocontainer;
 
 import io.cucumber.core.backend.ObjectFactory;
+import io.cucumber.core.exception.CucumberException;
 import org.junit.Test;
+import org.picocontainer.Disposable;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 public class PicoFactoryTest {
     @Test
@@ -47,4 +52,91 @@ public class PicoFactoryTest {
         // Then
         assertTrue(steps.getBelly().isDisposed());
     }
+
+    @Test
+    public void shouldShareSuiteScopedInstancesBetweenScenarios() {
+        ObjectFactory factory = new PicoFactory();
+        factory.addClass(HttpStepDefs.class);
+
+        // Scenario 1
+        factory.start();
+        HttpStepDefs o1 = factory.getInstance(HttpStepDefs.class);
+        factory.stop();
+
+        // Scenario 2
+        factory.start();
+        HttpStepDefs o2 = factory.getInstance(HttpStepDefs.class);
+        factory.stop();
+
+        assertNotSame(o1, o2);
+        assertSame(o1.client, o2.client);
+        assertSame(o1.client.pool, o2.client.pool);
+        assertFalse(o1.client.pool.isDisposed());
+    }
+
+    @Test
+    public void shouldDisposeSuiteScopedInstancesWithTheSuite() {
+        PicoFactory factory = new PicoFactory();
+        factory.addClass(HttpStepDefs.class);
+
+        factory.start();
+        HttpStepDefs steps = factory.getInstance(HttpStepDefs.class);
+        factory.stop();
+        factory.disposeSuite();
+
+        assertTrue(steps.client.pool.isDisposed());
+    }
+
+    @Test
+    public void shouldNotAllowSuiteScopedClassesToDependOnScenarioScopedClasses() {
+        ObjectFactory factory = new PicoFactory();
+        try {
+            factory.addClass(LeakyHttpClient.class);
+            fail();
+        } catch (CucumberException e) {
+            assertEquals("" +
+                    "io.cucumber.picocontainer.PicoFactoryTest$LeakyHttpClient is annotated with @SuiteScoped " +
+                    "but depends on io.cucumber.picocontainer.DisposableCucumberBelly which is not. " +
+                    "A suite scoped class can only depend on other suite scoped classes, " +
+                    "otherwise scenarios would share an instance of DisposableCucumberBelly.",
+                e.getMessage());
+        }
+    }
+
+    public static class HttpStepDefs {
+        final HttpClient client;
+
+        public HttpStepDefs(HttpClient client) {
+            this.client = client;
+        }
+    }
+
+    @SuiteScoped
+    public static class HttpClient {
+        final ConnectionPool pool;
+
+        public HttpClient(ConnectionPool pool) {
+            this.pool = pool;
+        }
+    }
+
+    @SuiteScoped
+    public static class ConnectionPool implements Disposable {
+        private boolean disposed;
+
+        @Override
+        public void dispose() {
+            disposed = true;
+        }
+
+        boolean isDisposed() {
+            return disposed;
+        }
+    }
+
+    @SuiteScoped
+    public static class LeakyHttpClient {
+        public LeakyHttpClient(DisposableCucumberBelly belly) {
+        }
+    }
 }
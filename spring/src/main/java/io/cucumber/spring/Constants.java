@@ -0,0 +1,29 @@
+package io.cucumber.spring;
+
+import org.apiguardian.api.API;
+
+@API(status = API.Status.EXPERIMENTAL)
+public final class Constants {
+
+    /**
+     * Property name used to share the application context between threads:
+     * {@value}
+     * <p>
+     * When {@code true} the application context is created once and shared
+     * by all threads that execute scenarios. Beans in the
+     * {@value CucumberTestContext#SCOPE_CUCUMBER_GLUE} scope, including the
+     * step definitions, are still created for each scenario on each thread.
+     * <p>
+     * Because the context is shared glue classes may not be annotated with
+     * {@link org.springframework.test.annotation.DirtiesContext}. Scenarios
+     * that modify application beans should reset them in an after hook.
+     * <p>
+     * Defaults to {@code false}, each thread creates its own application
+     * context.
+     */
+    public static final String SPRING_SHARED_CONTEXT_PROPERTY_NAME = "cucumber.spring.shared-context";
+
+    private Constants() {
+
+    }
+}
@@ -51,6 +51,8 @@ abstract class FixBootstrapUtils {
         }
     };
 
+    private static final ContextCache sharedContextCache = new DefaultContextCache();
+
     private static final String DEFAULT_TEST_CONTEXT_BOOTSTRAPPER_CLASS_NAME =
 			"org.springframework.test.context.support.DefaultTestContextBootstrapper";
 
@@ -60,8 +62,10 @@ abstract class FixBootstrapUtils {
 	private static final String WEB_APP_CONFIGURATION_ANNOTATION_CLASS_NAME =
 			"org.springframework.test.context.web.WebAppConfiguration";
 
-    static BootstrapContext createBootstrapContext(Class<?> testClass) {
-        CacheAwareContextLoaderDelegate contextLoader = new DefaultCacheAwareContextLoaderDelegate(contextCache.get());
+    static BootstrapContext createBootstrapContext(Class<?> testClass, boolean sharedContext) {
+        // DefaultCacheAwareContextLoaderDelegate synchronizes on the cache while loading a context.
+        ContextCache cache = sharedContext ? sharedContextCache : contextCache.get();
+        CacheAwareContextLoaderDelegate contextLoader = new DefaultCacheAwareContextLoaderDelegate(cache);
         return new DefaultBootstrapContext(testClass, contextLoader);
     }
 
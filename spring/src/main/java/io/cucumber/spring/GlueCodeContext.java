@@ -2,6 +2,7 @@ package io.cucumber.spring;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
 
 class GlueCodeContext {
 
@@ -11,9 +12,12 @@ class GlueCodeContext {
         }
     };
 
+    // Conversation ids must be unique across threads sharing a context.
+    private static final AtomicLong counter = new AtomicLong();
+
     private final Map<String, Object> objects = new HashMap<String, Object>();
     private final Map<String, Runnable> callbacks = new HashMap<String, Runnable>();
-    private int counter;
+    private long id;
 
     private GlueCodeContext() {
     }
@@ -24,11 +28,11 @@ class GlueCodeContext {
 
     public void start() {
         cleanUp();
-        counter++;
+        id = counter.incrementAndGet();
     }
 
     public String getId() {
-        return "cucumber_glue_" + counter;
+        return "cucumber_glue_" + id;
     }
 
     public void stop() {
@@ -2,6 +2,7 @@ package io.cucumber.spring;
 
 import io.cucumber.core.backend.ObjectFactory;
 import io.cucumber.core.exception.CucumberException;
+import io.cucumber.core.options.CucumberProperties;
 import org.apiguardian.api.API;
 import org.springframework.beans.BeansException;
 import org.springframework.beans.factory.config.BeanDefinition;
@@ -12,6 +13,7 @@ import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.context.support.ClassPathXmlApplicationContext;
 import org.springframework.context.support.GenericApplicationContext;
 import org.springframework.stereotype.Component;
+import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.context.BootstrapWith;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.ContextHierarchy;
@@ -24,7 +26,10 @@ import java.util.Collections;
 import java.util.Deque;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
+import static io.cucumber.spring.Constants.SPRING_SHARED_CONTEXT_PROPERTY_NAME;
 import static io.cucumber.spring.CucumberTestContext.SCOPE_CUCUMBER_GLUE;
 import static io.cucumber.spring.FixBootstrapUtils.createBootstrapContext;
 import static io.cucumber.spring.FixBootstrapUtils.resolveTestContextBootstrapper;
@@ -61,16 +66,34 @@ import static java.util.Arrays.asList;
  * If more that one step definition class is used to configure the spring context an exception will be thrown.
  * </li>
  * </ul>
+ * <p>
+ * By default each thread creates its own application context. When
+ * {@value Constants#SPRING_SHARED_CONTEXT_PROPERTY_NAME} is {@code true} the
+ * application context is created once and shared by all threads. The
+ * {@value CucumberTestContext#SCOPE_CUCUMBER_GLUE} scope remains confined to
+ * the thread executing the scenario. A shared context can not be marked dirty
+ * and glue classes annotated with @{@link DirtiesContext} will be rejected.
  */
 @API(status = API.Status.STABLE)
 public final class SpringFactory implements ObjectFactory {
 
+    private static final ConcurrentMap<Set<Class<?>>, ConfigurableListableBeanFactory> sharedFallbackContexts = new ConcurrentHashMap<>();
+
+    private final boolean sharedContext;
     private ConfigurableListableBeanFactory beanFactory;
     private CucumberTestContextManager testContextManager;
 
     private final Collection<Class<?>> stepClasses = new HashSet<>();
     private Class<?> stepClassWithSpringContext = null;
 
+    public SpringFactory() {
+        this(Boolean.parseBoolean(CucumberProperties.create().get(SPRING_SHARED_CONTEXT_PROPERTY_NAME)));
+    }
+
+    SpringFactory(boolean sharedContext) {
+        this.sharedContext = sharedContext;
+    }
+
     @Override
     public boolean addClass(final Class<?> stepClass) {
         if (!stepClasses.contains(stepClass)) {
@@ -81,6 +104,13 @@ public final class SpringFactory implements ObjectFactory {
                         "Glue class %1$s and %2$s both attempt to configure the spring context. Please ensure only one " +
                         "glue class configures the spring context", stepClass, stepClassWithSpringContext));
                 }
+                if (sharedContext && dirtiesContext(stepClass)) {
+                    throw new CucumberException(String.format("" +
+                        "Glue class %1$s was annotated with @DirtiesContext while the spring context is shared between " +
+                        "threads. Marking a shared context dirty would close it while other scenarios are using it. " +
+                        "Please remove the @DirtiesContext annotation or set %2$s=false",
+                        stepClass.getName(), SPRING_SHARED_CONTEXT_PROPERTY_NAME));
+                }
                 stepClassWithSpringContext = stepClass;
             }
             stepClasses.add(stepClass);
@@ -101,6 +131,15 @@ public final class SpringFactory implements ObjectFactory {
         }
     }
 
+    private static boolean dirtiesContext(Class<?> type) {
+        for (Annotation annotation : type.getAnnotations()) {
+            if (hasAnnotation(annotation, Collections.singleton(DirtiesContext.class))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     private static boolean hasComponentAnnotation(Annotation annotation) {
         return hasAnnotation(annotation, Collections.singleton(Component.class));
     }
@@ -130,10 +169,13 @@ public final class SpringFactory implements ObjectFactory {
     @Override
     public void start() {
         if (stepClassWithSpringContext != null) {
-            testContextManager = new CucumberTestContextManager(stepClassWithSpringContext);
+            // A shared context is never marked dirty, the manager can be reused.
+            if (testContextManager == null || !sharedContext) {
+                testContextManager = new CucumberTestContextManager(stepClassWithSpringContext, sharedContext);
+            }
         } else {
             if (beanFactory == null) {
-                beanFactory = createFallbackContext();
+                beanFactory = sharedContext ? getSharedFallbackContext() : createFallbackContext();
             }
         }
         notifyContextManagerAboutTestClassStarted();
@@ -146,6 +188,10 @@ public final class SpringFactory implements ObjectFactory {
         GlueCodeContext.getInstance().start();
     }
 
+    private ConfigurableListableBeanFactory getSharedFallbackContext() {
+        return sharedFallbackContexts.computeIfAbsent(new HashSet<>(stepClasses), classes -> createFallbackContext());
+    }
+
     @SuppressWarnings("resource")
     private ConfigurableListableBeanFactory createFallbackContext() {
         ConfigurableApplicationContext applicationContext;
@@ -180,13 +226,20 @@ public final class SpringFactory implements ObjectFactory {
         return !beanFactory.equals(testContextManager.getBeanFactory());
     }
 
-    private void registerStepClassBeanDefinition(ConfigurableListableBeanFactory beanFactory, Class<?> stepClass) {
+    private static void registerStepClassBeanDefinition(ConfigurableListableBeanFactory beanFactory, Class<?> stepClass) {
         BeanDefinitionRegistry registry = (BeanDefinitionRegistry) beanFactory;
-        BeanDefinition beanDefinition = BeanDefinitionBuilder
-                .genericBeanDefinition(stepClass)
-                .setScope(SCOPE_CUCUMBER_GLUE)
-                .getBeanDefinition();
-        registry.registerBeanDefinition(stepClass.getName(), beanDefinition);
+        // The context may be shared with other threads or an earlier factory
+        // that already registered the step classes.
+        synchronized (registry) {
+            if (registry.containsBeanDefinition(stepClass.getName())) {
+                return;
+            }
+            BeanDefinition beanDefinition = BeanDefinitionBuilder
+                    .genericBeanDefinition(stepClass)
+                    .setScope(SCOPE_CUCUMBER_GLUE)
+                    .getBeanDefinition();
+            registry.registerBeanDefinition(stepClass.getName(), beanDefinition);
+        }
     }
 
     @Override
@@ -232,10 +285,11 @@ public final class SpringFactory implements ObjectFactory {
 
     static class CucumberTestContextManager extends TestContextManager {
 
-        CucumberTestContextManager(Class<?> testClass) {
+        CucumberTestContextManager(Class<?> testClass, boolean sharedContext) {
             // Does the same as TestContextManager(Class<?>) but creates a
-            // DefaultCacheAwareContextLoaderDelegate that uses a thread local contextCache.
-            super(resolveTestContextBootstrapper(createBootstrapContext(testClass)));
+            // DefaultCacheAwareContextLoaderDelegate that uses a thread local
+            // or, when the context is shared, a global contextCache.
+            super(resolveTestContextBootstrapper(createBootstrapContext(testClass, sharedContext)));
             registerGlueCodeScope(getContext());
         }
 
@@ -249,7 +303,13 @@ public final class SpringFactory implements ObjectFactory {
 
         private void registerGlueCodeScope(ConfigurableApplicationContext context) {
             do {
-                context.getBeanFactory().registerScope(SCOPE_CUCUMBER_GLUE, new GlueCodeScope());
+                ConfigurableListableBeanFactory beanFactory = context.getBeanFactory();
+                // The glue code scope is thread local, one instance will do.
+                synchronized (beanFactory) {
+                    if (beanFactory.getRegisteredScope(SCOPE_CUCUMBER_GLUE) == null) {
+                        beanFactory.registerScope(SCOPE_CUCUMBER_GLUE, new GlueCodeScope());
+                    }
+                }
                 context = (ConfigurableApplicationContext) context.getParent();
             } while (context != null);
         }
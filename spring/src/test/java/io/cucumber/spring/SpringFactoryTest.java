@@ -20,11 +20,18 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import java.util.concurrent.BrokenBarrierException;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
+import static java.util.concurrent.Executors.newFixedThreadPool;
 
 public class SpringFactoryTest {
 
@@ -264,4 +271,53 @@ public class SpringFactoryTest {
         assertNotSame(glue1, glue2);
         assertSame(belly1, belly2);
     }
+
+    @Test
+    public void shouldShareApplicationContextBetweenThreadsWhenContextIsShared() throws InterruptedException, ExecutionException {
+        ExecutorService executorService = newFixedThreadPool(2);
+        CyclicBarrier barrier = new CyclicBarrier(2);
+        try {
+            Future<BellyStepdefs> stepdefs1 = executorService.submit(() -> runScenarioWithSharedContext(BellyStepdefs.class, barrier));
+            Future<BellyStepdefs> stepdefs2 = executorService.submit(() -> runScenarioWithSharedContext(BellyStepdefs.class, barrier));
+
+            assertNotSame(stepdefs1.get(), stepdefs2.get());
+            assertSame(stepdefs1.get().getBellyBean(), stepdefs2.get().getBellyBean());
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
+    @Test
+    public void shouldConfineGlueScopeToThreadWhenContextIsShared() throws InterruptedException, ExecutionException {
+        ExecutorService executorService = newFixedThreadPool(2);
+        CyclicBarrier barrier = new CyclicBarrier(2);
+        try {
+            Future<GlueScopedComponent> glue1 = executorService.submit(() -> runScenarioWithSharedContext(GlueScopedComponent.class, barrier));
+            Future<GlueScopedComponent> glue2 = executorService.submit(() -> runScenarioWithSharedContext(GlueScopedComponent.class, barrier));
+
+            assertNotSame(glue1.get(), glue2.get());
+            assertSame(glue1.get().getBelly(), glue2.get().getBelly());
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
+    private static <T> T runScenarioWithSharedContext(Class<T> type, CyclicBarrier barrier) throws InterruptedException, BrokenBarrierException {
+        ObjectFactory factory = new SpringFactory(true);
+        factory.addClass(BellyStepdefs.class);
+        factory.start();
+        T instance = factory.getInstance(type);
+        // Both scenarios are running, on different threads
+        barrier.await();
+        factory.stop();
+        return instance;
+    }
+
+    @Test
+    public void shouldFailIfClassWithDirtiesContextIsFoundWhenContextIsShared() {
+        expectedException.expect(CucumberException.class);
+        expectedException.expectMessage("Glue class io.cucumber.spring.dirtiescontextconfig.DirtiesContextBellyStepDefs was annotated with @DirtiesContext while the spring context is shared between threads");
+        final ObjectFactory factory = new SpringFactory(true);
+        factory.addClass(DirtiesContextBellyStepDefs.class);
+    }
 }
@@ -6,10 +6,26 @@ import org.testng.annotations.BeforeClass;
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
+import java.util.Collections;
+import java.util.Iterator;
+
 /**
  * Abstract TestNG Cucumber Test
  * <p>
  * Runs each cucumber scenario found in the features as separated test.
+ * <p>
+ * By default all features are parsed before the first scenario is executed.
+ * To parse features as the scenarios are executed, use the
+ * {@code scenarioIterator} data provider instead:
+ * <blockquote><pre>
+ * public class RunCucumberTest extends AbstractTestNGCucumberTests {
+ *     &#64;Override
+ *     &#64;Test(groups = "cucumber", description = "Runs Cucumber Scenarios", dataProvider = "scenarioIterator")
+ *     public void runScenario(PickleEventWrapper pickleWrapper, CucumberFeatureWrapper featureWrapper) throws Throwable {
+ *         super.runScenario(pickleWrapper, featureWrapper);
+ *     }
+ * }
+ * </pre></blockquote>
  *
  * @see TestNGCucumberRunner
  */
@@ -42,6 +58,22 @@ public abstract class AbstractTestNGCucumberTests {
         return testNGCucumberRunner.provideScenarios();
     }
 
+    /**
+     * Returns an iterator over the PickleEventWrapper scenarios with their
+     * associated CucumberFeatureWrapper feature. Features are parsed as the
+     * iterator reaches them.
+     *
+     * @return an iterator over scenarios and features.
+     * @see TestNGCucumberRunner#provideScenarioIterator()
+     */
+    @DataProvider
+    public Iterator<Object[]> scenarioIterator() {
+        if (testNGCucumberRunner == null) {
+            return Collections.emptyIterator();
+        }
+        return testNGCucumberRunner.provideScenarioIterator();
+    }
+
     @AfterClass(alwaysRun = true)
     public void tearDownClass() {
         if (testNGCucumberRunner == null) {
@@ -14,6 +14,8 @@ import io.cucumber.core.io.ClassFinder;
 import io.cucumber.core.io.MultiLoader;
 import io.cucumber.core.io.ResourceLoader;
 import io.cucumber.core.io.ResourceLoaderClassFinder;
+import io.cucumber.core.logging.Logger;
+import io.cucumber.core.logging.LoggerFactory;
 import io.cucumber.core.options.Constants;
 import io.cucumber.core.options.CucumberOptionsAnnotationParser;
 import io.cucumber.core.options.CucumberProperties;
@@ -34,7 +36,10 @@ import org.apiguardian.api.API;
 
 import java.time.Clock;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
 
 /**
  * Glue code for running Cucumber via TestNG.
@@ -49,6 +54,8 @@ import java.util.List;
  */
 @API(status = API.Status.STABLE)
 public final class TestNGCucumberRunner {
+    private static final Logger log = LoggerFactory.getLogger(TestNGCucumberRunner.class);
+
     private final EventBus bus;
     private final Filters filters;
     private final ThreadLocalRunnerSupplier runnerSupplier;
@@ -86,6 +93,10 @@ public final class TestNGCucumberRunner {
             .parse(CucumberProperties.fromSystemProperties())
             .build(environmentOptions);
 
+        if (runtimeOptions.isAnalyze()) {
+            log.warn("--analyze is only supported by the command line runner. The TestNG runner executes the scenarios.");
+        }
+
         FeatureLoader featureLoader = new FeatureLoader(resourceLoader);
         featureSupplier = new FeaturePathFeatureSupplier(featureLoader, runtimeOptions);
 
@@ -137,6 +148,78 @@ public final class TestNGCucumberRunner {
         }
     }
 
+    /**
+     * Returns an iterator over the cucumber scenarios, each combined with its
+     * feature, as {@link PickleEventWrapper} and {@link CucumberFeatureWrapper}.
+     * <p>
+     * Unlike {@link #provideScenarios()} features are parsed as the iterator
+     * reaches them and no scenarios are retained by the runner. So the first
+     * scenario can be executed before all features are parsed.
+     *
+     * @return an iterator over the scenarios and their features.
+     */
+    public Iterator<Object[]> provideScenarioIterator() {
+        try {
+            startTestRun();
+            return new ScenarioIterator(featureSupplier.iterator());
+        } catch (CucumberException e) {
+            return Collections.singletonList(new Object[]{new CucumberExceptionWrapper(e), null}).iterator();
+        }
+    }
+
+    private final class ScenarioIterator implements Iterator<Object[]> {
+        private final Iterator<CucumberFeature> features;
+        private CucumberFeatureWrapper feature;
+        private Iterator<PickleEvent> pickles = Collections.emptyIterator();
+        private Object[] next;
+        private boolean failed = false;
+
+        ScenarioIterator(Iterator<CucumberFeature> features) {
+            this.features = features;
+        }
+
+        @Override
+        public synchronized boolean hasNext() {
+            while (next == null && !failed) {
+                try {
+                    if (pickles.hasNext()) {
+                        PickleEvent pickle = pickles.next();
+                        if (filters.matchesFilters(pickle)) {
+                            next = new Object[]{new PickleEventWrapperImpl(pickle), feature};
+                        }
+                    } else if (features.hasNext()) {
+                        CucumberFeature cucumberFeature = features.next();
+                        bus.send(new TestSourceRead(bus.getInstant(), cucumberFeature.getUri().toString(), cucumberFeature.getSource()));
+                        feature = new CucumberFeatureWrapperImpl(cucumberFeature);
+                        pickles = cucumberFeature.getPickles().iterator();
+                    } else {
+                        return false;
+                    }
+                } catch (CucumberException e) {
+                    // Report the error as a scenario and stop
+                    failed = true;
+                    next = new Object[]{new CucumberExceptionWrapper(e), null};
+                }
+            }
+            return next != null;
+        }
+
+        @Override
+        public synchronized Object[] next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Object[] scenario = next;
+            next = null;
+            return scenario;
+        }
+    }
+
+    private void startTestRun() {
+        plugins.setSerialEventBusOnEventListenerPlugins(bus);
+        bus.send(new TestRunStarted(bus.getInstant()));
+    }
+
     private List<CucumberFeature> getFeatures() {
         plugins.setSerialEventBusOnEventListenerPlugins(bus);
 
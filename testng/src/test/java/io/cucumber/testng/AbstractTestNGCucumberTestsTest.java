@@ -43,4 +43,16 @@ public final class AbstractTestNGCucumberTestsTest {
         Assert.assertEquals(Collections.frequency(invokedTestMethodNames, "runScenario"), 3,
             "runScenario() must be invoked three times");
     }
+
+    @Test
+    public void runScenarioIsInvokedThreeTimesWithScenarioIterator() {
+        InvokedMethodListener icml = new InvokedMethodListener();
+        TestNG testNG = new TestNG();
+        testNG.addListener((ITestNGListener)icml);
+        testNG.setGroups("cucumber");
+        testNG.setTestClasses(new Class[]{RunFeatureWithThreeScenariosLazilyTest.class});
+        testNG.run();
+        Assert.assertEquals(Collections.frequency(icml.getInvokedTestMethodNames(), "runScenario"), 3,
+            "runScenario() must be invoked three times");
+    }
 }
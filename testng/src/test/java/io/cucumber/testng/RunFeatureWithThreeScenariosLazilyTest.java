@@ -0,0 +1,15 @@
+package io.cucumber.testng;
+
+import org.testng.annotations.Test;
+
+@CucumberOptions(
+    features = "classpath:io/cucumber/testng/three_scenarios.feature"
+)
+public class RunFeatureWithThreeScenariosLazilyTest extends AbstractTestNGCucumberTests {
+
+    @Override
+    @Test(groups = "cucumber", description = "Runs Cucumber Scenarios", dataProvider = "scenarioIterator")
+    public void runScenario(PickleEventWrapper pickleWrapper, CucumberFeatureWrapper featureWrapper) throws Throwable {
+        super.runScenario(pickleWrapper, featureWrapper);
+    }
+}
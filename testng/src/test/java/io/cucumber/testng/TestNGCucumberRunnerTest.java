@@ -5,6 +5,8 @@ import org.testng.Assert;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
+import java.util.Iterator;
+
 public class TestNGCucumberRunnerTest {
     private TestNGCucumberRunner testNGCucumberRunner;
 
@@ -48,6 +50,37 @@ public class TestNGCucumberRunnerTest {
         }
     }
 
+    @Test
+    public void scenario_iterator_provides_the_same_scenarios() {
+        Object[][] scenarios = testNGCucumberRunner.provideScenarios();
+        Iterator<Object[]> iterator = new TestNGCucumberRunner(RunCucumberTest.class).provideScenarioIterator();
+
+        for (Object[] scenario : scenarios) {
+            Assert.assertTrue(iterator.hasNext());
+            Object[] next = iterator.next();
+            Assert.assertEquals(
+                ((PickleEventWrapper) next[0]).getPickleEvent().pickle.getName(),
+                ((PickleEventWrapper) scenario[0]).getPickleEvent().pickle.getName()
+            );
+            Assert.assertEquals(next[1].toString(), scenario[1].toString());
+        }
+        Assert.assertFalse(iterator.hasNext());
+    }
+
+    @Test
+    public void parse_error_propagated_through_scenario_iterator() {
+        testNGCucumberRunner = new TestNGCucumberRunner(ParseError.class);
+        Iterator<Object[]> scenarios = testNGCucumberRunner.provideScenarioIterator();
+        Object[] scenario = scenarios.next();
+        try {
+            ((PickleEventWrapper) scenario[0]).getPickleEvent();
+            Assert.fail("CucumberException not thrown");
+        } catch (CucumberException e) {
+            Assert.assertEquals(e.getMessage(), "Failed to parse resource at: classpath:io/cucumber/error/parse-error.feature");
+        }
+        Assert.assertFalse(scenarios.hasNext());
+    }
+
     @CucumberOptions(
         features = "classpath:io/cucumber/testng/undefined_steps.feature",
         strict = true
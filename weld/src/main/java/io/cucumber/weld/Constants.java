@@ -0,0 +1,38 @@
+package io.cucumber.weld;
+
+import org.apiguardian.api.API;
+
+@API(status = API.Status.EXPERIMENTAL)
+public final class Constants {
+
+    /**
+     * Property name used to select how Weld containers are used: {@value}
+     * <p>
+     * Valid values are:
+     * <ul>
+     * <li>{@code scenario} - initialize a new container for each scenario</li>
+     * <li>{@code suite} - initialize one container and reuse it for all
+     * scenarios. Beans that hold scenario state should be
+     * {@link ScenarioScoped}.</li>
+     * <li>{@code pool} - initialize a new container for each scenario in the
+     * background while the previous scenarios are executed. See
+     * {@link #WELD_POOL_SIZE_PROPERTY_NAME}.</li>
+     * </ul>
+     * <p>
+     * Defaults to {@code scenario}.
+     */
+    public static final String WELD_CONTAINER_PROPERTY_NAME = "cucumber.weld.container";
+
+    /**
+     * Property name used to set the number of containers initialized ahead
+     * of time when {@value #WELD_CONTAINER_PROPERTY_NAME} is {@code pool}:
+     * {@value}
+     * <p>
+     * Defaults to {@code 1}.
+     */
+    public static final String WELD_POOL_SIZE_PROPERTY_NAME = "cucumber.weld.pool-size";
+
+    private Constants() {
+
+    }
+}
@@ -0,0 +1,59 @@
+package io.cucumber.weld;
+
+import io.cucumber.core.exception.CucumberException;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Initializes containers in the background so that starting a container
+ * overlaps with the execution of the previous scenarios. Containers are
+ * closed in the background too.
+ */
+final class ContainerPool {
+
+    private final Deque<Future<ScenarioContainer>> containers = new ArrayDeque<>();
+    private final Callable<ScenarioContainer> initializer;
+    private final ExecutorService executor;
+
+    ContainerPool(int size, Callable<ScenarioContainer> initializer) {
+        this.initializer = initializer;
+        // Bean discovery uses the context class loader.
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "cucumber-weld-container-pool");
+            thread.setContextClassLoader(classLoader);
+            thread.setDaemon(true);
+            return thread;
+        });
+        for (int i = 0; i < size; i++) {
+            containers.add(executor.submit(initializer));
+        }
+    }
+
+    ScenarioContainer take() {
+        Future<ScenarioContainer> next = containers.poll();
+        containers.add(executor.submit(initializer));
+        try {
+            return next.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CucumberException(e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new CucumberException(cause);
+        }
+    }
+
+    void release(ScenarioContainer container) {
+        executor.submit(container::close);
+    }
+}
@@ -0,0 +1,39 @@
+package io.cucumber.weld;
+
+import org.jboss.weld.environment.se.WeldContainer;
+
+/**
+ * A Weld container and its scenario context.
+ */
+final class ScenarioContainer {
+
+    private final WeldContainer container;
+    private final ScenarioContext context;
+
+    ScenarioContainer(WeldContainer container, ScenarioContext context) {
+        this.container = container;
+        this.context = context;
+    }
+
+    void startScenario() {
+        context.activate();
+    }
+
+    void stopScenario() {
+        context.deactivate();
+    }
+
+    boolean isRunning() {
+        return container.isRunning();
+    }
+
+    void close() {
+        if (container.isRunning()) {
+            container.close();
+        }
+    }
+
+    <T> T getInstance(Class<T> type) {
+        return container.select(type).get();
+    }
+}
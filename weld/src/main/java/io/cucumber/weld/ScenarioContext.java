@@ -0,0 +1,101 @@
+package io.cucumber.weld;
+
+import javax.enterprise.context.ContextNotActiveException;
+import javax.enterprise.context.spi.AlterableContext;
+import javax.enterprise.context.spi.Contextual;
+import javax.enterprise.context.spi.CreationalContext;
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Context for {@link ScenarioScoped} beans. Activated when a scenario starts
+ * and deactivated, destroying its instances, when the scenario ends.
+ */
+final class ScenarioContext implements AlterableContext {
+
+    private final Map<Contextual<?>, ScenarioInstance<?>> instances = new ConcurrentHashMap<>();
+    private volatile boolean active;
+
+    @Override
+    public Class<? extends Annotation> getScope() {
+        return ScenarioScoped.class;
+    }
+
+    @Override
+    public <T> T get(Contextual<T> contextual, CreationalContext<T> creationalContext) {
+        T instance = get(contextual);
+        if (instance != null) {
+            return instance;
+        }
+        // Not using computeIfAbsent, creating a bean may create other beans in
+        // this scope.
+        synchronized (this) {
+            instance = get(contextual);
+            if (instance == null) {
+                instance = contextual.create(creationalContext);
+                instances.put(contextual, new ScenarioInstance<>(contextual, creationalContext, instance));
+            }
+            return instance;
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Contextual<T> contextual) {
+        checkActive();
+        ScenarioInstance<T> instance = (ScenarioInstance<T>) instances.get(contextual);
+        return instance == null ? null : instance.instance;
+    }
+
+    @Override
+    public void destroy(Contextual<?> contextual) {
+        checkActive();
+        ScenarioInstance<?> instance = instances.remove(contextual);
+        if (instance != null) {
+            instance.destroy();
+        }
+    }
+
+    @Override
+    public boolean isActive() {
+        return active;
+    }
+
+    void activate() {
+        active = true;
+    }
+
+    synchronized void deactivate() {
+        active = false;
+        List<ScenarioInstance<?>> destroyed = new ArrayList<>(instances.values());
+        instances.clear();
+        for (ScenarioInstance<?> instance : destroyed) {
+            instance.destroy();
+        }
+    }
+
+    private void checkActive() {
+        if (!active) {
+            throw new ContextNotActiveException("The " + ScenarioScoped.class.getName() + " context is only active while a scenario is executed");
+        }
+    }
+
+    private static final class ScenarioInstance<T> {
+        private final Contextual<T> contextual;
+        private final CreationalContext<T> creationalContext;
+        private final T instance;
+
+        ScenarioInstance(Contextual<T> contextual, CreationalContext<T> creationalContext, T instance) {
+            this.contextual = contextual;
+            this.creationalContext = creationalContext;
+            this.instance = instance;
+        }
+
+        void destroy() {
+            contextual.destroy(instance, creationalContext);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package io.cucumber.weld;
+
+import javax.enterprise.event.Observes;
+import javax.enterprise.inject.spi.AfterBeanDiscovery;
+import javax.enterprise.inject.spi.Extension;
+
+/**
+ * Registers the {@link ScenarioContext} with a container.
+ */
+final class ScenarioScopeExtension implements Extension {
+
+    private final ScenarioContext context;
+
+    ScenarioScopeExtension(ScenarioContext context) {
+        this.context = context;
+    }
+
+    void afterBeanDiscovery(@Observes AfterBeanDiscovery event) {
+        event.addContext(context);
+    }
+}
@@ -0,0 +1,28 @@
+package io.cucumber.weld;
+
+import org.apiguardian.api.API;
+
+import javax.enterprise.context.NormalScope;
+import java.lang.annotation.Documented;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * Specifies that a bean is scenario scoped. A new instance is created for
+ * each scenario and destroyed when the scenario ends, even when the container
+ * is reused between scenarios.
+ */
+@NormalScope
+@Inherited
+@Documented
+@Target({TYPE, METHOD, FIELD})
+@Retention(RUNTIME)
+@API(status = API.Status.EXPERIMENTAL)
+public @interface ScenarioScoped {
+}
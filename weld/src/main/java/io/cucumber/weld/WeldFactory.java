@@ -4,10 +4,26 @@ import io.cucumber.core.exception.CucumberException;
 import io.cucumber.core.backend.ObjectFactory;
 import io.cucumber.core.logging.Logger;
 import io.cucumber.core.logging.LoggerFactory;
+import io.cucumber.core.options.CucumberProperties;
 import org.apiguardian.api.API;
 import org.jboss.weld.environment.se.Weld;
-import org.jboss.weld.environment.se.WeldContainer;
 
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static io.cucumber.weld.Constants.WELD_CONTAINER_PROPERTY_NAME;
+import static io.cucumber.weld.Constants.WELD_POOL_SIZE_PROPERTY_NAME;
+
+/**
+ * Weld based implementation of ObjectFactory.
+ * <p>
+ * By default a new container is initialized for each scenario. Depending on
+ * {@value Constants#WELD_CONTAINER_PROPERTY_NAME} a single container can be
+ * reused for all scenarios or containers can be initialized in the
+ * background. In all cases {@link ScenarioScoped} beans are created for each
+ * scenario.
+ */
 @API(status = API.Status.STABLE)
 public final class WeldFactory implements ObjectFactory {
 
@@ -29,12 +45,73 @@ public final class WeldFactory implements ObjectFactory {
         "this message, it means your weld container didn't shut down properly. It's a Weld bug\n" +
         "and we can't do much to fix it in Cucumber-JVM.\n";
 
-    private WeldContainer containerInstance;
+    private static final AtomicLong containerIds = new AtomicLong();
+
+    private final ContainerMode containerMode;
+    private final int poolSize;
+    private ContainerPool pool;
+    private ScenarioContainer containerInstance;
+
+    public WeldFactory() {
+        this(CucumberProperties.create());
+    }
+
+    private WeldFactory(Map<String, String> properties) {
+        this(
+            ContainerMode.parse(properties.get(WELD_CONTAINER_PROPERTY_NAME)),
+            parsePoolSize(properties.get(WELD_POOL_SIZE_PROPERTY_NAME))
+        );
+    }
+
+    WeldFactory(ContainerMode containerMode, int poolSize) {
+        this.containerMode = containerMode;
+        this.poolSize = poolSize;
+    }
+
+    private static int parsePoolSize(String poolSize) {
+        if (poolSize == null) {
+            return 1;
+        }
+        try {
+            int size = Integer.parseInt(poolSize);
+            if (size > 0) {
+                return size;
+            }
+        } catch (NumberFormatException ignored) {
+            // Fall through
+        }
+        throw new CucumberException(WELD_POOL_SIZE_PROPERTY_NAME + " must be a positive number, but was " + poolSize);
+    }
 
     @Override
     public void start() {
+        switch (containerMode) {
+            case SUITE:
+                if (containerInstance == null || !containerInstance.isRunning()) {
+                    containerInstance = initialize(newUniqueWeld());
+                }
+                break;
+            case POOL:
+                if (pool == null) {
+                    pool = new ContainerPool(poolSize, () -> initialize(newUniqueWeld()));
+                }
+                containerInstance = pool.take();
+                break;
+            default:
+                containerInstance = initialize(new Weld());
+        }
+        containerInstance.startScenario();
+    }
+
+    private static Weld newUniqueWeld() {
+        // Reused and pooled containers are running alongside other containers.
+        return new Weld("cucumber-weld-" + containerIds.incrementAndGet());
+    }
+
+    private static ScenarioContainer initialize(Weld weld) {
+        ScenarioContext context = new ScenarioContext();
         try {
-            containerInstance = new Weld().initialize();
+            return new ScenarioContainer(weld.addExtension(new ScenarioScopeExtension(context)).initialize(), context);
         } catch (IllegalArgumentException e) {
             throw new CucumberException(START_EXCEPTION_MESSAGE, e);
         }
@@ -44,7 +121,17 @@ public final class WeldFactory implements ObjectFactory {
     public void stop() {
         try {
             if (containerInstance.isRunning()) {
-                containerInstance.close();
+                containerInstance.stopScenario();
+            }
+            switch (containerMode) {
+                case SUITE:
+                    // Closed by the shutdown hook of Weld
+                    break;
+                case POOL:
+                    pool.release(containerInstance);
+                    break;
+                default:
+                    containerInstance.close();
             }
         } catch (NullPointerException npe) {
             log.error(STOP_EXCEPTION_MESSAGE, npe);
@@ -58,7 +145,21 @@ public final class WeldFactory implements ObjectFactory {
 
     @Override
     public <T> T getInstance(Class<T> type) {
-        return containerInstance.select(type).get();
+        return containerInstance.getInstance(type);
     }
 
+    enum ContainerMode {
+        SCENARIO, SUITE, POOL;
+
+        static ContainerMode parse(String containerMode) {
+            if (containerMode == null) {
+                return SCENARIO;
+            }
+            try {
+                return valueOf(containerMode.toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new CucumberException(WELD_CONTAINER_PROPERTY_NAME + " must be one of scenario, suite or pool, but was " + containerMode);
+            }
+        }
+    }
 }
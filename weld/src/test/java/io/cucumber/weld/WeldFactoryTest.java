@@ -5,7 +5,7 @@ import io.cucumber.core.backend.ObjectFactory;
 
 import io.cucumber.core.logging.LogRecordListener;
 import io.cucumber.core.logging.LoggerFactory;
-import org.jboss.weld.environment.se.Weld;
+import io.cucumber.weld.WeldFactory.ContainerMode;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Rule;
@@ -16,7 +16,9 @@ import static org.hamcrest.CoreMatchers.containsString;
 import static org.hamcrest.core.Is.is;
 import static org.hamcrest.core.IsEqual.equalTo;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertThat;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -59,6 +61,56 @@ public class WeldFactoryTest {
         assertNotSame(o1, o2);
     }
 
+    @Test
+    public void shouldReuseContainerWhenContainerIsSuiteScoped() {
+        final ObjectFactory factory = new WeldFactory(ContainerMode.SUITE, 1);
+        factory.addClass(BellyStepdefs.class);
+
+        // Scenario 1
+        factory.start();
+        final BellyStepdefs o1 = factory.getInstance(BellyStepdefs.class);
+        factory.getInstance(ScenarioScopedBelly.class).setCukes(42);
+        factory.stop();
+
+        // Scenario 2
+        factory.start();
+        final BellyStepdefs o2 = factory.getInstance(BellyStepdefs.class);
+        final int cukes = factory.getInstance(ScenarioScopedBelly.class).getCukes();
+        factory.stop();
+
+        assertSame(o1, o2);
+        assertEquals(0, cukes);
+    }
+
+    @Test
+    public void shouldGiveUsNewInstancesForEachScenarioWhenContainersArePooled() {
+        final ObjectFactory factory = new WeldFactory(ContainerMode.POOL, 2);
+        factory.addClass(BellyStepdefs.class);
+
+        // Scenario 1
+        factory.start();
+        final BellyStepdefs o1 = factory.getInstance(BellyStepdefs.class);
+        factory.getInstance(ScenarioScopedBelly.class).setCukes(42);
+        factory.stop();
+
+        // Scenario 2
+        factory.start();
+        final BellyStepdefs o2 = factory.getInstance(BellyStepdefs.class);
+        final int cukes = factory.getInstance(ScenarioScopedBelly.class).getCukes();
+        factory.stop();
+
+        assertNotNull(o1);
+        assertNotSame(o1, o2);
+        assertEquals(0, cukes);
+    }
+
+    @Test
+    public void shouldFailOnUnknownContainerMode() {
+        expectedException.expect(CucumberException.class);
+        expectedException.expectMessage("cucumber.weld.container must be one of scenario, suite or pool, but was feature");
+        ContainerMode.parse("feature");
+    }
+
     @Test
     public void stopCalledWithoutStart() {
         ObjectFactory factory = new WeldFactory();